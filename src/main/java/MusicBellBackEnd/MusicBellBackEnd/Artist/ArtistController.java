@@ -4,10 +4,13 @@ import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistPageResponseDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistRequestDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistResponseDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistSearchDto;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.ResponseCacheService;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -45,10 +48,12 @@ public class ArtistController {
     }
 
     // 아티스트 상세 조회
-    @GetMapping("/{id}")
-    public ResponseEntity<ArtistResponseDto> getArtistById(@PathVariable Long id) {
-        ArtistResponseDto artist = artistService.getArtistById(id);
-        return ResponseEntity.ok(artist);
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getArtistById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return ResponseCacheService.toResponse(artistService.getArtistDetailResponse(id), ifNoneMatch);
     }
 
     // 아티스트 목록 조회 (페이징)
@@ -104,17 +109,20 @@ public class ArtistController {
     }
 
     // 인기 아티스트 TOP 10
-    @GetMapping("/popular")
-    public ResponseEntity<List<ArtistResponseDto>> getPopularArtists() {
-        List<ArtistResponseDto> popularArtists = artistService.getPopularArtists();
-        return ResponseEntity.ok(popularArtists);
+    @GetMapping(value = "/popular", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPopularArtists(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 사전 직렬화된 차트 바이트를 그대로 응답
+        return ResponseCacheService.toResponse(artistService.getPopularArtistsResponse(), ifNoneMatch);
     }
 
     // 최신 등록 아티스트 TOP 10
-    @GetMapping("/latest")
-    public ResponseEntity<List<ArtistResponseDto>> getLatestArtists() {
-        List<ArtistResponseDto> latestArtists = artistService.getLatestArtists();
-        return ResponseEntity.ok(latestArtists);
+    @GetMapping(value = "/latest", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getLatestArtists(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return ResponseCacheService.toResponse(artistService.getLatestArtistsResponse(), ifNoneMatch);
     }
 
     // 아티스트 정보 수정
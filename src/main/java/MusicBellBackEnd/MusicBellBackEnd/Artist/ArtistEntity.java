@@ -79,4 +79,9 @@ public class ArtistEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    // 행 버전 (변경마다 같은 UPDATE에서 +1, ES 외부 버전으로 사용 - 벽시계 시간과 무관하게 단조 증가)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
 }
@@ -0,0 +1,70 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정규화된 아티스트명 -> ID 캐시
+ *
+ * - 업로드 시 이미 알려진 아티스트는 쿼리 없이 ID로 참조만 생성
+ * - 시작 시 전체 적재, 주기적으로 다시 적재하여 다른 인스턴스의 이름 변경 보정
+ * - 삭제는 소프트 삭제라 이름이 계속 점유되므로 매핑을 유지
+ */
+@Slf4j
+@Component
+public class ArtistNameCache {
+
+    // 전체 재적재 시 참조만 교체
+    private volatile Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    /**
+     * 정규화된 이름으로 ID 조회 (없으면 null)
+     */
+    public Long getId(String normalizedName) {
+        return ids.get(normalizedName);
+    }
+
+    public void put(String normalizedName, Long id) {
+        ids.put(normalizedName, id);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 등록 (롤백된 신규 아티스트 ID가 캐시에 남지 않도록)
+     */
+    public void putAfterCommit(String normalizedName, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(normalizedName, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(normalizedName, id);
+            }
+        });
+    }
+
+    /**
+     * 이름 매핑 제거 (이름 변경 시)
+     */
+    public void evict(String normalizedName) {
+        ids.remove(normalizedName);
+    }
+
+    /**
+     * 전체 매핑 교체
+     */
+    public void replaceAll(Map<String, Long> loaded) {
+        ids = new ConcurrentHashMap<>(loaded);
+        log.info("아티스트명 캐시 적재 완료: size={}", loaded.size());
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,46 @@ public interface ArtistRepository extends JpaRepository<ArtistEntity, Long> {
     // 이름으로 정확히 찾기 (대소문자 무시)
     Optional<ArtistEntity> findByNameIgnoreCase(String name);
     
+    // 이름 목록으로 한 번에 찾기 (대량 업로드용, 이름은 소문자로 전달)
+    @Query("SELECT a FROM ArtistEntity a WHERE LOWER(a.name) IN :names")
+    List<ArtistEntity> findByLowerNameIn(@Param("names") Collection<String> names);
+    
+    // 이름 캐시/유사도 인덱스 적재용 (id, name, isActive)
+    @Query("SELECT a.id, a.name, a.isActive FROM ArtistEntity a")
+    List<Object[]> findAllIdNameAndActive();
+    
+    // 자동완성 인덱스 적재용 (id, name, followerCount, totalPlayCount, totalLikeCount)
+    @Query("SELECT a.id, a.name, a.followerCount, a.totalPlayCount, a.totalLikeCount FROM ArtistEntity a WHERE a.isActive = true")
+    List<Object[]> findActiveAutocompleteRows();
+    
+    // ES 통계 부분 업데이트용 (id, followerCount, totalPlayCount, totalLikeCount, version - 문서 버전 비교용)
+    @Query("SELECT a.id, a.followerCount, a.totalPlayCount, a.totalLikeCount, a.version FROM ArtistEntity a WHERE a.id IN :ids")
+    List<Object[]> findStatsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 이름이 없을 때만 생성 (동시 생성 시 유니크 제약 위반 대신 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO artists " +
+            "(name, is_verified, is_active, follower_count, total_play_count, total_like_count, created_at, updated_at, version) " +
+            "VALUES (:name, false, true, 0, 0, 0, NOW(6), NOW(6), 0)", nativeQuery = true)
+    int insertIgnore(@Param("name") String name);
+    
+    // 같은 커넥션에서 마지막으로 생성된 ID
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long lastInsertId();
+    
+    // 잠금 읽기로 ID 조회 (다른 트랜잭션이 방금 커밋한 행도 보이도록)
+    @Query(value = "SELECT id FROM artists WHERE name = :name LOCK IN SHARE MODE", nativeQuery = true)
+    Optional<Long> findIdByNameForShare(@Param("name") String name);
+    
+    // 재색인 키셋 페이지네이션 (id 구간 분할 병렬 조회용)
+    Optional<ArtistEntity> findTopByOrderByIdAsc();
+    
+    Optional<ArtistEntity> findTopByOrderByIdDesc();
+    
+    List<ArtistEntity> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long afterId, Long upperId, Pageable pageable);
+    
+    List<ArtistEntity> findByIdGreaterThanAndIdLessThanEqualAndIsActiveTrueOrderByIdAsc(Long afterId, Long upperId, Pageable pageable);
+    
     // 이름으로 검색 (LIKE, 대소문자 무시)
     List<ArtistEntity> findByNameContainingIgnoreCase(String name);
     
@@ -40,22 +81,22 @@ public interface ArtistRepository extends JpaRepository<ArtistEntity, Long> {
     
     // 팔로워 수 증가
     @Modifying
-    @Query("UPDATE ArtistEntity a SET a.followerCount = a.followerCount + 1 WHERE a.id = :id")
+    @Query("UPDATE ArtistEntity a SET a.followerCount = a.followerCount + 1, a.version = a.version + 1 WHERE a.id = :id")
     void incrementFollowerCount(@Param("id") Long id);
     
     // 팔로워 수 감소
     @Modifying
-    @Query("UPDATE ArtistEntity a SET a.followerCount = a.followerCount - 1 WHERE a.id = :id AND a.followerCount > 0")
+    @Query("UPDATE ArtistEntity a SET a.followerCount = a.followerCount - 1, a.version = a.version + 1 WHERE a.id = :id AND a.followerCount > 0")
     void decrementFollowerCount(@Param("id") Long id);
     
     // 총 재생수 업데이트
     @Modifying
-    @Query("UPDATE ArtistEntity a SET a.totalPlayCount = a.totalPlayCount + :count WHERE a.id = :id")
+    @Query("UPDATE ArtistEntity a SET a.totalPlayCount = a.totalPlayCount + :count, a.version = a.version + 1 WHERE a.id = :id")
     void updateTotalPlayCount(@Param("id") Long id, @Param("count") Long count);
     
     // 총 좋아요 수 업데이트
     @Modifying
-    @Query("UPDATE ArtistEntity a SET a.totalLikeCount = a.totalLikeCount + :count WHERE a.id = :id")
+    @Query("UPDATE ArtistEntity a SET a.totalLikeCount = a.totalLikeCount + :count, a.version = a.version + 1 WHERE a.id = :id")
     void updateTotalLikeCount(@Param("id") Long id, @Param("count") Long count);
     
     // 아티스트 검색 (복합 검색)
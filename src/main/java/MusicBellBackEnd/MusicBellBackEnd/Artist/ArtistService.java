@@ -5,19 +5,35 @@ import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistRequestDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistResponseDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.Dto.ArtistSearchDto;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistSyncService;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.CachedResponse;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.ResponseCacheService;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ElasticSearchProducerService;
+import MusicBellBackEnd.MusicBellBackEnd.Redis.ChartCacheService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,6 +45,33 @@ public class ArtistService {
     private final ArtistRepository artistRepository;
     private final ArtistSyncService artistSyncService;
     private final ElasticSearchProducerService elasticSearchProducerService;
+    private final ChartCacheService chartCacheService;
+    private final ResponseCacheService responseCacheService;
+    private final ArtistNameCache artistNameCache;
+    private final ArtistTrigramIndex artistTrigramIndex;
+    private final ArtistStatsAggregator artistStatsAggregator;
+    private final ArtistStatsBatchRepository artistStatsBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 인기/최신 차트 설정
+    private static final String POPULAR_ARTIST_CHART = "artist:popular";
+    private static final String LATEST_ARTIST_CHART = "artist:latest";
+    private static final int CHART_SIZE = 10;
+    private static final Comparator<ArtistResponseDto> LATEST_ORDER = Comparator.comparing(
+            ArtistResponseDto::getId, Comparator.reverseOrder());
+
+    // 상세 응답 캐시 (다른 인스턴스에서의 수정은 TTL로 보정)
+    private static final String ARTIST_DETAIL_CACHE_KEY = "artist:detail:";
+    private static final Duration ARTIST_DETAIL_TTL = Duration.ofSeconds(30);
+
+    // 일괄 조회 IN 절 크기
+    private static final int RESOLVE_CHUNK_SIZE = 500;
+    private static final int ARTIST_NAME_MAX_LENGTH = 200;
+
+    // 트라이그램 유사도 기준
+    private static final double SIMILAR_ARTIST_THRESHOLD = 0.3;
+    private static final double NEAR_DUPLICATE_THRESHOLD = 0.6;
+    private static final int NEAR_DUPLICATE_LIMIT = 3;
     
     /**
      * 아티스트명으로 찾기 또는 새로 생성
@@ -41,53 +84,119 @@ public class ArtistService {
         }
         
         String trimmedName = artistName.trim();
+        if (trimmedName.length() > ARTIST_NAME_MAX_LENGTH) {
+            throw new GlobalException("아티스트명은 " + ARTIST_NAME_MAX_LENGTH + "자 이하여야 합니다.", "ARTIST_NAME_TOO_LONG", HttpStatus.BAD_REQUEST);
+        }
+        String normalizedName = normalizeName(trimmedName);
         
-        // 1. 정확히 일치하는 아티스트 찾기
-        Optional<ArtistEntity> existingArtist = artistRepository.findByNameIgnoreCase(trimmedName);
-        if (existingArtist.isPresent()) {
-            log.debug("기존 아티스트 발견: {}", trimmedName);
-            return existingArtist.get();
+        // 1. 캐시 적중 시 쿼리 없이 참조만 반환
+        Long cachedId = artistNameCache.getId(normalizedName);
+        if (cachedId != null) {
+            return artistRepository.getReferenceById(cachedId);
         }
         
-        // 2. 유사한 이름의 아티스트 체크 (오타 방지)
-        List<ArtistEntity> similarArtists = artistRepository.findByNameContainingIgnoreCase(trimmedName);
-        if (!similarArtists.isEmpty()) {
-            // 정확히 일치하는 것이 있는지 다시 한번 체크
-            for (ArtistEntity similar : similarArtists) {
-                if (similar.getName().equalsIgnoreCase(trimmedName)) {
-                    log.debug("유사 검색에서 정확한 매치 발견: {}", trimmedName);
-                    return similar;
-                }
-            }
-            
-            // TODO: 나중에 유사도 계산 로직 추가 가능
-            log.info("유사한 아티스트 발견되었지만 정확한 매치 없음: {} (유사: {})", 
-                    trimmedName, similarArtists.get(0).getName());
+        // 2. DB 수준 insert-or-get (동시 생성 시 한쪽은 무시되고 기존 행을 읽음)
+        boolean created = artistRepository.insertIgnore(trimmedName) == 1;
+        Long artistId = created
+                ? artistRepository.lastInsertId()
+                : artistRepository.findIdByNameForShare(trimmedName)
+                        .orElseThrow(() -> new GlobalException("아티스트 조회/생성에 실패했습니다.", "ARTIST_RESOLVE_FAILED", HttpStatus.INTERNAL_SERVER_ERROR));
+        artistNameCache.putAfterCommit(normalizedName, artistId);
+        
+        if (!created) {
+            log.debug("기존 아티스트 발견: {}", trimmedName);
+            return artistRepository.getReferenceById(artistId);
         }
         
-        // 3. 새 아티스트 생성
-        ArtistEntity newArtist = ArtistEntity.builder()
-                .name(trimmedName)
-                .isVerified(false)
-                .isActive(true)
-                .followerCount(0L)
-                .totalPlayCount(0L)
-                .totalLikeCount(0L)
-                .build();
-                
-        ArtistEntity savedArtist = artistRepository.save(newArtist);
-        log.info("새 아티스트 생성: {} (ID: {})", trimmedName, savedArtist.getId());
+        // 3. 새로 생성된 경우에만 차트/ES 반영
+        ArtistEntity savedArtist = artistRepository.findById(artistId)
+                .orElseThrow(() -> new GlobalException("아티스트를 찾을 수 없습니다.", "ARTIST_NOT_FOUND", HttpStatus.NOT_FOUND));
+        log.info("새 아티스트 생성: {} (ID: {})", trimmedName, artistId);
+        flagNearDuplicateArtists(artistId, trimmedName);
+        artistTrigramIndex.putAfterCommit(artistId, trimmedName);
+        addToLatestArtistChart(savedArtist);
 
         //추후 Kafka처리
         try {
-            elasticSearchProducerService.sendSyncEvent(savedArtist.getId());
+            elasticSearchProducerService.sendSyncEvent(artistId);
         } catch(GlobalException e){
-            log.warn("findOrCreateArtist함수 아티스트 통계 ES 동기화 실패: artistId={}, error={}", savedArtist.getId(), e.getMessage());
+            log.warn("findOrCreateArtist함수 아티스트 통계 ES 동기화 실패: artistId={}, error={}", artistId, e.getMessage());
         }
         
         return savedArtist;
     }
     
+    /**
+     * 아티스트명 목록을 한 번에 조회/생성 (대량 업로드용)
+     * 캐시에 없는 이름만 청크 단위 IN 조회로 가져오고, DB에도 없는 이름만 개별 생성
+     *
+     * @return 정규화된 이름(trim + 소문자) -> 아티스트
+     */
+    @Transactional
+    public Map<String, ArtistEntity> resolveArtists(Collection<String> artistNames) {
+        // 정규화 키 -> 최초 등장한 원본 이름 (생성 시 표기 유지)
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String name : artistNames) {
+            if (name != null && !name.trim().isEmpty()) {
+                requested.putIfAbsent(normalizeName(name), name.trim());
+            }
+        }
+
+        Map<String, ArtistEntity> resolved = new HashMap<>(requested.size() * 2);
+        List<String> keys = new ArrayList<>();
+        for (String key : requested.keySet()) {
+            Long cachedId = artistNameCache.getId(key);
+            if (cachedId != null) {
+                resolved.put(key, artistRepository.getReferenceById(cachedId));
+            } else {
+                keys.add(key);
+            }
+        }
+        for (int from = 0; from < keys.size(); from += RESOLVE_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + RESOLVE_CHUNK_SIZE, keys.size()));
+            for (ArtistEntity artist : artistRepository.findByLowerNameIn(chunk)) {
+                String key = normalizeName(artist.getName());
+                resolved.put(key, artist);
+                artistNameCache.put(key, artist.getId());
+            }
+        }
+
+        int created = 0;
+        for (Map.Entry<String, String> entry : requested.entrySet()) {
+            if (!resolved.containsKey(entry.getKey())) {
+                resolved.put(entry.getKey(), findOrCreateArtist(entry.getValue()));
+                created++;
+            }
+        }
+
+        log.info("아티스트 일괄 조회 완료: 요청={}, 신규={}", requested.size(), created);
+        return resolved;
+    }
+
+    /**
+     * 새로 생성된 아티스트명과 매우 유사한 기존 아티스트가 있으면 경고 (오타/표기 차이 중복 의심)
+     */
+    private void flagNearDuplicateArtists(Long artistId, String artistName) {
+        List<ArtistTrigramIndex.Match> nearDuplicates = artistTrigramIndex
+                .findSimilar(artistName, NEAR_DUPLICATE_LIMIT + 1, NEAR_DUPLICATE_THRESHOLD).stream()
+                .filter(match -> !match.id().equals(artistId))
+                .limit(NEAR_DUPLICATE_LIMIT)
+                .toList();
+        if (!nearDuplicates.isEmpty()) {
+            log.warn("중복 의심 아티스트 생성: {} (ID: {}), 유사: {}", artistName, artistId,
+                    nearDuplicates.stream()
+                            .map(match -> String.format("%s(ID: %d, %.2f)", match.name(), match.id(), match.similarity()))
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * 아티스트명 정규화 (앞뒤 공백 제거 + 소문자)
+     */
+    public static String normalizeName(String artistName) {
+        return artistName.trim().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 유사한 아티스트명 찾기 (자동완성용)
      */
@@ -99,41 +208,74 @@ public class ArtistService {
             throw new GlobalException("결과 제한은 1-50 사이여야 합니다.", "INVALID_LIMIT", HttpStatus.BAD_REQUEST);
         }
         
-        List<ArtistEntity> similar = artistRepository.findByNameContainingIgnoreCase(partialName.trim());
-        return similar.stream()
-                .filter(ArtistEntity::getIsActive)
-                .limit(limit)
+        // 유사도 순위는 인덱스에서 계산하고, DB는 상위 limit개만 PK로 조회
+        List<Long> rankedIds = artistTrigramIndex.findSimilar(partialName.trim(), limit, SIMILAR_ARTIST_THRESHOLD).stream()
+                .map(ArtistTrigramIndex.Match::id)
+                .toList();
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArtistEntity> byId = artistRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(ArtistEntity::getId, artist -> artist));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(artist -> artist != null && Boolean.TRUE.equals(artist.getIsActive()))
                 .toList();
     }
     
     /**
      * 아티스트 통계 업데이트 (음악 재생/좋아요 시 호출)
+     * 즉시 반영하지 않고 커밋 후 버퍼에 누적 → flushArtistStats 주기마다 일괄 반영
      */
-    @Transactional
     public void updateArtistStats(Long artistId, Long playCountDelta, Long likeCountDelta) {
         if (artistId == null) {
             throw new GlobalException("아티스트 ID는 필수입니다.", "ARTIST_ID_REQUIRED", HttpStatus.BAD_REQUEST);
         }
-        
-        // 아티스트 존재 여부 확인
-        if (!artistRepository.existsById(artistId)) {
-            throw new GlobalException("존재하지 않는 아티스트입니다.", "ARTIST_NOT_FOUND", HttpStatus.NOT_FOUND);
-        }
-        
-        if (playCountDelta != null && playCountDelta != 0) {
-            artistRepository.updateTotalPlayCount(artistId, playCountDelta);
-        }
-        if (likeCountDelta != null && likeCountDelta != 0) {
-            artistRepository.updateTotalLikeCount(artistId, likeCountDelta);
+        artistStatsAggregator.addAfterCommit(artistId,
+                playCountDelta != null ? playCountDelta : 0L,
+                likeCountDelta != null ? likeCountDelta : 0L);
+    }
+
+    /**
+     * 누적된 아티스트 통계 증감을 한 번의 배치 UPDATE로 반영하고 아티스트당 한 건의 stats 이벤트 전송
+     * 인기 아티스트 행에 재생/좋아요마다 UPDATE가 몰리지 않도록 윈도우 단위로 합산
+     * 카운터 UPDATE와 outbox 기록은 한 트랜잭션 (중간에 죽어도 ES 이벤트 누락 없음)
+     */
+    @Scheduled(fixedDelayString = "${musicbell.artist.stats-flush-ms:2000}")
+    @PreDestroy
+    public void flushArtistStats() {
+        Map<Long, ArtistStatsAggregator.StatsDelta> deltas = artistStatsAggregator.drain();
+        if (deltas.isEmpty()) {
+            return;
         }
-        
-        // ElasticSearch 동기화 (통계 업데이트 후) Kafka활용
+
+        List<Long> updatedIds;
         try {
-            elasticSearchProducerService.sendSyncEvent(artistId);
+            updatedIds = transactionTemplate.execute(status -> {
+                List<Long> updated = artistStatsBatchRepository.applyDeltas(deltas);
+                elasticSearchProducerService.sendStatsEvents(updated);
+                return updated;
+            });
         } catch (Exception e) {
-            log.warn("아티스트 통계 ES 동기화 실패: artistId={}, error={}", artistId, e.getMessage());
-            // ES 동기화 실패해도 메인 로직은 계속 진행
+            // 다음 주기에 재시도
+            artistStatsAggregator.restore(deltas);
+            log.warn("아티스트 통계 일괄 반영 실패: artists={}, error={}", deltas.size(), e.getMessage());
+            return;
         }
+        if (updatedIds.size() < deltas.size()) {
+            log.warn("존재하지 않는 아티스트 통계 생략: {}", deltas.keySet().stream().filter(id -> !updatedIds.contains(id)).toList());
+        }
+
+        onArtistStatsApplied(updatedIds);
+        log.debug("아티스트 통계 일괄 반영: {}명", updatedIds.size());
+    }
+
+    /**
+     * DB에 통계가 커밋된 아티스트의 상세 캐시 제거
+     * (ES stats 이벤트는 카운터 UPDATE와 같은 트랜잭션에서 outbox에 기록됨 - 주기 flush, PlayAggregateApplier)
+     */
+    public void onArtistStatsApplied(List<Long> updatedIds) {
+        updatedIds.forEach(this::evictArtistDetail);
     }
     
     /**
@@ -187,7 +329,10 @@ public class ArtistService {
                 .build();
 
         ArtistEntity savedArtist = artistRepository.save(artistEntity);
+        artistNameCache.putAfterCommit(normalizeName(savedArtist.getName()), savedArtist.getId());
+        artistTrigramIndex.putAfterCommit(savedArtist.getId(), savedArtist.getName());
         log.info("아티스트 생성 완료: {} (ID: {})", savedArtist.getName(), savedArtist.getId());
+        addToLatestArtistChart(savedArtist);
 
         // ES 동기화 Kafka활용
         try {
@@ -210,6 +355,19 @@ public class ArtistService {
         return convertToResponseDto(artist);
     }
 
+    /**
+     * 아티스트 상세 조회 (직렬화된 응답 캐시 사용)
+     */
+    public CachedResponse getArtistDetailResponse(Long id) {
+        return responseCacheService.getOrCompute(ARTIST_DETAIL_CACHE_KEY + id, ARTIST_DETAIL_TTL,
+                () -> getArtistById(id));
+    }
+
+    // 아티스트 정보가 바뀌는 모든 경로에서 호출
+    private void evictArtistDetail(Long id) {
+        responseCacheService.evict(ARTIST_DETAIL_CACHE_KEY + id);
+    }
+
     /**
      * 아티스트 목록 조회 (페이징)
      */
@@ -293,8 +451,18 @@ public class ArtistService {
             throw new GlobalException("이미 등록된 아티스트명입니다: " + requestDto.getName(), "ARTIST_NAME_DUPLICATE", HttpStatus.CONFLICT);
         }
         // 업데이트
+        String previousName = artist.getName();
         updateArtistEntity(artist, requestDto);
         ArtistEntity savedArtist = artistRepository.save(artist);
+        if (!previousName.equals(savedArtist.getName())) {
+            artistNameCache.evict(normalizeName(previousName));
+            artistNameCache.putAfterCommit(normalizeName(savedArtist.getName()), id);
+            if (Boolean.TRUE.equals(savedArtist.getIsActive())) {
+                artistTrigramIndex.putAfterCommit(id, savedArtist.getName());
+            }
+        }
+        evictArtistDetail(id);
+        chartCacheService.runAfterCommit(() -> refreshArtistChartsContaining(id));
         // ES 동기화 Kafka활용
         try {
             elasticSearchProducerService.sendSyncEvent(id);
@@ -316,6 +484,14 @@ public class ArtistService {
 
         artist.setIsActive(isActive);
         artistRepository.save(artist);
+        if (isActive) {
+            artistTrigramIndex.putAfterCommit(id, artist.getName());
+        } else {
+            artistTrigramIndex.remove(id);
+        }
+        evictArtistDetail(id);
+        // 활성화되는 경우 차트 편입 여부를 알 수 없으므로 커밋 후 전체 재계산
+        chartCacheService.runAfterCommit(this::refreshArtistCharts);
 
         log.info("아티스트 ID {} 상태 변경: {}", id, isActive ? "활성화" : "비활성화");
         return isActive;
@@ -331,6 +507,8 @@ public class ArtistService {
 
         artist.setIsVerified(isVerified);
         artistRepository.save(artist);
+        evictArtistDetail(id);
+        chartCacheService.runAfterCommit(() -> refreshArtistChartsContaining(id));
 
         log.info("아티스트 ID {} 인증 상태 변경: {}", id, isVerified ? "인증" : "인증 해제");
         return isVerified;
@@ -346,6 +524,9 @@ public class ArtistService {
 
         artist.setIsActive(false);
         artistRepository.save(artist);
+        artistTrigramIndex.remove(id);
+        evictArtistDetail(id);
+        chartCacheService.runAfterCommit(() -> refreshArtistChartsContaining(id));
         //ES 삭제 Kafka활용
         try{
             elasticSearchProducerService.sendDeleteEvent(id);
@@ -378,10 +559,8 @@ public class ArtistService {
      */
     public List<ArtistResponseDto> getPopularArtists() {
         try {
-            List<ArtistEntity> popularArtists = artistRepository.findTop10ByIsActiveTrueOrderByFollowerCountDesc();
-            return popularArtists.stream()
-                    .map(this::convertToResponseDto)
-                    .collect(Collectors.toList());
+            List<ArtistResponseDto> cached = chartCacheService.getItems(POPULAR_ARTIST_CHART);
+            return cached != null ? cached : refreshPopularArtistChart();
         } catch (Exception e) {
             log.error("인기 아티스트 조회 중 오류 발생: {}", e.getMessage());
             throw new GlobalException("인기 아티스트 조회에 실패했습니다.", "POPULAR_ARTISTS_FAILED", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -393,16 +572,127 @@ public class ArtistService {
      */
     public List<ArtistResponseDto> getLatestArtists() {
         try {
-            List<ArtistEntity> latestArtists = artistRepository.findTop10ByIsActiveTrueOrderByCreatedAtDesc();
-            return latestArtists.stream()
-                    .map(this::convertToResponseDto)
-                    .collect(Collectors.toList());
+            List<ArtistResponseDto> cached = chartCacheService.getItems(LATEST_ARTIST_CHART);
+            return cached != null ? cached : refreshLatestArtistChart();
         } catch (Exception e) {
             log.error("최신 아티스트 조회 중 오류 발생: {}", e.getMessage());
             throw new GlobalException("최신 아티스트 조회에 실패했습니다.", "LATEST_ARTISTS_FAILED", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 인기 아티스트 조회 (직렬화된 응답 + ETag)
+     */
+    public CachedResponse getPopularArtistsResponse() {
+        if (chartCacheService.getResponse(POPULAR_ARTIST_CHART) == null) {
+            getPopularArtists();
+        }
+        return chartCacheService.getResponse(POPULAR_ARTIST_CHART);
+    }
+
+    /**
+     * 최신 아티스트 조회 (직렬화된 응답 + ETag)
+     */
+    public CachedResponse getLatestArtistsResponse() {
+        if (chartCacheService.getResponse(LATEST_ARTIST_CHART) == null) {
+            getLatestArtists();
+        }
+        return chartCacheService.getResponse(LATEST_ARTIST_CHART);
+    }
+
+    // === 아티스트명 캐시 ===
+
+    /**
+     * 애플리케이션 시작 시 아티스트명 캐시/유사도 인덱스 적재, 이후 주기적으로 재적재 (다른 인스턴스의 변경 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${musicbell.artist.name-cache-refresh-ms:600000}",
+            initialDelayString = "${musicbell.artist.name-cache-refresh-ms:600000}")
+    public void warmUpArtistNameCache() {
+        try {
+            List<Object[]> rows = artistRepository.findAllIdNameAndActive();
+            Map<String, Long> loaded = new HashMap<>(rows.size() * 2);
+            Map<Long, String> activeNames = new HashMap<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                String name = (String) row[1];
+                loaded.put(normalizeName(name), id);
+                if (Boolean.TRUE.equals(row[2])) {
+                    activeNames.put(id, name);
+                }
+            }
+            artistNameCache.replaceAll(loaded);
+            artistTrigramIndex.rebuild(activeNames);
+        } catch (Exception e) {
+            log.warn("아티스트명 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // === 차트 갱신 ===
+
+    /**
+     * 애플리케이션 시작 시 Redis에서 차트 복원 (없으면 DB에서 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpArtistCharts() {
+        try {
+            if (!chartCacheService.restore(POPULAR_ARTIST_CHART, ArtistResponseDto.class)) {
+                refreshPopularArtistChart();
+            }
+            if (!chartCacheService.restore(LATEST_ARTIST_CHART, ArtistResponseDto.class)) {
+                refreshLatestArtistChart();
+            }
+        } catch (Exception e) {
+            log.warn("아티스트 차트 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (증분 갱신으로 놓친 변경 보정)
+     */
+    @Scheduled(fixedDelayString = "${musicbell.chart.refresh-interval-ms:300000}",
+            initialDelayString = "${musicbell.chart.refresh-interval-ms:300000}")
+    public void refreshArtistCharts() {
+        try {
+            refreshPopularArtistChart();
+            refreshLatestArtistChart();
+        } catch (Exception e) {
+            log.warn("아티스트 차트 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<ArtistResponseDto> refreshPopularArtistChart() {
+        List<ArtistResponseDto> popular = artistRepository.findTop10ByIsActiveTrueOrderByFollowerCountDesc().stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+        chartCacheService.publish(POPULAR_ARTIST_CHART, popular);
+        return popular;
+    }
+
+    private List<ArtistResponseDto> refreshLatestArtistChart() {
+        List<ArtistResponseDto> latest = artistRepository.findTop10ByIsActiveTrueOrderByCreatedAtDesc().stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+        chartCacheService.publish(LATEST_ARTIST_CHART, latest);
+        return latest;
+    }
+
+    // 새 아티스트는 커밋 후 최신 차트 맨 앞에 반영
+    private void addToLatestArtistChart(ArtistEntity artist) {
+        chartCacheService.upsertRankedAfterCommit(LATEST_ARTIST_CHART, convertToResponseDto(artist),
+                ArtistResponseDto::getId, LATEST_ORDER, CHART_SIZE);
+    }
+
+    // 수정/삭제된 아티스트가 차트에 있으면 해당 차트만 재계산 (커밋 후 호출)
+    private void refreshArtistChartsContaining(Long artistId) {
+        if (chartCacheService.contains(POPULAR_ARTIST_CHART, (ArtistResponseDto a) -> artistId.equals(a.getId()))) {
+            refreshPopularArtistChart();
+        }
+        if (chartCacheService.contains(LATEST_ARTIST_CHART, (ArtistResponseDto a) -> artistId.equals(a.getId()))) {
+            refreshLatestArtistChart();
+        }
+    }
+
     // === 변환 메소드들 ===
 
     private ArtistResponseDto convertToResponseDto(ArtistEntity entity) {
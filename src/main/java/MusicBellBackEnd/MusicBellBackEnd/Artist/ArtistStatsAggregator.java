@@ -0,0 +1,87 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아티스트 통계(재생/좋아요 수) 증감 버퍼
+ *
+ * - 재생/좋아요마다 아티스트 행을 UPDATE하지 않고 메모리에서 아티스트별로 합산
+ * - 주기적으로 drain하여 한 번의 배치 UPDATE와 아티스트당 한 건의 이벤트로 반영
+ * - 키별 merge/remove가 원자적이라 drain 중에 들어온 증감은 다음 주기로 넘어감
+ */
+@Component
+public class ArtistStatsAggregator {
+
+    private final Map<Long, StatsDelta> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 증감 누적 (0이거나 null이면 무시)
+     */
+    public void add(Long artistId, long playDelta, long likeDelta) {
+        if (artistId == null || (playDelta == 0 && likeDelta == 0)) {
+            return;
+        }
+        pending.merge(artistId, new StatsDelta(playDelta, likeDelta), StatsDelta::plus);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 누적 (롤백된 재생/좋아요가 반영되지 않도록)
+     */
+    public void addAfterCommit(Long artistId, long playDelta, long likeDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(artistId, playDelta, likeDelta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(artistId, playDelta, likeDelta);
+            }
+        });
+    }
+
+    /**
+     * 누적된 증감을 꺼내고 비움 (id 오름차순 - 인스턴스 간 행 잠금 순서를 맞춰 데드락 방지)
+     */
+    public Map<Long, StatsDelta> drain() {
+        Map<Long, StatsDelta> drained = new TreeMap<>();
+        for (Long artistId : pending.keySet()) {
+            StatsDelta delta = pending.remove(artistId);
+            if (delta != null && !delta.isZero()) {
+                drained.put(artistId, delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영 실패한 증감을 되돌려 놓음 (다음 주기에 재시도)
+     */
+    public void restore(Map<Long, StatsDelta> deltas) {
+        deltas.forEach((artistId, delta) -> pending.merge(artistId, delta, StatsDelta::plus));
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 아티스트별 재생/좋아요 증감
+     */
+    public record StatsDelta(long plays, long likes) {
+
+        public StatsDelta plus(StatsDelta other) {
+            return new StatsDelta(plays + other.plays, likes + other.likes);
+        }
+
+        public boolean isZero() {
+            return plays == 0 && likes == 0;
+        }
+    }
+}
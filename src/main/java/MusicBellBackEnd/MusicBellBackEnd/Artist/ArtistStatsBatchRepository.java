@@ -0,0 +1,49 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아티스트 통계 증감 일괄 반영 (JDBC batch UPDATE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArtistStatsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPDATE_SQL = "UPDATE artists SET "
+            + "total_play_count = total_play_count + ?, total_like_count = total_like_count + ?, updated_at = NOW(6), version = version + 1 "
+            + "WHERE id = ?";
+
+    /**
+     * 아티스트별 증감을 한 트랜잭션의 배치 UPDATE로 반영 (전달된 순서대로 실행)
+     *
+     * @return 실제로 갱신된 아티스트 ID 목록 (DB에 없는 아티스트 제외)
+     */
+    @Transactional
+    public List<Long> applyDeltas(Map<Long, ArtistStatsAggregator.StatsDelta> deltas) {
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        List<Object[]> params = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ArtistStatsAggregator.StatsDelta delta = deltas.get(id);
+            params.add(new Object[]{delta.plays(), delta.likes(), id});
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, params);
+        List<Long> updated = new ArrayList<>(ids.size());
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 반환
+            if (counts[i] != 0) {
+                updated.add(ids.get(i));
+            }
+        }
+        return updated;
+    }
+}
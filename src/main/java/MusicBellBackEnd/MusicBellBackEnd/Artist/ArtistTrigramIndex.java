@@ -0,0 +1,154 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 아티스트명 트라이그램 인덱스 (유사 아티스트 검색/중복 의심 감지용)
+ *
+ * - 이름을 소문자 + 앞뒤 공백 패딩 후 3글자 단위로 쪼개 트라이그램 -> 아티스트 ID 역색인 유지
+ * - 유사도는 공통 트라이그램 기반 Dice 계수 (2 * 공통 / (질의 + 대상))
+ * - 생성/이름 변경/삭제 시 해당 아티스트만 증분 갱신
+ */
+@Slf4j
+@Component
+public class ArtistTrigramIndex {
+
+    // 트라이그램 -> 아티스트 ID 목록
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 아티스트 ID -> 색인된 이름
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 아티스트 색인 (이미 있으면 이름 교체)
+     */
+    public synchronized void put(Long id, String name) {
+        remove(id);
+        Set<String> trigrams = trigrams(name);
+        entries.put(id, new Entry(id, name, trigrams.size()));
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 색인 (롤백된 아티스트가 검색되지 않도록)
+     */
+    public void putAfterCommit(Long id, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(id, name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(id, name);
+            }
+        });
+    }
+
+    /**
+     * 아티스트 색인 제거 (삭제/비활성화 시)
+     */
+    public synchronized void remove(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String trigram : trigrams(previous.name())) {
+            Set<Long> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 재색인
+     */
+    public synchronized void rebuild(Map<Long, String> names) {
+        entries.clear();
+        postings.clear();
+        names.forEach(this::put);
+        log.info("아티스트 트라이그램 인덱스 재구성 완료: artists={}, trigrams={}", entries.size(), postings.size());
+    }
+
+    /**
+     * 유사도 순 상위 limit개 검색
+     *
+     * @param minSimilarity 최소 유사도 (0.0 ~ 1.0)
+     */
+    public List<Match> findSimilar(String query, int limit, double minSimilarity) {
+        Set<String> queryTrigrams = trigrams(query);
+        if (queryTrigrams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 아티스트별 공통 트라이그램 개수
+        Map<Long, Integer> common = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<Long> ids = postings.get(trigram);
+            if (ids != null) {
+                for (Long id : ids) {
+                    common.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        common.forEach((id, count) -> {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return;
+            }
+            double similarity = 2.0 * count / (queryTrigrams.size() + entry.trigramCount());
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(id, entry.name(), similarity));
+            }
+        });
+
+        matches.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static Set<String> trigrams(String name) {
+        if (name == null || name.isBlank()) {
+            return Collections.emptySet();
+        }
+        String padded = " " + name.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ") + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        int[] codePoints = padded.codePoints().toArray();
+        for (int i = 0; i + 3 <= codePoints.length; i++) {
+            trigrams.add(new String(codePoints, i, 3));
+        }
+        return trigrams;
+    }
+
+    private record Entry(Long id, String name, int trigramCount) {
+    }
+
+    /**
+     * 검색 결과 (아티스트 ID, 이름, 유사도)
+     */
+    public record Match(Long id, String name, double similarity) {
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
@@ -14,12 +15,16 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "artists")
+// DB 행 버전(ArtistEntity.version) 기반 외부 버전: 같은 상태의 재색인은 허용, 더 오래된 상태의 쓰기는 409로 거부
+@Document(indexName = "artists", versionType = Document.VersionType.EXTERNAL_GTE)
 public class ArtistDocument {
 
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     // 기본 아티스트 정보
     @Field(type = FieldType.Text, analyzer = "standard")
     private String name; // 아티스트명 (검색의 핵심)
@@ -123,7 +128,11 @@ public class ArtistDocument {
         long plays = totalPlayCount != null ? totalPlayCount : 0;
         long likes = totalLikeCount != null ? totalLikeCount : 0;
 
-        // 팔로워(50%), 재생수(30%), 좋아요(20%) 가중치
-        this.popularityScore = (float) ((followers * 0.5) + (plays * 0.0003) + (likes * 0.2));
+        this.popularityScore = popularityOf(followers, plays, likes);
+    }
+
+    // 팔로워(50%), 재생수(30%), 좋아요(20%) 가중치 (자동완성 인덱스와 공유)
+    public static float popularityOf(long followers, long plays, long likes) {
+        return (float) ((followers * 0.5) + (plays * 0.0003) + (likes * 0.2));
     }
 }
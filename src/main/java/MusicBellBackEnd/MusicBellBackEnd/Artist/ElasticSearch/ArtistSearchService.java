@@ -15,6 +15,8 @@ import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import MusicBellBackEnd.MusicBellBackEnd.Autocomplete.AutocompleteService;
+import MusicBellBackEnd.MusicBellBackEnd.Autocomplete.AutocompleteTrie;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 
 import java.util.ArrayList;
@@ -27,6 +29,7 @@ import java.util.stream.Collectors;
 public class ArtistSearchService {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
+    private final AutocompleteService autocompleteService;
 
     /**
      * 🎯 스마트 아티스트 검색 (페이지네이션 지원)
@@ -324,6 +327,7 @@ public class ArtistSearchService {
 
     /**
      * 🔍 아티스트명 자동완성
+     * 인프로세스 인덱스(초성/자모 지원)로 응답하고, 인덱스 구성 전에만 ES prefix 쿼리 사용
      */
     public List<String> autoComplete(String prefix, int size) {
         try {
@@ -333,6 +337,13 @@ public class ArtistSearchService {
             if (size <= 0 || size > 50) {
                 throw new GlobalException("결과 크기는 1-50 사이여야 합니다.", "INVALID_SIZE", HttpStatus.BAD_REQUEST);
             }
+
+            if (autocompleteService.isReady()) {
+                return autocompleteService.suggest(prefix, size, AutocompleteService.TYPE_ARTIST).stream()
+                        .map(AutocompleteTrie.Suggestion::text)
+                        .distinct()
+                        .collect(Collectors.toList());
+            }
             
             Query query = NativeQuery.builder()
                     .withQuery(q -> q.bool(b -> b
@@ -15,31 +15,33 @@ public class ArtistSyncController {
     
     private final ArtistSyncService artistSyncService;
 
+    // 재색인은 비동기로 진행되며 진행 상황은 /reindex/status로 확인 (이미 진행 중이면 409)
     @PostMapping("/all")
-    public ResponseEntity<String> syncAllArtists() {
-        try {
-            log.info("🚀 전체 아티스트 동기화 요청");
-            artistSyncService.syncAllArtists();
-            return ResponseEntity.ok("전체 아티스트 동기화가 완료되었습니다.");
-        } catch (Exception e) {
-            log.error("❌ 전체 동기화 실패: {}", e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body("동기화 실패: " + e.getMessage());
-        }
+    public ResponseEntity<ArtistSyncService.ReindexStatus> syncAllArtists() {
+        log.info("🚀 전체 아티스트 재색인 요청");
+        return ResponseEntity.accepted().body(artistSyncService.syncAllArtists());
     }
 
 
     @PostMapping("/active")
-    public ResponseEntity<String> syncActiveArtists() {
-        try {
-            log.info("🚀 활성 아티스트 동기화 요청");
-            artistSyncService.syncActiveArtistsOnly();
-            return ResponseEntity.ok("활성 아티스트 동기화가 완료되었습니다.");
-        } catch (Exception e) {
-            log.error("❌ 활성 아티스트 동기화 실패: {}", e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body("동기화 실패: " + e.getMessage());
-        }
+    public ResponseEntity<ArtistSyncService.ReindexStatus> syncActiveArtists() {
+        log.info("🚀 활성 아티스트 재색인 요청");
+        return ResponseEntity.accepted().body(artistSyncService.syncActiveArtistsOnly());
+    }
+
+
+    // 아티스트 상태 토픽(log compaction) 재생으로 재색인 (DB 조회 없음, 진행 상황은 /reindex/status)
+    @PostMapping("/rebuild-from-topic")
+    public ResponseEntity<ArtistSyncService.ReindexStatus> rebuildFromStateTopic() {
+        log.info("🚀 상태 토픽 기반 재색인 요청");
+        return ResponseEntity.accepted().body(artistSyncService.rebuildFromStateTopic());
+    }
+
+
+    @GetMapping("/reindex/status")
+    public ResponseEntity<ArtistSyncService.ReindexStatus> getReindexStatus() {
+        ArtistSyncService.ReindexStatus status = artistSyncService.getReindexStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
     }
 
 
@@ -4,15 +4,41 @@ import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistEntity;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistRepository;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ElasticSearchProducerService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStatePublisher;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStateReader;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStatsState;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +49,40 @@ public class ArtistSyncService {
     private final ArtistRepository artistRepository;
     private final ArtistSearchRepository artistSearchRepository;
     private final ElasticSearchProducerService elasticSearchProducerService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ArtistStatePublisher artistStatePublisher;
+    private final ArtistStateReader artistStateReader;
+
+    // 재색인 설정
+    private static final String INDEX_ALIAS = "artists";
+    private static final String REFRESH_INTERVAL = "1s";
+
+    // 문서 버전이 읽은 DB 상태 이상이면 통계 쓰기 생략
+    // 스크립트 업데이트가 반영될 때마다 _version이 1 증가하므로, 같은 버전의 재전달까지 반영하면
+    // _version이 DB 버전을 앞질러 이후 전체 문서 쓰기(EXTERNAL_GTE)가 409로 버려짐
+    private static final String STATS_UPDATE_SCRIPT =
+            "if (ctx._version >= params.version) { ctx.op = 'noop'; return; } "
+            + "ctx._source.followerCount = params.followerCount; "
+            + "ctx._source.totalPlayCount = params.totalPlayCount; "
+            + "ctx._source.totalLikeCount = params.totalLikeCount; "
+            + "ctx._source.popularityScore = params.popularityScore;";
+
+    @Value("${musicbell.es.reindex.parallelism:4}")
+    private int reindexParallelism;
+
+    @Value("${musicbell.es.reindex.batch-size:1000}")
+    private int reindexBatchSize;
+
+    @Value("${musicbell.es.reindex.replicas:1}")
+    private int reindexReplicas;
+
+    private final ExecutorService reindexExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "artist-reindex"));
+    private final AtomicReference<ReindexStatus> currentReindex = new AtomicReference<>();
+    // 재색인 중인 새 인덱스명 (없으면 null)
+    private volatile String buildingIndex;
+    // 더 새로운 버전이 이미 색인되어 건너뛴 쓰기 수
+    private final AtomicLong staleWritesSkipped = new AtomicLong();
 
     /**
      * 🔄 Artist 엔티티를 ArtistDocument로 변환
@@ -58,9 +118,10 @@ public class ArtistSyncService {
         document.setInstagramHandle(artist.getInstagramHandle());
         document.setTwitterHandle(artist.getTwitterHandle());
         
-        // 타임스탬프
+        // 타임스탬프 + 외부 버전 (DB 행 버전)
         document.setCreatedAt(artist.getCreatedAt());
         document.setUpdatedAt(artist.getUpdatedAt());
+        document.setVersion(artist.getVersion() != null ? artist.getVersion() : 0L);
         
         // 검색 텍스트와 인기도 점수 생성
         document.generateSearchText();
@@ -79,7 +140,8 @@ public class ArtistSyncService {
                     .orElseThrow(() -> new GlobalException("아티스트를 찾을 수 없습니다", "ARTIST_NOT_FOUND", HttpStatus.NOT_FOUND));
             
             ArtistDocument document = convertToDocument(artist);
-            artistSearchRepository.save(document);
+            indexAndPublish(List.of(document));
+            saveToBuildingIndex(document);
             
             log.info("✅ 아티스트 동기화 완료: id={}, name={}", artistId, artist.getName());
         } catch (Exception e) {
@@ -89,49 +151,176 @@ public class ArtistSyncService {
     }
 
     /**
-     * 🔄 전체 아티스트 일괄 동기화
+     * 여러 아티스트를 한 번의 DB 조회와 한 번의 bulk 요청으로 동기화 (배치 Consumer용)
+     * 삭제 대상은 DB 상태 그대로 색인하되 비활성으로 기록
+     *
+     * @return 색인한 문서 수
      */
-    @Transactional
-    public void syncAllArtists() {
-        log.info("🚀 전체 아티스트 동기화 시작");
-        
-        int pageSize = 100;
-        int pageNumber = 0;
-        int totalSynced = 0;
-        
+    @Transactional(readOnly = true)
+    public int syncArtists(Collection<Long> syncIds, Collection<Long> deleteIds) {
+        Set<Long> ids = new HashSet<>(syncIds);
+        ids.addAll(deleteIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<ArtistEntity> artists = artistRepository.findAllById(ids);
+        if (artists.size() < ids.size()) {
+            Set<Long> found = artists.stream().map(ArtistEntity::getId).collect(Collectors.toSet());
+            List<Long> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+            log.warn("⚠️ DB에 없는 아티스트 동기화 생략: {}", missing);
+            artistStatePublisher.publishTombstones(missing);
+        }
+
+        Set<Long> deleteSet = new HashSet<>(deleteIds);
+        List<ArtistDocument> documents = new ArrayList<>(artists.size());
+        for (ArtistEntity artist : artists) {
+            ArtistDocument document = convertToDocument(artist);
+            if (deleteSet.contains(artist.getId())) {
+                document.setIsActive(false);
+            }
+            documents.add(document);
+        }
+
+        if (!documents.isEmpty()) {
+            indexAndPublish(documents);
+            String building = buildingIndex;
+            if (building != null) {
+                indexDocuments(documents, IndexCoordinates.of(building));
+            }
+        }
+        log.info("✅ 아티스트 일괄 동기화 완료: sync={}, delete={}, 색인={}", syncIds.size(), deleteIds.size(), documents.size());
+        return documents.size();
+    }
+
+    /**
+     * 통계 필드(팔로워/재생/좋아요 수, 인기도 점수)만 부분 업데이트 (stats 이벤트용)
+     * 문서 전체를 만들지 않고 카운터만 전송, 문서 버전이 읽은 DB 상태보다 새로우면 ES에서 noop 처리
+     * 색인에 아직 없는 문서 등 부분 업데이트에 실패한 아티스트는 전체 동기화로 대체
+     *
+     * @return 업데이트 요청한 문서 수
+     */
+    @Transactional(readOnly = true)
+    public int syncArtistStats(Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) {
+            return 0;
+        }
+
+        List<ArtistStatsState> states = new ArrayList<>(artistIds.size());
+        List<UpdateQuery> updates = new ArrayList<>(artistIds.size());
+        for (Object[] row : artistRepository.findStatsByIdIn(artistIds)) {
+            long followers = row[1] != null ? ((Number) row[1]).longValue() : 0;
+            long plays = row[2] != null ? ((Number) row[2]).longValue() : 0;
+            long likes = row[3] != null ? ((Number) row[3]).longValue() : 0;
+            long version = row[4] != null ? ((Number) row[4]).longValue() : 0;
+
+            ArtistStatsState state = new ArtistStatsState(((Number) row[0]).longValue(), followers, plays, likes, version);
+            states.add(state);
+            updates.add(statsUpdateQuery(state));
+        }
+        if (updates.isEmpty()) {
+            log.warn("⚠️ DB에 없는 아티스트 통계 동기화 생략: {}", artistIds);
+            return 0;
+        }
+
         try {
-            // 기존 인덱스 클리어
-            artistSearchRepository.deleteAll();
-            log.info("🗑️ 기존 ElasticSearch 인덱스 클리어 완료");
-            
-            Page<ArtistEntity> artistPage;
-            do {
-                artistPage = artistRepository.findAll(PageRequest.of(pageNumber, pageSize));
-                
-                List<ArtistDocument> documents = artistPage.getContent().stream()
-                        .map(this::convertToDocument)
-                        .collect(Collectors.toList());
-                
-                if (!documents.isEmpty()) {
-                    artistSearchRepository.saveAll(documents);
-                    totalSynced += documents.size();
-                    log.info("📦 배치 동기화 완료: {} ~ {} (총 {}개)", 
-                            pageNumber * pageSize + 1, 
-                            pageNumber * pageSize + documents.size(),
-                            totalSynced);
-                }
-                
-                pageNumber++;
-            } while (artistPage.hasNext());
-            
-            log.info("🎉 전체 아티스트 동기화 완료! 총 {}개 아티스트 처리", totalSynced);
-            
-        } catch (Exception e) {
-            log.error("❌ 전체 아티스트 동기화 실패: {}", e.getMessage());
-            throw new GlobalException("ElasticSearch 동기화 실패", "ELASTICSEARCH_SYNC_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+            elasticsearchOperations.bulkUpdate(updates, elasticsearchOperations.getIndexCoordinatesFor(ArtistDocument.class));
+        } catch (BulkFailureException e) {
+            List<Long> failedIds = e.getFailedDocuments().keySet().stream().map(Long::valueOf).toList();
+            log.warn("⚠️ 통계 부분 업데이트 실패 → 전체 동기화로 대체: {}", failedIds);
+            syncArtists(failedIds, List.of());
+        }
+
+        String building = buildingIndex;
+        if (building != null) {
+            try {
+                elasticsearchOperations.bulkUpdate(updates, IndexCoordinates.of(building));
+            } catch (BulkFailureException e) {
+                // 아직 적재되지 않은 문서는 적재 시점의 최신 통계로 들어감
+                log.debug("재색인 인덱스 통계 업데이트 생략: {}", e.getFailedDocuments().keySet());
+            }
+        }
+        artistStatePublisher.publishStats(states);
+        log.info("✅ 아티스트 통계 부분 업데이트 완료: {}개", updates.size());
+        return updates.size();
+    }
+
+    private UpdateQuery statsUpdateQuery(ArtistStatsState state) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("followerCount", state.followerCount());
+        params.put("totalPlayCount", state.totalPlayCount());
+        params.put("totalLikeCount", state.totalLikeCount());
+        params.put("popularityScore", ArtistDocument.popularityOf(state.followerCount(), state.totalPlayCount(), state.totalLikeCount()));
+        params.put("version", state.version());
+        return UpdateQuery.builder(String.valueOf(state.artistId()))
+                .withScript(STATS_UPDATE_SCRIPT)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withParams(params)
+                .withRetryOnConflict(3)
+                .build();
+    }
+
+    // 현재 인덱스(alias)에 색인 후 최신 상태를 상태 토픽에 발행 (오래된 버전으로 건너뛴 문서는 발행하지 않음)
+    private void indexAndPublish(List<ArtistDocument> documents) {
+        Set<String> stale = new HashSet<>(indexDocuments(documents, aliasIndex()));
+        artistStatePublisher.publishDocuments(stale.isEmpty()
+                ? documents
+                : documents.stream().filter(document -> !stale.contains(document.getId())).toList());
+    }
+
+    // 재색인 중이면 새 인덱스에도 기록 (적재 이후의 변경이 alias 교체 시 유실되지 않도록)
+    private void saveToBuildingIndex(ArtistDocument document) {
+        String building = buildingIndex;
+        if (building != null) {
+            indexDocuments(List.of(document), IndexCoordinates.of(building));
+        }
+    }
+
+    private IndexCoordinates aliasIndex() {
+        return elasticsearchOperations.getIndexCoordinatesFor(ArtistDocument.class);
+    }
+
+    /**
+     * 버전 포함 bulk 색인
+     * 이미 더 새로운 DB 상태가 색인된 문서(409 version conflict)는 오래된 쓰기이므로 건너뜀, 그 외 실패만 예외
+     *
+     * @return 오래된 쓰기로 건너뛴 문서 ID
+     */
+    private List<String> indexDocuments(List<ArtistDocument> documents, IndexCoordinates index) {
+        try {
+            elasticsearchOperations.save(documents, index);
+            return List.of();
+        } catch (BulkFailureException e) {
+            Map<String, BulkFailureException.FailureDetails> failed = e.getFailedDocuments();
+            List<String> stale = failed.entrySet().stream()
+                    .filter(entry -> Integer.valueOf(HttpStatus.CONFLICT.value()).equals(entry.getValue().status()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (stale.size() < failed.size()) {
+                throw e;
+            }
+            staleWritesSkipped.addAndGet(stale.size());
+            log.debug("오래된 버전 색인 생략: index={}, ids={}", index.getIndexName(), stale);
+            return stale;
         }
     }
 
+    /**
+     * 🔄 전체 아티스트 재색인 (블루/그린, 비동기)
+     * 새 버전 인덱스를 만들어 채운 뒤 alias를 원자적으로 교체하므로 진행 중에도 기존 인덱스로 검색 가능
+     */
+    public ReindexStatus syncAllArtists() {
+        return startReindex(false, ReindexStatus.SOURCE_DATABASE);
+    }
+
+    /**
+     * 🔄 아티스트 상태 토픽을 재생해 재색인 (블루/그린, 비동기, DB 조회 없음)
+     * 새 클러스터 부트스트랩이나 인덱스 복구 시 MySQL 전체 스캔 대신 사용
+     */
+    public ReindexStatus rebuildFromStateTopic() {
+        return startReindex(false, ReindexStatus.SOURCE_STATE_TOPIC);
+    }
 
     /**
      * 🗑️ 아티스트 삭제 시 ElasticSearch에서도 제거
@@ -142,8 +331,10 @@ public class ArtistSyncService {
             ArtistDocument artistDocument =
                     artistSearchRepository.findById(artistId.toString())
                             .orElseThrow(()-> new GlobalException("아티스트 찾을 수 없습니다.", "ARTIST_DOCUMENT_NOT_FOUND"));
+            // 읽어온 문서 버전 그대로 기록 (그 사이 더 새로운 동기화가 있었으면 건너뜀)
             artistDocument.setIsActive(false);
-            artistSearchRepository.save(artistDocument);
+            indexAndPublish(List.of(artistDocument));
+            saveToBuildingIndex(artistDocument);
             log.info("🗑️ ElasticSearch에서 아티스트 삭제(비활성화) 완료: id={}", artistId);
         } catch (Exception e) {
             log.error("❌ ElasticSearch 아티스트 삭제(비활성화)  실패: id={}, error={}", artistId, e.getMessage());
@@ -151,49 +342,192 @@ public class ArtistSyncService {
     }
 
     /**
-     * 🔄 활성 아티스트만 동기화 (비활성 아티스트는 제외)
+     * 🔄 활성 아티스트만 재색인 (비활성 아티스트는 제외, 블루/그린, 비동기)
      */
-    @Transactional
-    public void syncActiveArtistsOnly() {
-        log.info("🚀 활성 아티스트 동기화 시작");
-        
-        int pageSize = 100;
-        int pageNumber = 0;
-        int totalSynced = 0;
-        
+    public ReindexStatus syncActiveArtistsOnly() {
+        return startReindex(true, ReindexStatus.SOURCE_DATABASE);
+    }
+
+    /**
+     * 진행 중이거나 마지막으로 실행된 재색인 상태 (실행 이력이 없으면 null)
+     */
+    public ReindexStatus getReindexStatus() {
+        return currentReindex.get();
+    }
+
+    private ReindexStatus startReindex(boolean activeOnly, String source) {
+        ReindexStatus previous = currentReindex.get();
+        if (previous != null && previous.isRunning()) {
+            throw new GlobalException("이미 재색인이 진행 중입니다: " + previous.getIndexName(), "REINDEX_ALREADY_RUNNING", HttpStatus.CONFLICT);
+        }
+        ReindexStatus status = new ReindexStatus(INDEX_ALIAS + "_v" + System.currentTimeMillis(), activeOnly, source);
+        if (!currentReindex.compareAndSet(previous, status)) {
+            throw new GlobalException("이미 재색인이 진행 중입니다.", "REINDEX_ALREADY_RUNNING", HttpStatus.CONFLICT);
+        }
+        reindexExecutor.submit(() -> runReindex(status));
+        log.info("🚀 아티스트 재색인 시작: index={}, activeOnly={}, source={}", status.getIndexName(), activeOnly, source);
+        return status;
+    }
+
+    private void runReindex(ReindexStatus status) {
+        String indexName = status.getIndexName();
+        ExecutorService loaders = Executors.newFixedThreadPool(reindexParallelism);
         try {
-            // 기존 인덱스 클리어
-            artistSearchRepository.deleteAll();
-            log.info("🗑️ 기존 ElasticSearch 인덱스 클리어 완료");
-            
-            Page<ArtistEntity> artistPage;
-            do {
-                artistPage = artistRepository.findByIsActiveTrueOrderByNameAsc(PageRequest.of(pageNumber, pageSize));
-                
-                List<ArtistDocument> documents = artistPage.getContent().stream()
-                        .map(this::convertToDocument)
-                        .collect(Collectors.toList());
-                
-                if (!documents.isEmpty()) {
-                    artistSearchRepository.saveAll(documents);
-                    totalSynced += documents.size();
-                    log.info("📦 활성 아티스트 배치 동기화 완료: {} ~ {} (총 {}개)", 
-                            pageNumber * pageSize + 1, 
-                            pageNumber * pageSize + documents.size(),
-                            totalSynced);
-                }
-                
-                pageNumber++;
-            } while (artistPage.hasNext());
-            
-            log.info("🎉 활성 아티스트 동기화 완료! 총 {}개 아티스트 처리", totalSynced);
-            
+            // 1. 레플리카 0, refresh 비활성화로 새 인덱스 생성 후 실시간 변경도 함께 기록
+            createBuildingIndex(indexName);
+            buildingIndex = indexName;
+
+            // 2. 상태 토픽 재생 또는 DB 구간 병렬 적재
+            if (ReindexStatus.SOURCE_STATE_TOPIC.equals(status.getSource())) {
+                loadFromStateTopic(status);
+            } else {
+                loadFromDatabase(status, loaders);
+            }
+
+            // 3. 운영 설정 복원 후 alias 교체
+            status.state = "FINALIZING";
+            elasticsearchClient.indices().putSettings(r -> r.index(indexName)
+                    .settings(st -> st.numberOfReplicas(String.valueOf(reindexReplicas))
+                            .refreshInterval(t -> t.time(REFRESH_INTERVAL))));
+            elasticsearchClient.indices().refresh(r -> r.index(indexName));
+            swapAlias(indexName);
+
+            status.complete();
+            log.info("🎉 아티스트 재색인 완료: index={}, {}개, {}ms", indexName, status.getIndexedCount(),
+                    status.getFinishedAt() - status.getStartedAt());
         } catch (Exception e) {
-            log.error("❌ 활성 아티스트 동기화 실패: {}", e.getMessage());
-            throw new GlobalException("ElasticSearch 동기화 실패", "ELASTICSEARCH_SYNC_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("❌ 아티스트 재색인 실패: index={}, error={}", indexName, cause.getMessage(), cause);
+            status.fail(cause.getMessage());
+            deleteIndexQuietly(indexName);
+        } finally {
+            buildingIndex = null;
+            loaders.shutdownNow();
+        }
+    }
+
+    // id 구간을 나눠 구간별 키셋 페이지네이션으로 병렬 적재 (적재한 문서는 상태 토픽에도 발행 → 토픽 백필)
+    private void loadFromDatabase(ReindexStatus status, ExecutorService loaders) {
+        status.totalCount = status.isActiveOnly() ? artistRepository.countByIsActiveTrue() : artistRepository.count();
+        Optional<ArtistEntity> first = artistRepository.findTopByOrderByIdAsc();
+        Optional<ArtistEntity> last = artistRepository.findTopByOrderByIdDesc();
+        if (first.isEmpty() || last.isEmpty()) {
+            return;
+        }
+        long minId = first.get().getId();
+        long maxId = last.get().getId();
+        long sliceSize = (maxId - minId) / reindexParallelism + 1;
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (long afterId = minId - 1; afterId < maxId; afterId += sliceSize) {
+            long lower = afterId;
+            long upper = Math.min(maxId, afterId + sliceSize);
+            slices.add(CompletableFuture.runAsync(() -> loadSlice(status, lower, upper), loaders));
+        }
+        CompletableFuture.allOf(slices.toArray(new CompletableFuture[0])).join();
+    }
+
+    // 상태 토픽을 처음부터 재생해 적재 후, 모아 둔 최신 통계와 삭제(tombstone)를 마지막에 반영
+    private void loadFromStateTopic(ReindexStatus status) throws IOException {
+        IndexCoordinates index = IndexCoordinates.of(status.getIndexName());
+        ArtistStateReader.ReplayResult result = artistStateReader.replay(documents -> {
+            List<String> stale = indexDocuments(documents, index);
+            status.indexed.addAndGet(documents.size() - stale.size());
+            status.totalCount = status.indexed.get();
+            return documents.size() - stale.size();
+        });
+
+        if (!result.stats().isEmpty()) {
+            List<UpdateQuery> updates = result.stats().stream().map(this::statsUpdateQuery).toList();
+            try {
+                elasticsearchOperations.bulkUpdate(updates, index);
+            } catch (BulkFailureException e) {
+                // 문서 없이 통계만 남은 아티스트는 건너뜀
+                log.debug("상태 토픽 통계 반영 생략: {}", e.getFailedDocuments().keySet());
+            }
+        }
+        for (Long artistId : result.deletedIds()) {
+            elasticsearchOperations.delete(artistId.toString(), index);
+        }
+        status.totalCount = status.indexed.get();
+    }
+
+    private void createBuildingIndex(String indexName) {
+        Document mapping = elasticsearchOperations.indexOps(ArtistDocument.class).createMapping(ArtistDocument.class);
+        Map<String, Object> settings = Map.of(
+                "index.number_of_replicas", 0,
+                "index.refresh_interval", "-1");
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).create(settings, mapping);
+    }
+
+    // (afterId, upperId] 구간을 id 순으로 batch 단위 적재
+    private void loadSlice(ReindexStatus status, long afterId, long upperId) {
+        IndexCoordinates index = IndexCoordinates.of(status.getIndexName());
+        long lastId = afterId;
+        while (true) {
+            List<ArtistEntity> batch = status.isActiveOnly()
+                    ? artistRepository.findByIdGreaterThanAndIdLessThanEqualAndIsActiveTrueOrderByIdAsc(lastId, upperId, PageRequest.of(0, reindexBatchSize))
+                    : artistRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(lastId, upperId, PageRequest.of(0, reindexBatchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<ArtistDocument> documents = batch.stream()
+                    .map(this::convertToDocument)
+                    .collect(Collectors.toList());
+            // 적재 중 실시간 동기화가 먼저 쓴 더 새로운 문서는 덮어쓰지 않음
+            Set<String> stale = new HashSet<>(indexDocuments(documents, index));
+            artistStatePublisher.publishDocuments(documents.stream().filter(document -> !stale.contains(document.getId())).toList());
+            status.indexed.addAndGet(documents.size());
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < reindexBatchSize) {
+                return;
+            }
         }
     }
 
+    /**
+     * alias를 새 인덱스로 원자적 교체
+     * 최초 실행 시 alias와 같은 이름의 실제 인덱스가 있으면 같은 요청에서 제거
+     */
+    private void swapAlias(String indexName) throws IOException {
+        boolean aliasExists = elasticsearchClient.indices().existsAlias(r -> r.name(INDEX_ALIAS)).value();
+        Set<String> previousIndices = aliasExists
+                ? elasticsearchClient.indices().getAlias(r -> r.name(INDEX_ALIAS)).result().keySet()
+                : Set.of();
+        boolean legacyIndexExists = !aliasExists && elasticsearchClient.indices().exists(r -> r.index(INDEX_ALIAS)).value();
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(indexName).alias(INDEX_ALIAS))));
+        for (String previous : previousIndices) {
+            actions.add(Action.of(a -> a.remove(remove -> remove.index(previous).alias(INDEX_ALIAS))));
+        }
+        if (legacyIndexExists) {
+            actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(INDEX_ALIAS))));
+        }
+        elasticsearchClient.indices().updateAliases(r -> r.actions(actions));
+        log.info("🔀 alias 교체 완료: {} -> {} (이전: {})", INDEX_ALIAS, indexName, previousIndices);
+
+        // 롤백용으로 직전 인덱스만 남기고 그 이전 버전 정리
+        for (String old : elasticsearchClient.indices().get(r -> r.index(INDEX_ALIAS + "_v*")).result().keySet()) {
+            if (!old.equals(indexName) && !previousIndices.contains(old)) {
+                deleteIndexQuietly(old);
+            }
+        }
+    }
+
+    private void deleteIndexQuietly(String indexName) {
+        try {
+            elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).delete();
+            log.info("🗑️ 인덱스 삭제: {}", indexName);
+        } catch (Exception e) {
+            log.warn("인덱스 삭제 실패: index={}, error={}", indexName, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdownReindexExecutor() {
+        reindexExecutor.shutdownNow();
+    }
+
     /**
      * 📊 동기화 상태 확인
      */
@@ -204,10 +538,63 @@ public class ArtistSyncService {
             long dbActiveCount = artistRepository.countByIsActiveTrue();
             long esCount = artistSearchRepository.count();
             
-            return new SyncStatus(dbCount, dbActiveCount, esCount, dbCount == esCount);
+            return new SyncStatus(dbCount, dbActiveCount, esCount, dbCount == esCount, staleWritesSkipped.get());
         } catch (Exception e) {
             log.error("❌ 동기화 상태 확인 실패: {}", e.getMessage());
-            return new SyncStatus(0, 0, 0, false);
+            return new SyncStatus(0, 0, 0, false, staleWritesSkipped.get());
+        }
+    }
+
+    /**
+     * 재색인 진행 상태
+     */
+    public static class ReindexStatus {
+        public static final String SOURCE_DATABASE = "DATABASE";
+        public static final String SOURCE_STATE_TOPIC = "STATE_TOPIC";
+
+        private final String indexName;
+        private final boolean activeOnly;
+        private final String source;
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicLong indexed = new AtomicLong();
+        private volatile String state = "RUNNING";
+        private volatile long totalCount;
+        private volatile long finishedAt;
+        private volatile String error;
+
+        public ReindexStatus(String indexName, boolean activeOnly, String source) {
+            this.indexName = indexName;
+            this.activeOnly = activeOnly;
+            this.source = source;
+        }
+
+        public String getIndexName() { return indexName; }
+        public boolean isActiveOnly() { return activeOnly; }
+        public String getSource() { return source; }
+        public String getState() { return state; }
+        public long getTotalCount() { return totalCount; }
+        public long getIndexedCount() { return indexed.get(); }
+        public long getStartedAt() { return startedAt; }
+        public long getFinishedAt() { return finishedAt; }
+        public String getError() { return error; }
+
+        public double getProgressPercent() {
+            return totalCount > 0 ? Math.min(100.0, indexed.get() * 100.0 / totalCount) : 0.0;
+        }
+
+        public boolean isRunning() {
+            return "RUNNING".equals(state) || "FINALIZING".equals(state);
+        }
+
+        void complete() {
+            finishedAt = System.currentTimeMillis();
+            state = "COMPLETED";
+        }
+
+        void fail(String message) {
+            finishedAt = System.currentTimeMillis();
+            error = message;
+            state = "FAILED";
         }
     }
 
@@ -219,12 +606,15 @@ public class ArtistSyncService {
         public final long databaseActiveCount;
         public final long elasticsearchCount;
         public final boolean inSync;
+        public final long staleWritesSkipped;
         
-        public SyncStatus(long databaseCount, long databaseActiveCount, long elasticsearchCount, boolean inSync) {
+        public SyncStatus(long databaseCount, long databaseActiveCount, long elasticsearchCount, boolean inSync,
+                          long staleWritesSkipped) {
             this.databaseCount = databaseCount;
             this.databaseActiveCount = databaseActiveCount;
             this.elasticsearchCount = elasticsearchCount;
             this.inSync = inSync;
+            this.staleWritesSkipped = staleWritesSkipped;
         }
     }
 }
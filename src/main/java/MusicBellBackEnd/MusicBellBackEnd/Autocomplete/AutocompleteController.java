@@ -0,0 +1,43 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequestMapping("/api/v1/autocomplete")
+@RequiredArgsConstructor
+@RestController
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    // 아티스트/곡 자동완성 (type 미지정 시 둘 다)
+    @GetMapping
+    public ResponseEntity<Map<String, List<AutocompleteTrie.Suggestion>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String type
+    ) {
+        Map<String, List<AutocompleteTrie.Suggestion>> result = new LinkedHashMap<>();
+        if (type == null || AutocompleteService.TYPE_ARTIST.equals(type)) {
+            result.put("artists", autocompleteService.suggest(q, size, AutocompleteService.TYPE_ARTIST));
+        }
+        if (type == null || AutocompleteService.TYPE_TRACK.equals(type)) {
+            result.put("tracks", autocompleteService.suggest(q, size, AutocompleteService.TYPE_TRACK));
+        }
+        if (result.isEmpty()) {
+            // 알 수 없는 타입은 서비스 검증 메시지로 응답
+            autocompleteService.suggest(q, size, type);
+        }
+        return ResponseEntity.ok(result);
+    }
+}
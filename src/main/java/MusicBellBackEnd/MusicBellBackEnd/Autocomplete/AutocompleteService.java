@@ -0,0 +1,211 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistEntity;
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistRepository;
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistDocument;
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicEntity;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아티스트명/곡 제목 인프로세스 자동완성
+ *
+ * - 한글은 자모/초성 키로 색인하여 "ㅂㅌㅅ", "방타" 같은 입력 중 질의도 매칭
+ * - 노드별 인기도 상위 K를 미리 계산해 두어 키 입력마다 ES 호출 없이 응답
+ * - 아티스트는 ES 동기화 이벤트로, 곡은 업로드/수정/삭제 시 증분 갱신하고 주기적으로 전체 재구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    public static final String TYPE_ARTIST = "artist";
+    public static final String TYPE_TRACK = "track";
+
+    // 곡 인기도 가중치 (랭킹 점수와 동일: 재생 1, 좋아요 3)
+    private static final int PLAY_WEIGHT = 1;
+    private static final int LIKE_WEIGHT = 3;
+
+    private final ArtistRepository artistRepository;
+    private final MusicRepository musicRepository;
+
+    @Value("${musicbell.autocomplete.top-k:20}")
+    private int topK;
+
+    @Value("${musicbell.autocomplete.max-tracks:200000}")
+    private int maxTracks;
+
+    // 전체 재구성 시 참조만 교체
+    private volatile AutocompleteTrie artistTrie;
+    private volatile AutocompleteTrie trackTrie;
+
+    /**
+     * 인기도 상위 size개 자동완성 후보 조회
+     */
+    public List<AutocompleteTrie.Suggestion> suggest(String query, int size, String type) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new GlobalException("검색어는 필수입니다.", "PREFIX_REQUIRED", HttpStatus.BAD_REQUEST);
+        }
+        if (size <= 0 || size > 50) {
+            throw new GlobalException("결과 크기는 1-50 사이여야 합니다.", "INVALID_SIZE", HttpStatus.BAD_REQUEST);
+        }
+
+        AutocompleteTrie trie = switch (type) {
+            case TYPE_ARTIST -> artistTrie;
+            case TYPE_TRACK -> trackTrie;
+            default -> throw new GlobalException("지원하지 않는 자동완성 타입입니다: " + type, "INVALID_AUTOCOMPLETE_TYPE", HttpStatus.BAD_REQUEST);
+        };
+        if (trie == null) {
+            throw new GlobalException("자동완성 인덱스가 아직 준비되지 않았습니다.", "AUTOCOMPLETE_NOT_READY", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return trie.suggest(query.trim(), size);
+    }
+
+    public boolean isReady() {
+        return artistTrie != null && trackTrie != null;
+    }
+
+    // === 증분 갱신 ===
+
+    /**
+     * 아티스트 추가/갱신 (비활성 아티스트는 제거)
+     */
+    public void upsertArtist(ArtistEntity artist) {
+        AutocompleteTrie trie = artistTrie;
+        if (trie == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(artist.getIsActive())) {
+            trie.remove(artist.getId());
+            return;
+        }
+        trie.upsert(new AutocompleteTrie.Suggestion(TYPE_ARTIST, artist.getId(), artist.getName(),
+                ArtistDocument.popularityOf(orZero(artist.getFollowerCount()), orZero(artist.getTotalPlayCount()),
+                        orZero(artist.getTotalLikeCount()))));
+    }
+
+    public void removeArtist(Long artistId) {
+        AutocompleteTrie trie = artistTrie;
+        if (trie != null) {
+            trie.remove(artistId);
+        }
+    }
+
+    /**
+     * 곡 추가/갱신 (비공개 곡은 제거)
+     */
+    public void upsertTrack(MusicEntity music) {
+        AutocompleteTrie trie = trackTrie;
+        if (trie == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(music.getIsPublic())) {
+            trie.remove(music.getId());
+            return;
+        }
+        trie.upsert(new AutocompleteTrie.Suggestion(TYPE_TRACK, music.getId(), music.getTitle(),
+                trackScore(music.getPlayCount(), music.getLikeCount())));
+    }
+
+    public void removeTrack(Long musicId) {
+        AutocompleteTrie trie = trackTrie;
+        if (trie != null) {
+            trie.remove(musicId);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 곡 추가/갱신 (롤백된 변경이 인덱스에 남지 않도록)
+     * 색인 값은 호출 시점(트랜잭션 안)에 미리 만들어 둠
+     */
+    public void upsertTrackAfterCommit(MusicEntity music) {
+        Long musicId = music.getId();
+        if (!Boolean.TRUE.equals(music.getIsPublic())) {
+            removeTrackAfterCommit(musicId);
+            return;
+        }
+        AutocompleteTrie.Suggestion suggestion = new AutocompleteTrie.Suggestion(TYPE_TRACK, musicId,
+                music.getTitle(), trackScore(music.getPlayCount(), music.getLikeCount()));
+        runAfterCommit(() -> {
+            AutocompleteTrie trie = trackTrie;
+            if (trie != null) {
+                trie.upsert(suggestion);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 곡 제거
+     */
+    public void removeTrackAfterCommit(Long musicId) {
+        runAfterCommit(() -> removeTrack(musicId));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // === 전체 재구성 ===
+
+    /**
+     * 애플리케이션 시작 시 구성, 이후 주기적으로 재구성 (다른 인스턴스의 곡 변경과 인기도 변화 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${musicbell.autocomplete.rebuild-interval-ms:600000}",
+            initialDelayString = "${musicbell.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+
+            List<AutocompleteTrie.Suggestion> artists = new ArrayList<>();
+            for (Object[] row : artistRepository.findActiveAutocompleteRows()) {
+                artists.add(new AutocompleteTrie.Suggestion(TYPE_ARTIST, (Long) row[0], (String) row[1],
+                        ArtistDocument.popularityOf(orZero((Long) row[2]), orZero((Long) row[3]), orZero((Long) row[4]))));
+            }
+
+            List<AutocompleteTrie.Suggestion> tracks = new ArrayList<>();
+            for (Object[] row : musicRepository.findPublicAutocompleteRows(PageRequest.of(0, maxTracks))) {
+                tracks.add(new AutocompleteTrie.Suggestion(TYPE_TRACK, (Long) row[0], (String) row[1],
+                        trackScore((Long) row[2], (Long) row[3])));
+            }
+
+            artistTrie = AutocompleteTrie.build(artists, topK);
+            trackTrie = AutocompleteTrie.build(tracks, topK);
+            log.info("자동완성 인덱스 구성 완료: artists={}, tracks={}, {}ms",
+                    artists.size(), tracks.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    private static double trackScore(Long playCount, Long likeCount) {
+        return orZero(playCount) * PLAY_WEIGHT + orZero(likeCount) * LIKE_WEIGHT;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
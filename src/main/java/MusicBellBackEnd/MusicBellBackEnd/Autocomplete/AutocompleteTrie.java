@@ -0,0 +1,193 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드마다 인기도 상위 K개를 미리 보관하는 접두사 트라이
+ *
+ * - 조회: 질의 키를 따라 내려간 노드의 상위 K 목록을 그대로 반환 (키 길이에 비례, 하위 탐색 없음)
+ * - 갱신: 해당 항목의 키 경로만 아래에서 위로 상위 K 재계산
+ * - 쓰기는 직렬화, 읽기는 락 없이 노드의 불변 목록 참조만 읽음
+ */
+public class AutocompleteTrie {
+
+    // 키 최대 길이 (자모 기준, 더 긴 질의는 잘라서 조회)
+    static final int MAX_KEY_LENGTH = 30;
+
+    private static final Comparator<Suggestion> ORDER = Comparator
+            .comparingDouble(Suggestion::score).reversed()
+            .thenComparing(Suggestion::text);
+
+    private final int topK;
+    private final Node root = new Node();
+    // 항목 ID -> 색인된 키 목록 (제거/갱신용)
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+
+    public AutocompleteTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 전체 항목으로 새 트라이 구성 (항목 삽입 후 한 번에 상위 K 계산)
+     */
+    public static AutocompleteTrie build(Collection<Suggestion> suggestions, int topK) {
+        AutocompleteTrie trie = new AutocompleteTrie(topK);
+        for (Suggestion suggestion : suggestions) {
+            List<String> keys = keysOf(suggestion.text());
+            trie.keysById.put(suggestion.id(), keys);
+            for (String key : keys) {
+                trie.path(key, true).get(key.length()).terminals.put(suggestion.id(), suggestion);
+            }
+        }
+        trie.recomputeAll(trie.root);
+        return trie;
+    }
+
+    /**
+     * 항목 추가/갱신 (이름/인기도 변경 포함)
+     */
+    public synchronized void upsert(Suggestion suggestion) {
+        remove(suggestion.id());
+        List<String> keys = keysOf(suggestion.text());
+        keysById.put(suggestion.id(), keys);
+        for (String key : keys) {
+            List<Node> path = path(key, true);
+            path.get(path.size() - 1).terminals.put(suggestion.id(), suggestion);
+            recomputePath(path);
+        }
+    }
+
+    /**
+     * 항목 제거
+     */
+    public synchronized void remove(Long id) {
+        List<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            List<Node> path = path(key, false);
+            if (path == null) {
+                continue;
+            }
+            path.get(path.size() - 1).terminals.remove(id);
+            recomputePath(path);
+            prune(path, key);
+        }
+    }
+
+    /**
+     * 접두사 상위 size개 조회
+     */
+    public List<Suggestion> suggest(String query, int size) {
+        String key = truncate(HangulJamo.toJamoKey(query));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Suggestion> top = node.top;
+        return top.size() > size ? top.subList(0, size) : top;
+    }
+
+    public synchronized int size() {
+        return keysById.size();
+    }
+
+    // 자모 키 + 초성 키 (같으면 하나만)
+    static List<String> keysOf(String text) {
+        String jamo = truncate(HangulJamo.toJamoKey(text));
+        String choseong = truncate(HangulJamo.toChoseongKey(text));
+        if (jamo.isEmpty()) {
+            return List.of();
+        }
+        return jamo.equals(choseong) || choseong.isEmpty() ? List.of(jamo) : List.of(jamo, choseong);
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    // 루트부터 키 끝 노드까지의 경로 (create=false면 없을 때 null)
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void recomputePath(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recompute(path.get(i));
+        }
+    }
+
+    // 후위 순회로 전체 상위 K 계산 (깊이는 MAX_KEY_LENGTH로 제한)
+    private void recomputeAll(Node node) {
+        for (Node child : node.children.values()) {
+            recomputeAll(child);
+        }
+        recompute(node);
+    }
+
+    // 노드 상위 K = 자기 종료 항목 + 자식들의 상위 K 병합 (같은 항목은 자모/초성 키로 중복될 수 있어 ID로 제거)
+    private void recompute(Node node) {
+        Map<Long, Suggestion> candidates = new LinkedHashMap<>(node.terminals);
+        for (Node child : node.children.values()) {
+            for (Suggestion suggestion : child.top) {
+                candidates.putIfAbsent(suggestion.id(), suggestion);
+            }
+        }
+        List<Suggestion> merged = new ArrayList<>(candidates.values());
+        merged.sort(ORDER);
+        node.top = List.copyOf(merged.size() > topK ? merged.subList(0, topK) : merged);
+    }
+
+    // 비어 있는 말단 노드 정리
+    private void prune(List<Node> path, String key) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (!node.children.isEmpty() || !node.terminals.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        // 쓰기 락 안에서만 접근
+        private final Map<Long, Suggestion> terminals = new HashMap<>();
+        private volatile List<Suggestion> top = List.of();
+    }
+
+    /**
+     * 자동완성 후보 (타입, ID, 표시 텍스트, 인기도 점수)
+     */
+    public record Suggestion(String type, Long id, String text, double score) {
+    }
+}
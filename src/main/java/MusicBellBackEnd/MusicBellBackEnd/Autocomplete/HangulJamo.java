@@ -0,0 +1,92 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸
+ *
+ * - 자모 키: 음절을 키보드 입력 단위 자모로 분해 ("방탄" -> "ㅂㅏㅇㅌㅏㄴ", "과" -> "ㄱㅗㅏ")
+ *   입력 중인 "방타"도 "방탄"의 접두사가 됨
+ * - 초성 키: 음절의 초성만 추출 ("방탄소년단" -> "ㅂㅌㅅㄴㄷ")
+ * - 한글 외 문자는 소문자로 유지, 공백은 제거
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 복합 모음은 입력 순서대로 분해
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    // 겹받침도 입력 순서대로 분해
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 복합 자모 (호환 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 단위 검색 키 (질의도 같은 방식으로 변환)
+     */
+    public static String toJamoKey(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색 키 (한글 외 문자는 그대로)
+     */
+    public static String toChoseongKey(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)] : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,43 @@
+package MusicBellBackEnd.MusicBellBackEnd.Cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 직렬화가 끝난 응답 바이트와 강한 ETag
+ */
+public record CachedResponse(byte[] body, String etag) {
+
+    /**
+     * 응답 바이트로부터 ETag(SHA-256 앞 128비트)를 계산하여 생성
+     */
+    public static CachedResponse of(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new CachedResponse(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * If-None-Match 헤더 값과 일치하는지 확인 (목록, *, W/ 접두사 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package MusicBellBackEnd.MusicBellBackEnd.Cache;
+
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 자주 호출되는 GET 응답의 직렬화 결과(바이트 + ETag) 캐시
+ *
+ * - 같은 DTO를 매 요청마다 Jackson으로 직렬화하지 않도록 바이트 자체를 보관
+ * - If-None-Match가 일치하면 서비스 호출 없이 304 응답
+ * - 수정 경로에서 evict로 무효화하고, 다른 인스턴스의 변경은 TTL로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResponseCacheService {
+
+    private final ObjectMapper objectMapper;
+
+    // 캐시 최대 항목 수 (초과 시 가장 오래 안 쓰인 항목부터 제거)
+    static final int MAX_ENTRIES = 10_000;
+
+    // 접근 순서 LinkedHashMap = LRU, 모든 접근은 cache 자체로 동기화
+    private final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 캐시 조회 (없거나 만료되면 null)
+     */
+    public CachedResponse get(String key) {
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.response();
+        }
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 결과를 직렬화하여 저장
+     */
+    public CachedResponse getOrCompute(String key, Duration ttl, Supplier<?> loader) {
+        CachedResponse cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return put(key, loader.get(), ttl);
+    }
+
+    /**
+     * 응답 객체를 직렬화하여 저장
+     */
+    public CachedResponse put(String key, Object body, Duration ttl) {
+        CachedResponse response = CachedResponse.of(serialize(body));
+        synchronized (cache) {
+            cache.put(key, new Entry(response, System.currentTimeMillis() + ttl.toMillis()));
+        }
+        return response;
+    }
+
+    /**
+     * 단일 키 무효화
+     */
+    public void evict(String key) {
+        remove(key);
+        // 커밋 전에 다른 요청이 이전 값으로 다시 채울 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 키 전체 무효화
+     */
+    public void evictByPrefix(String prefix) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * 캐시된 응답을 ETag와 함께 반환 (If-None-Match 일치 시 304)
+     */
+    public static ResponseEntity<byte[]> toResponse(CachedResponse response, String ifNoneMatch) {
+        if (response.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(response.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.etag())
+                .body(response.body());
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new GlobalException("응답 직렬화 중 오류가 발생했습니다", "RESPONSE_SERIALIZE_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private record Entry(CachedResponse response, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package MusicBellBackEnd.MusicBellBackEnd.Config;
 
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,15 @@ public class KafkaConfig {
     @Value("${spring.kafka.topics.es-dlq}")
     private String esDlqTopicName;
 
+    @Value("${spring.kafka.topics.artist-state:artist-state}")
+    private String artistStateTopicName;
+
+    @Value("${spring.kafka.topics.music-plays:music-plays}")
+    private String musicPlaysTopicName;
+
+    @Value("${spring.kafka.topics.play-aggregates:play-aggregates}")
+    private String playAggregatesTopicName;
+
     /**
      * 📦 ES 연동 토픽 - 검색 색인용 메시지 처리
      */
@@ -41,6 +51,32 @@ public class KafkaConfig {
                 .build();
     }
     
+    /**
+     * ⏳ ES 재시도 단계 토픽 (es-retry-1/2/3) - 지연 단계별 비차단 재시도
+     * 원본과 같은 파티션 수로 만들어 artistId 키 분배를 유지
+     */
+    @Bean
+    public NewTopic elasticSearchRetryTier1Topic() {
+        return retryTierTopic(1);
+    }
+
+    @Bean
+    public NewTopic elasticSearchRetryTier2Topic() {
+        return retryTierTopic(2);
+    }
+
+    @Bean
+    public NewTopic elasticSearchRetryTier3Topic() {
+        return retryTierTopic(3);
+    }
+
+    private NewTopic retryTierTopic(int tier) {
+        return TopicBuilder.name(esRetryTopicName + "-" + tier)
+                .partitions(2)
+                .replicas(1)
+                .build();
+    }
+    
     /**
      * ☠️ ES DLQ 토픽 - 최종 실패 메시지 저장용
      */
@@ -51,4 +87,42 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 🗂️ 아티스트 상태 토픽 - artistId별 최신 ArtistDocument (log compaction)
+     * 키마다 마지막 값만 남으므로 전체 재생만으로 인덱스/로컬 캐시 재구성 가능
+     */
+    @Bean
+    public NewTopic artistStateTopic() {
+        return TopicBuilder.name(artistStateTopicName)
+                .partitions(2)
+                .replicas(1)
+                .compact()
+                .config(TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG, "0.1")
+                .config(TopicConfig.DELETE_RETENTION_MS_CONFIG, String.valueOf(24 * 60 * 60 * 1000))
+                .build();
+    }
+
+    /**
+     * ▶️ 재생 이벤트 토픽 - musicId 키, 재생 1건당 1메시지 (윈도우 집계 후 오래 보관할 필요 없음)
+     */
+    @Bean
+    public NewTopic musicPlaysTopic() {
+        return TopicBuilder.name(musicPlaysTopicName)
+                .partitions(2)
+                .replicas(1)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(24 * 60 * 60 * 1000))
+                .build();
+    }
+
+    /**
+     * 📊 재생 집계 토픽 - 1분 윈도우별 트랙/아티스트 재생수 ("{type}:{id}" 키)
+     */
+    @Bean
+    public NewTopic playAggregatesTopic() {
+        return TopicBuilder.name(playAggregatesTopicName)
+                .partitions(2)
+                .replicas(1)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -33,6 +34,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getHttpStatus()).body(errorResponse);
     }
 
+    // 행 버전 충돌 (같은 행이 동시에 수정됨) - 다시 조회 후 재시도하도록 409
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Optimistic Lock Conflict: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "다른 요청이 먼저 수정했습니다. 다시 시도해주세요",
+                HttpStatus.CONFLICT.value()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
         log.error("Unexpected Exception: ", ex);
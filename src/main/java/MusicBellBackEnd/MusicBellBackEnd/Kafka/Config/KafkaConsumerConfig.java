@@ -2,6 +2,10 @@ package MusicBellBackEnd.MusicBellBackEnd.Kafka.Config;
 
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Play.PlayWindowAggregator;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde.CompactEventDeserializer;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -15,6 +19,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,12 +30,15 @@ import java.util.Map;
  * 1. Consumer Factory 설정
  * 2. 에러 핸들링 적용
  * 3. 수동 커밋 모드 설정
- * 4. JSON 역직렬화 설정
+ * 4. 바이너리/JSON 역직렬화 설정 (CompactEventDeserializer)
+ * 5. 재생 집계 단계 (music-plays 윈도우 집계, play-aggregates 반영)
  */
 @Configuration
 @RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    private static final String EVENT_PACKAGE = ElasticSearchEvent.class.getPackageName();
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -40,6 +48,23 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.dlq.consumer.group-id}")
     private String dlqGroupId;
 
+    @Value("${spring.kafka.autocomplete.consumer.group-id-prefix:musicbell-autocomplete}")
+    private String autocompleteGroupIdPrefix;
+
+    // 인스턴스 식별자 (재시작해도 같은 값 → 같은 그룹 재사용)
+    @Value("${spring.kafka.autocomplete.consumer.instance-id:${HOSTNAME:local}}")
+    private String autocompleteInstanceId;
+
+    @Value("${spring.kafka.play.consumer.group-id:musicbell-play-aggregator}")
+    private String playAggregatorGroupId;
+
+    @Value("${spring.kafka.play-aggregate.consumer.group-id:musicbell-play-writer}")
+    private String playWriterGroupId;
+
+    // 시작 동시성, es-sending 파티션 수 이하로 설정 (이후 ListenerConcurrencyAutoscaler가 lag에 따라 조정)
+    @Value("${musicbell.kafka.es.consumer.concurrency:2}")
+    private int esConcurrency;
+
     private final KafkaErrorHandlingConfig kafkaErrorHandlingConfig;
 
     /**
@@ -52,10 +77,10 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, CompactEventDeserializer.class);
 
-        // JSON 역직렬화 설정 - 올바른 패키지명으로 수정
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        // 바이너리/JSON 역직렬화 설정 (JSON은 이벤트 패키지만 신뢰)
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, EVENT_PACKAGE);
         configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ElasticSearchEvent.class.getName());
         
@@ -90,8 +115,8 @@ public class KafkaConsumerConfig {
         // 수동 커밋 모드 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         
-        // 동시성 설정 (파티션 수에 맞춰 조정)
-        factory.setConcurrency(2);
+        // 동시성 설정 (파티션 수에 맞춰 조정, artistId 키로 같은 아티스트는 한 파티션에서 순서대로 처리)
+        factory.setConcurrency(esConcurrency);
         
         // 에러 핸들러 설정
         factory.setCommonErrorHandler(kafkaErrorHandlingConfig.kafkaErrorHandler(kafkaTemplate));
@@ -99,6 +124,76 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    /**
+     * ElasticSearchEvent 배치 Listener Container Factory
+     * poll 단위로 이벤트를 모아 아티스트별로 합친 뒤 한 번에 처리/커밋
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> elasticSearchBatchKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+
+        ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(elasticSearchConsumerFactory());
+        factory.setBatchListener(true);
+
+        // 배치 전체를 한 번에 수동 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        factory.setConcurrency(esConcurrency);
+
+        // BatchListenerFailedException이면 실패 레코드만 DLQ, 그 외에는 배치 전체 재시도 후 레코드별 DLQ
+        factory.setCommonErrorHandler(kafkaErrorHandlingConfig.kafkaErrorHandler(kafkaTemplate));
+
+        return factory;
+    }
+
+    /**
+     * ES 재시도 단계 토픽용 Listener Container Factory
+     * 단계마다 별도 컨테이너로 동작 (긴 지연 단계의 대기가 짧은 단계를 막지 않도록)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> elasticSearchRetryKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+
+        ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(elasticSearchConsumerFactory());
+
+        // 지연 대기는 nack(sleep)으로 파티션을 멈춰 처리 (poll은 계속)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(1);
+
+        // 실패 시 다음 단계 또는 DLQ로 이동
+        factory.setCommonErrorHandler(kafkaErrorHandlingConfig.kafkaErrorHandler(kafkaTemplate));
+
+        return factory;
+    }
+
+    /**
+     * 자동완성 인덱스 갱신용 Listener Container Factory
+     * 인스턴스마다 고정된 별도 그룹으로 모든 동기화 이벤트를 받음
+     * - 오프셋은 커밋하지 않음: 항상 latest부터 읽고, 재시작 시 전체 재구성으로 보정
+     * - 커밋된 오프셋이 없는 그룹은 멤버가 나가면 브로커가 정리하므로 재시작마다 그룹이 쌓이지 않음
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> autocompleteKafkaListenerContainerFactory() {
+        Map<String, Object> configProps = new HashMap<>(elasticSearchConsumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, autocompleteGroupIdPrefix + "-" + autocompleteInstanceId);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        // MANUAL + 리스너가 ack하지 않음 → 컨테이너도 오프셋을 커밋하지 않음
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(1);
+        return factory;
+    }
+
     /**
      * DLQ 메시지용 Consumer Factory
      */
@@ -110,10 +205,10 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, dlqGroupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, CompactEventDeserializer.class);
         
-        // JSON 역직렬화 설정
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        // 바이너리/JSON 역직렬화 설정 (JSON은 이벤트 패키지만 신뢰)
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, EVENT_PACKAGE);
         configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, DlqMessage.class.getName());
         
@@ -137,11 +232,65 @@ public class KafkaConsumerConfig {
         // 수동 커밋 모드 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         
-        // DLQ는 단일 스레드로 처리 (순서 보장)
+        // DLQ는 단일 스레드로 시작 (저장소는 위치 기준 멱등, backlog가 쌓이면 ListenerConcurrencyAutoscaler가 확장)
         factory.setConcurrency(1);
         
         // DLQ는 에러 핸들러 없음 (최종 처리)
         
         return factory;
     }
+
+    /**
+     * 재생 이벤트 윈도우 집계용 Listener Container Factory
+     * - 오프셋은 집계 전송 트랜잭션으로만 커밋 (컨테이너는 커밋하지 않음)
+     * - 한 Consumer 스레드가 윈도우 상태를 소유하도록 동시성 1 (인스턴스를 늘리면 파티션 단위로 분산)
+     * - 재생이 없어도 윈도우를 닫도록 주기적으로 idle 이벤트 발행
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PlayEvent> playEventKafkaListenerContainerFactory(
+            PlayWindowAggregator playWindowAggregator) {
+        ConcurrentKafkaListenerContainerFactory<String, PlayEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                playConsumerProps(playAggregatorGroupId, PlayEvent.class, 2000, "read_uncommitted")));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setIdleEventInterval(Duration.ofSeconds(5).toMillis());
+        factory.getContainerProperties().setConsumerRebalanceListener(playWindowAggregator);
+        factory.setConcurrency(1);
+        factory.setCommonErrorHandler(kafkaErrorHandlingConfig.playAggregationErrorHandler());
+        return factory;
+    }
+
+    /**
+     * 재생 집계 반영용 Listener Container Factory (커밋된 집계 트랜잭션만 읽음)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PlayAggregate> playAggregateKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PlayAggregate> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                playConsumerProps(playWriterGroupId, PlayAggregate.class, 1000, "read_committed")));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(1);
+        factory.setCommonErrorHandler(kafkaErrorHandlingConfig.playAggregationErrorHandler());
+        return factory;
+    }
+
+    private Map<String, Object> playConsumerProps(String groupId, Class<?> valueType, int maxPollRecords, String isolationLevel) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, CompactEventDeserializer.class);
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, EVENT_PACKAGE);
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, valueType.getName());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, isolationLevel);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return configProps;
+    }
 }
@@ -1,63 +1,61 @@
 package MusicBellBackEnd.MusicBellBackEnd.Kafka.Config;
 
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
-import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.util.backoff.FixedBackOff;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Kafka Consumer 에러 핸들링 및 재시도 설정
  * 
  * 주요 기능:
- * 1. 재시도 메커니즘 (Exponential Backoff)
+ * 1. 비차단 재시도 (실패 레코드를 지연 단계 토픽으로 즉시 이동, 컨테이너 내 backoff 없음)
  * 2. DLQ (Dead Letter Queue) 처리
  * 3. 에러 로깅 및 모니터링
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class KafkaErrorHandlingConfig {
 
-    @Value("${spring.kafka.topics.es-sending}")
-    private String originalTopic;
-
-    @Value("${spring.kafka.topics.es-retry}")
-    private String retryTopic;
-
     @Value("${spring.kafka.topics.es-dlq}")
     private String dlqTopic;
 
+    private final EsRetryTiers esRetryTiers;
+
+    // DLQ 메시지에 남길 예외당 스택 프레임 수
+    private static final int STACK_TRACE_FRAMES = 15;
+
     /**
      * 에러 핸들러 설정
-     * - 최대 3회 재시도
-     * - Exponential Backoff: 1초 → 2초 → 4초
-     * - 최종 실패 시 DLQ로 이동
+     * - 컨테이너 안에서는 재시도하지 않음 (poison 이벤트가 파티션을 막지 않도록)
+     * - 재시도 가능한 실패는 다음 단계 토픽(es-retry-1 → 2 → 3)으로, 마지막 단계 실패는 DLQ로 이동
+     * - 검증 오류 등 재시도해도 소용없는 예외는 즉시 DLQ로 이동
      */
     @Bean
     public CommonErrorHandler kafkaErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
         log.info("kafkaErrorHandler 작동");
-        // Exponential Backoff 설정
-        ExponentialBackOff backOff = new ExponentialBackOff();
-        backOff.setInitialInterval(1000L);      // 첫 번째 재시도: 1초 후
-        backOff.setMultiplier(2.0);             // 배수: 2배씩 증가
-        backOff.setMaxInterval(10000L);         // 최대 대기시간: 10초
-        backOff.setMaxElapsedTime(30000L);      // 전체 재시도 시간: 30초
-
         DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-            // DLQ로 메시지 전송하는 복구 함수
+            // 다음 단계 토픽 또는 DLQ로 보내는 복구 함수
             (consumerRecord, exception) -> {
-                handleDlqMessage(consumerRecord, exception, kafkaTemplate);
+                routeFailedRecord(consumerRecord, exception, kafkaTemplate);
             },
-            backOff
+            new FixedBackOff(0L, 0L)
         );
 
         // 재시도하지 않을 예외 타입 설정 (즉시 DLQ로 이동)
@@ -66,19 +64,84 @@ public class KafkaErrorHandlingConfig {
             NullPointerException.class
         );
 
-        // 에러 발생 시 로깅
-        errorHandler.setRetryListeners((record, ex, deliveryAttempt) -> {
-            log.warn("메시지 처리 재시도 - 시도 횟수: {}, 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}", 
-                deliveryAttempt, 
-                record.topic(), 
-                record.partition(), 
-                record.offset(), 
-                ex.getMessage());
-        });
+        return errorHandler;
+    }
 
+    /**
+     * 재생 집계 단계 에러 핸들러 (music-plays 집계, play-aggregates 반영)
+     * - 실패한 배치를 건너뛰면 재생수가 유실되므로 복구(스킵) 없이 계속 재시도
+     * - 처리 후 컨테이너 커밋 없음 (집계는 Kafka 트랜잭션으로, 반영은 DB에 저장한 위치로 중복 방지)
+     */
+    public CommonErrorHandler playAggregationErrorHandler() {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(5000L, FixedBackOff.UNLIMITED_ATTEMPTS));
+        errorHandler.setAckAfterHandle(false);
         return errorHandler;
     }
 
+    /**
+     * 실패 레코드를 다음 재시도 단계 또는 DLQ로 이동
+     */
+    private void routeFailedRecord(ConsumerRecord<?, ?> consumerRecord, Exception exception,
+                                   KafkaTemplate<String, Object> kafkaTemplate) {
+        Throwable cause = unwrap(exception);
+        String nextTopic = isNotRetryable(cause) ? dlqTopic : esRetryTiers.nextTopic(consumerRecord.topic());
+        if (dlqTopic.equals(nextTopic)) {
+            handleDlqMessage(consumerRecord, exception, kafkaTemplate);
+            esRetryTiers.recordDeadLettered(consumerRecord.topic());
+            return;
+        }
+
+        try {
+            ProducerRecord<String, Object> retryRecord = new ProducerRecord<>(nextTopic, null,
+                consumerRecord.key() != null ? consumerRecord.key().toString() : null, consumerRecord.value());
+            // 원본 위치는 처음 실패한 토픽 기준으로 유지
+            copyOrSet(consumerRecord, retryRecord, EsRetryTiers.HEADER_ORIGINAL_TOPIC, consumerRecord.topic());
+            copyOrSet(consumerRecord, retryRecord, EsRetryTiers.HEADER_ORIGINAL_PARTITION, String.valueOf(consumerRecord.partition()));
+            copyOrSet(consumerRecord, retryRecord, EsRetryTiers.HEADER_ORIGINAL_OFFSET, String.valueOf(consumerRecord.offset()));
+            retryRecord.headers().add(EsRetryTiers.HEADER_ATTEMPT,
+                String.valueOf(esRetryTiers.tierOf(nextTopic)).getBytes(StandardCharsets.UTF_8));
+
+            // 전송 확인 후 커밋되도록 대기 (실패 시 예외 → 같은 레코드 재전달)
+            kafkaTemplate.send(retryRecord).get(10, TimeUnit.SECONDS);
+            esRetryTiers.recordForwarded(nextTopic);
+            log.warn("메시지 처리 실패 → 재시도 단계 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, 다음: {}, 에러: {}",
+                consumerRecord.topic(),
+                consumerRecord.partition(),
+                consumerRecord.offset(),
+                nextTopic,
+                exception.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 전송 중단: " + nextTopic, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("재시도 토픽 전송 실패: " + nextTopic, e);
+        }
+    }
+
+    private static boolean isNotRetryable(Throwable cause) {
+        return cause instanceof IllegalArgumentException || cause instanceof NullPointerException;
+    }
+
+    // 리스너 예외는 ListenerExecutionFailedException 등으로 감싸져 전달됨
+    private static Throwable unwrap(Throwable exception) {
+        Throwable cause = exception;
+        while ((cause instanceof ListenerExecutionFailedException || cause instanceof BatchListenerFailedException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static void copyOrSet(ConsumerRecord<?, ?> from, ProducerRecord<String, Object> to, String header, String value) {
+        Header existing = from.headers().lastHeader(header);
+        to.headers().add(header, existing != null ? existing.value() : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String headerValue(ConsumerRecord<?, ?> consumerRecord, String header) {
+        Header existing = consumerRecord.headers().lastHeader(header);
+        return existing != null ? new String(existing.value(), StandardCharsets.UTF_8) : null;
+    }
+
     /**
      * DLQ로 메시지 전송 처리
      */
@@ -91,20 +154,28 @@ public class KafkaErrorHandlingConfig {
                 consumerRecord.offset(), 
                 exception.getMessage());
 
+            // 재시도 단계에서 온 레코드는 처음 실패한 원본 위치로 기록
+            String originalTopic = headerValue(consumerRecord, EsRetryTiers.HEADER_ORIGINAL_TOPIC);
+            String originalPartition = headerValue(consumerRecord, EsRetryTiers.HEADER_ORIGINAL_PARTITION);
+            String originalOffset = headerValue(consumerRecord, EsRetryTiers.HEADER_ORIGINAL_OFFSET);
+
             // DLQ 메시지 생성 (원본 메시지 + 에러 정보)
             DlqMessage dlqMessage = DlqMessage.builder()
-                .originalTopic(consumerRecord.topic())
-                .originalPartition(consumerRecord.partition())
-                .originalOffset(consumerRecord.offset())
+                .originalTopic(originalTopic != null ? originalTopic : consumerRecord.topic())
+                .originalPartition(originalPartition != null ? Integer.valueOf(originalPartition) : consumerRecord.partition())
+                .originalOffset(originalOffset != null ? Long.valueOf(originalOffset) : consumerRecord.offset())
                 .originalKey(consumerRecord.key() != null ? consumerRecord.key().toString() : null)
                 .originalValue(consumerRecord.value())
                 .errorMessage(exception.getMessage())
                 .errorClass(exception.getClass().getSimpleName())
+                .stackTrace(DlqMessage.compactStackTrace(unwrap(exception), STACK_TRACE_FRAMES))
                 .failureTimestamp(System.currentTimeMillis())
+                .retryCount(esRetryTiers.tierOf(consumerRecord.topic()))
+                .processingStatus(esRetryTiers.tierOf(consumerRecord.topic()) > 0 ? "RETRY_EXHAUSTED" : "FAILED")
                 .build();
 
-            // DLQ 토픽으로 전송
-            kafkaTemplate.send(dlqTopic, dlqMessage);
+            // DLQ 토픽으로 전송 (원본 키 유지)
+            kafkaTemplate.send(dlqTopic, dlqMessage.getOriginalKey(), dlqMessage);
             
             log.info("DLQ 메시지 전송 완료: {}", dlqMessage);
 
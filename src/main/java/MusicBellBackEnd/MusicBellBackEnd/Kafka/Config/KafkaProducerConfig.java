@@ -0,0 +1,130 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Config;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde.CompactEventSerializer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka Producer 설정
+ *
+ * 주요 기능:
+ * 1. 멱등 Producer (acks=all, 재시도 시 중복/순서 뒤바뀜 방지)
+ * 2. linger/batch로 묶어 전송 (outbox 릴레이가 배치 단위로 보내므로 요청 수 감소)
+ * 3. 배치 단위 압축
+ * 4. 재생 집계 전용 트랜잭션 Producer (exactly-once 집계)
+ * 5. 내부 이벤트 바이너리 직렬화 (선택)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaProducerConfig {
+
+    // spring.kafka.* (bootstrap-servers, producer.*, ssl, security 등) - 튜닝 값은 그 위에 덮어씀
+    private final KafkaProperties kafkaProperties;
+    private final ObjectProvider<SslBundles> sslBundles;
+
+    @Value("${musicbell.kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${musicbell.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${musicbell.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    // 내부 이벤트(ES/DLQ/재생) 바이너리 직렬화 (그 외 값은 계속 JSON)
+    @Value("${musicbell.kafka.serde.compact.enabled:false}")
+    private boolean compactValues;
+
+    @Value("${musicbell.kafka.play-aggregation.transaction-id-prefix:musicbell-play-agg-}")
+    private String transactionIdPrefix;
+
+    /**
+     * 공통 Producer 설정 (벤치마크에서도 같은 설정을 사용)
+     */
+    public static Map<String, Object> producerProps(String bootstrapServers, int lingerMs, int batchSize, String compressionType) {
+        return producerProps(bootstrapServers, lingerMs, batchSize, compressionType, false);
+    }
+
+    /**
+     * @param compactValues 내부 이벤트를 바이너리로 전송 (Consumer는 JSON/바이너리 모두 읽으므로 Consumer 배포 후 켬)
+     */
+    public static Map<String, Object> producerProps(String bootstrapServers, int lingerMs, int batchSize, String compressionType,
+                                                    boolean compactValues) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        return applyTuning(configProps, lingerMs, batchSize, compressionType, compactValues);
+    }
+
+    /**
+     * 기본 Producer 설정 위에 직렬화/멱등/배치/압축 설정을 덮어씀
+     */
+    private static Map<String, Object> applyTuning(Map<String, Object> configProps, int lingerMs, int batchSize, String compressionType,
+                                                   boolean compactValues) {
+        // 직렬화
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, compactValues ? CompactEventSerializer.class : JsonSerializer.class);
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+        // 멱등성 (in-flight 5 이하면 파티션 내 순서 유지)
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
+
+        // 배치/압축
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return configProps;
+    }
+
+    // spring.kafka.producer.* 설정 + 튜닝 값
+    private Map<String, Object> producerProps() {
+        Map<String, Object> configProps = new HashMap<>(kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()));
+        return applyTuning(configProps, lingerMs, batchSize, compressionType, compactValues);
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProps());
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 재생 집계 전송용 트랜잭션 Producer
+     * 집계 레코드와 music-plays 오프셋 커밋을 한 트랜잭션으로 묶음 (인스턴스마다 다른 transactional.id)
+     */
+    @Bean
+    public ProducerFactory<String, PlayAggregate> playAggregateProducerFactory() {
+        DefaultKafkaProducerFactory<String, PlayAggregate> factory =
+                new DefaultKafkaProducerFactory<>(producerProps());
+        factory.setTransactionIdPrefix(transactionIdPrefix + UUID.randomUUID() + "-");
+        return factory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, PlayAggregate> playAggregateKafkaTemplate(
+            ProducerFactory<String, PlayAggregate> playAggregateProducerFactory) {
+        return new KafkaTemplate<>(playAggregateProducerFactory);
+    }
+}
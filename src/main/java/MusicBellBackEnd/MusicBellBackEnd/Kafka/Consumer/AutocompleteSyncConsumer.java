@@ -0,0 +1,47 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistRepository;
+import MusicBellBackEnd.MusicBellBackEnd.Autocomplete.AutocompleteService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+/**
+ * ES 동기화 이벤트로 자동완성 인덱스 증분 갱신
+ *
+ * ES Consumer와 별개인 인스턴스별 그룹이라 모든 인스턴스가 같은 이벤트를 받음.
+ * 오프셋을 커밋하지 않으므로 Acknowledgment를 받지 않음 (재시작 시 latest부터).
+ * 실패해도 재시도/DLQ 없이 로그만 남김 (주기적 전체 재구성으로 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteSyncConsumer {
+
+    private final ArtistRepository artistRepository;
+    private final AutocompleteService autocompleteService;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.es-sending}",
+            containerFactory = "autocompleteKafkaListenerContainerFactory"
+    )
+    public void handleElasticSearchEvent(@Payload ElasticSearchEvent event) {
+        if (event == null || event.getArtistId() == null || event.getAction() == null) {
+            return;
+        }
+        try {
+            switch (event.getAction().toLowerCase()) {
+                case "sync" -> artistRepository.findById(event.getArtistId())
+                        .ifPresentOrElse(autocompleteService::upsertArtist,
+                                () -> autocompleteService.removeArtist(event.getArtistId()));
+                case "delete" -> autocompleteService.removeArtist(event.getArtistId());
+                default -> log.debug("자동완성 갱신 대상 아님: action={}", event.getAction());
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 갱신 실패: artistId={}, error={}", event.getArtistId(), e.getMessage());
+        }
+    }
+}
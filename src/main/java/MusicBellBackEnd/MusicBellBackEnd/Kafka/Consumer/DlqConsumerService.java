@@ -1,7 +1,10 @@
 package MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer;
 
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqReplayService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqStoreService;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling.ListenerConcurrencyAutoscaler;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +15,10 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * DLQ(Dead Letter Queue) 메시지 처리 Consumer
  * 
@@ -19,13 +26,17 @@ import org.springframework.stereotype.Service;
  * 1. DLQ 메시지 수신 및 로깅
  * 2. 알림 발송 (관리자에게)
  * 3. 수동 재처리 지원
- * 4. 통계 및 모니터링
+ * 4. 통계 및 모니터링 (로컬 저장소 기록)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DlqConsumerService {
 
+    private final DlqReplayService dlqReplayService;
+    private final DlqStoreService dlqStoreService;
+    private final ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler;
+
     @PostConstruct
     public void init() {
         log.error("🚀🚀🚀 DlqConsumerService 초기화 완료! 🚀🚀🚀");
@@ -33,6 +44,7 @@ public class DlqConsumerService {
     }
 
     @KafkaListener(
+            id = ListenerConcurrencyAutoscaler.DLQ_LISTENER_ID,
             topics = "${spring.kafka.topics.es-dlq}",
             groupId = "${spring.kafka.dlq.consumer.group-id}",
             containerFactory = "dlqKafkaListenerContainerFactory"
@@ -53,12 +65,18 @@ public class DlqConsumerService {
         log.error("실패 시간: {}", dlqMessage.getFailureDateTime());
         log.error("💀💀💀 DLQ 처리 진행 중... 💀💀💀");
 
+        long startNanos = System.nanoTime();
+
+        // 로컬 저장소 기록 (실패 시 커밋하지 않고 재전달 - 같은 위치는 한 번만 저장)
+        dlqStoreService.save(dlqMessage, partition, offset);
+
         try {
             // DLQ 메시지 처리
             processDlqMessage(dlqMessage);
             
             // 성공 시 커밋
             acknowledgment.acknowledge();
+            listenerConcurrencyAutoscaler.recordProcessing(ListenerConcurrencyAutoscaler.DLQ_TARGET, 1, System.nanoTime() - startNanos);
             
         } catch (Exception e) {
             log.error("DLQ 메시지 처리 중 오류 발생", e);
@@ -166,8 +184,8 @@ public class DlqConsumerService {
             
             // 재처리 가능한 조건 확인
             if (isRetryableError(dlqMessage)) {
+                // 장애 복구 후 POST /api/v1/kafka/dlq/replay (errorClass/시간 필터)로 속도 제한 재처리
                 log.warn("재처리 가능한 ElasticSearch DLQ 메시지: {}", dlqMessage.getSummary());
-                // TODO: ElasticSearch 전용 재처리 로직
             }
             
             // ElasticSearch 특화 분석
@@ -248,17 +266,21 @@ public class DlqConsumerService {
 
     /**
      * 수동 재처리 메서드 (관리자용)
+     * 원본 토픽에 원본 키로 재전송하고 브로커 확인까지 대기
      */
     public void manualRetryDlqMessage(DlqMessage dlqMessage) {
         log.info("DLQ 메시지 수동 재처리 시작: {}", dlqMessage.getSummary());
         
         try {
-            // TODO: 원본 토픽으로 메시지 재전송 로직 구현
+            dlqReplayService.republish(dlqMessage).get(30, TimeUnit.SECONDS);
             log.info("DLQ 메시지 수동 재처리 완료: {}", dlqMessage.getSummary());
             
-        } catch (Exception e) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLQ 메시지 수동 재처리 중단", e);
+        } catch (ExecutionException | TimeoutException e) {
             log.error("DLQ 메시지 수동 재처리 실패", e);
-            throw e;
+            throw new IllegalStateException("DLQ 메시지 재전송 실패: " + e.getMessage(), e);
         }
     }
 }
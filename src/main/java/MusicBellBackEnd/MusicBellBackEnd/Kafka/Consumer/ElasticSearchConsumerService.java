@@ -3,11 +3,14 @@ package MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistSyncService;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling.ListenerConcurrencyAutoscaler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -17,6 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ElasticSearch 이벤트 처리 Consumer
@@ -32,6 +41,12 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class ElasticSearchConsumerService {
     private final ArtistSyncService artistSyncService;
+    private final ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler;
+    private final KeyOrderedVirtualExecutor keyOrderedVirtualExecutor;
+
+    // 켜면 배치의 아티스트별 처리를 가상 스레드로 동시에 수행 (기본은 bulk 한 번)
+    @Value("${musicbell.kafka.es.virtual-threads.enabled:false}")
+    private boolean virtualThreadsEnabled;
 
     @PostConstruct
     public void init() {
@@ -39,10 +54,13 @@ public class ElasticSearchConsumerService {
         log.error("ElasticSearchConsumer가 es-sending 토픽을 구독하기 시작합니다!");
     }
 
+    // 배치 모드가 꺼져 있을 때만 동작하는 단건 Listener
     @KafkaListener(
+            id = ListenerConcurrencyAutoscaler.ES_SINGLE_LISTENER_ID,
             topics = "${spring.kafka.topics.es-sending}",
             groupId = "${spring.kafka.es.consumer.group-id}",
-            containerFactory = "elasticSearchKafkaListenerContainerFactory"
+            containerFactory = "elasticSearchKafkaListenerContainerFactory",
+            autoStartup = "#{!${musicbell.kafka.es.batch-listener.enabled:true}}"
     )
     public void handleElasticSearchEvent(
             @Payload ElasticSearchEvent event,
@@ -74,6 +92,7 @@ public class ElasticSearchConsumerService {
             
             // 성공 로그 및 메트릭스
             Duration processingTime = Duration.between(startTime, Instant.now());
+            listenerConcurrencyAutoscaler.recordProcessing(ListenerConcurrencyAutoscaler.ES_TARGET, 1, processingTime.toNanos());
             log.info("ElasticSearch 이벤트 처리 완료 - ArtistId: {}, Action: {}, 처리시간: {}ms", 
                 event.getArtistId(), event.getAction(), processingTime.toMillis());
                 
@@ -90,6 +109,128 @@ public class ElasticSearchConsumerService {
         }
     }
 
+    /**
+     * 배치 Listener: poll 단위로 아티스트별 마지막 액션만 남겨 한 번에 처리하고 한 번에 커밋
+     * (가상 스레드 모드에서는 아티스트별로 동시에 처리하고 실패 위치 앞까지만 커밋)
+     * 재생/좋아요마다 발생하는 같은 아티스트의 이벤트가 한 건의 색인으로 합쳐짐
+     * stats 이벤트는 같은 배치에 sync/delete가 있으면 흡수되고(전체 동기화가 통계도 포함), 단독일 때만 부분 업데이트
+     */
+    @KafkaListener(
+            id = ListenerConcurrencyAutoscaler.ES_BATCH_LISTENER_ID,
+            topics = "${spring.kafka.topics.es-sending}",
+            groupId = "${spring.kafka.es.consumer.group-id}",
+            containerFactory = "elasticSearchBatchKafkaListenerContainerFactory",
+            autoStartup = "${musicbell.kafka.es.batch-listener.enabled:true}"
+    )
+    public void handleElasticSearchEvents(
+            List<ConsumerRecord<String, ElasticSearchEvent>> records,
+            Acknowledgment acknowledgment) {
+
+        Instant startTime = Instant.now();
+
+        // 아티스트별 마지막 액션 (last action wins) + 아티스트별 첫 레코드 위치
+        Map<Long, String> lastActions = new LinkedHashMap<>();
+        Map<Long, Integer> firstRecordIndexes = new HashMap<>();
+        int firstInvalidIndex = -1;
+        IllegalArgumentException firstInvalid = null;
+        for (int i = 0; i < records.size(); i++) {
+            ElasticSearchEvent event = records.get(i).value();
+            try {
+                validateEvent(event);
+            } catch (IllegalArgumentException e) {
+                if (firstInvalid == null) {
+                    firstInvalidIndex = i;
+                    firstInvalid = e;
+                }
+                continue;
+            }
+            String previous = lastActions.remove(event.getArtistId());
+            lastActions.put(event.getArtistId(), ElasticSearchEvent.mergeAction(previous, event.getAction().toLowerCase()));
+            firstRecordIndexes.putIfAbsent(event.getArtistId(), i);
+        }
+
+        List<Long> syncIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        List<Long> statsIds = new ArrayList<>();
+        lastActions.forEach((artistId, action) -> {
+            switch (action) {
+                case "delete" -> deleteIds.add(artistId);
+                case "stats" -> statsIds.add(artistId);
+                default -> syncIds.add(artistId);
+            }
+        });
+
+        if (virtualThreadsEnabled) {
+            processOnVirtualThreads(records, lastActions, firstRecordIndexes, firstInvalidIndex);
+        } else {
+            try {
+                artistSyncService.syncArtists(syncIds, deleteIds);
+                if (!statsIds.isEmpty()) {
+                    artistSyncService.syncArtistStats(statsIds);
+                }
+            } catch (Exception e) {
+                // 배치 전체 재시도 (ErrorHandler에서 처리, 최종 실패 시 레코드별 DLQ)
+                log.error("ElasticSearch 배치 처리 실패 (재시도 예정) - records: {}, artists: {}, Error: {}",
+                    records.size(), lastActions.size(), e.getMessage(), e);
+                throw new ElasticSearchProcessingException("ElasticSearch 배치 처리 실패", e, null);
+            }
+        }
+
+        if (firstInvalid != null) {
+            // 유효한 이벤트는 이미 반영됨 → 잘못된 레코드만 DLQ, 이후 레코드는 재전달(멱등 sync)
+            log.error("ElasticSearch 이벤트 검증 실패 (재시도 안함) - index: {}, error: {}", firstInvalidIndex, firstInvalid.getMessage());
+            throw new BatchListenerFailedException(firstInvalid.getMessage(), firstInvalid, firstInvalidIndex);
+        }
+
+        acknowledgment.acknowledge();
+
+        Duration processingTime = Duration.between(startTime, Instant.now());
+        listenerConcurrencyAutoscaler.recordProcessing(ListenerConcurrencyAutoscaler.ES_TARGET, records.size(), processingTime.toNanos());
+        log.info("ElasticSearch 배치 처리 완료 - records: {}, artists: {} (sync: {}, delete: {}, stats: {}), 처리시간: {}ms",
+            records.size(), lastActions.size(), syncIds.size(), deleteIds.size(), statsIds.size(), processingTime.toMillis());
+    }
+
+    /**
+     * 가상 스레드 모드: 합쳐진 아티스트별 액션을 아티스트마다 가상 스레드에서 단건 처리
+     * 실패한 아티스트의 첫 레코드가 잘못된 레코드보다 앞서면 그 위치에서 끊음 → 앞쪽만 커밋, 실패 레코드는 재시도 단계로, 이후는 재전달
+     */
+    private void processOnVirtualThreads(List<ConsumerRecord<String, ElasticSearchEvent>> records,
+                                         Map<Long, String> lastActions,
+                                         Map<Long, Integer> firstRecordIndexes,
+                                         int firstInvalidIndex) {
+        // lastActions는 마지막 등장 순서 → 첫 레코드 위치 순으로 정렬해야 "가장 앞선 실패"가 가장 작은 오프셋이 됨
+        List<Map.Entry<Long, String>> actions = new ArrayList<>(lastActions.entrySet());
+        actions.sort(Comparator.comparing(action -> firstRecordIndexes.get(action.getKey())));
+        KeyOrderedVirtualExecutor.Failure failure = keyOrderedVirtualExecutor.processByKey(actions, Map.Entry::getKey,
+                action -> processEvent(new ElasticSearchEvent(action.getKey(), action.getValue())));
+        if (failure == null) {
+            return;
+        }
+
+        int failedIndex = failure.index() < actions.size()
+                ? firstRecordIndexes.get(actions.get(failure.index()).getKey())
+                : 0;
+        if (firstInvalidIndex >= 0 && firstInvalidIndex < failedIndex) {
+            // 잘못된 레코드가 더 앞이면 그쪽을 먼저 DLQ로 (실패한 아티스트는 재전달로 다시 처리)
+            return;
+        }
+        ElasticSearchEvent failedEvent = records.get(failedIndex).value();
+        log.error("ElasticSearch 이벤트 처리 실패 (재시도 예정) - index: {}, Event: {}, Error: {}",
+            failedIndex, failedEvent, failure.cause().getMessage(), failure.cause());
+        throw new BatchListenerFailedException("ElasticSearch 이벤트 처리 실패",
+            new ElasticSearchProcessingException("ElasticSearch 이벤트 처리 실패", failure.cause(), failedEvent), failedIndex);
+    }
+
+    /**
+     * 재시도 단계 Consumer용: 액션과 무관하게 현재 DB 상태로 다시 색인 (실패 시 예외를 그대로 던짐)
+     * 재시도 중에도 es-sending의 같은 아티스트 이벤트는 계속 처리되므로 이벤트의 액션을 그대로 적용하면
+     * 오래된 sync가 더 새로운 delete 뒤에 반영될 수 있음 → DB 행(소프트 삭제 포함)과 행 버전 기준으로만 기록
+     */
+    public void resyncFromSource(ElasticSearchEvent event) {
+        validateEvent(event);
+        artistSyncService.syncArtists(List.of(event.getArtistId()), List.of());
+    }
+
     /**
      * 이벤트 입력 검증
      */
@@ -116,7 +257,8 @@ public class ElasticSearchConsumerService {
      * 유효한 액션인지 확인
      */
     private boolean isValidAction(String action) {
-        return "sync".equalsIgnoreCase(action) || "delete".equalsIgnoreCase(action);
+        return "sync".equalsIgnoreCase(action) || "delete".equalsIgnoreCase(action)
+                || "stats".equalsIgnoreCase(action);
     }
 
     /**
@@ -139,6 +281,12 @@ public class ElasticSearchConsumerService {
                 log.info("ElasticSearch 인덱스 삭제 완료 - ArtistId: {}", artistId);
                 break;
                 
+            case "stats":
+                log.debug("ElasticSearch 통계 업데이트 시작 - ArtistId: {}", artistId);
+                artistSyncService.syncArtistStats(List.of(artistId));
+                log.info("ElasticSearch 통계 업데이트 완료 - ArtistId: {}", artistId);
+                break;
+
             default:
                 throw new IllegalArgumentException("알 수 없는 ElasticSearch 작업 타입: " + action);
         }
@@ -0,0 +1,61 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * ES 이벤트 재시도 단계 Consumer
+ *
+ * - 단계 지연이 지나지 않은 레코드는 nack(sleep)으로 해당 단계 컨테이너만 잠시 멈춤
+ *   (같은 단계의 레코드는 같은 지연으로 들어오므로 먼저 온 레코드가 먼저 처리 가능)
+ * - 재시도 시점의 DB 상태로 다시 색인 (이벤트 액션을 그대로 적용하지 않음 - 그 사이 처리된 더 새로운 이벤트를 되돌리지 않도록)
+ * - 실패하면 ErrorHandler가 다음 단계 또는 DLQ로 이동
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EsRetryConsumerService {
+
+    private final ElasticSearchConsumerService elasticSearchConsumerService;
+    private final EsRetryTiers esRetryTiers;
+
+    @KafkaListener(
+            id = "es-retry-1",
+            topics = "${spring.kafka.topics.es-retry}-1",
+            groupId = "${spring.kafka.es.consumer.group-id}",
+            containerFactory = "elasticSearchRetryKafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "es-retry-2",
+            topics = "${spring.kafka.topics.es-retry}-2",
+            groupId = "${spring.kafka.es.consumer.group-id}",
+            containerFactory = "elasticSearchRetryKafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "es-retry-3",
+            topics = "${spring.kafka.topics.es-retry}-3",
+            groupId = "${spring.kafka.es.consumer.group-id}",
+            containerFactory = "elasticSearchRetryKafkaListenerContainerFactory"
+    )
+    public void handleRetryEvent(ConsumerRecord<String, ElasticSearchEvent> consumerRecord, Acknowledgment acknowledgment) {
+        long waitMs = esRetryTiers.dueAt(consumerRecord.topic(), consumerRecord.timestamp()) - System.currentTimeMillis();
+        if (waitMs > 0) {
+            acknowledgment.nack(Duration.ofMillis(waitMs));
+            return;
+        }
+
+        elasticSearchConsumerService.resyncFromSource(consumerRecord.value());
+        acknowledgment.acknowledge();
+        esRetryTiers.recordRecovered(consumerRecord.topic());
+        log.info("ElasticSearch 이벤트 재시도 성공 - Topic: {}, Offset: {}, Event: {}",
+                consumerRecord.topic(), consumerRecord.offset(), consumerRecord.value());
+    }
+}
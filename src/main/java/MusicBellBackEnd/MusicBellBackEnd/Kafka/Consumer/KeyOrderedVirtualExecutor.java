@@ -0,0 +1,97 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 키 단위 순서 보장 가상 스레드 실행기
+ *
+ * - poll 하나의 항목을 키별로 묶어 키마다 가상 스레드 하나에서 순서대로 처리 (다른 키끼리는 동시에)
+ * - 키 안에서 실패하면 그 키의 이후 항목은 처리하지 않음 (재전달 시 순서대로 다시 처리)
+ * - 호출 스레드는 모든 키가 끝날 때까지 대기하고, 가장 앞선 실패 위치를 돌려줌 → 그 앞까지만 커밋
+ * - ES/MySQL I/O 대기 중에는 캐리어 스레드를 점유하지 않으므로 파티션을 늘리지 않고 처리량 확보
+ */
+@Slf4j
+@Component
+public class KeyOrderedVirtualExecutor {
+
+    // 동시에 처리하는 키 수 상한 (모든 리스너 스레드가 공유)
+    // 키 처리마다 DB 커넥션을 하나씩 잡으므로 기본값은 Hikari 풀 크기(기본 10)와 같게 둠
+    // - 풀보다 크면 남는 가상 스레드는 connectionTimeout까지 커넥션을 기다리다 실패하고 재전달만 늘어남
+    // - 풀 크기를 올리면 함께 올라가고, API 요청 몫을 남기려면 max-in-flight를 풀보다 작게 지정
+    private final Semaphore inFlight;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-vt-", 0).factory());
+
+    public KeyOrderedVirtualExecutor(
+            @Value("${musicbell.kafka.virtual-threads.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxInFlight) {
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+    }
+
+    /**
+     * 항목을 키별로 순서대로 처리
+     *
+     * @return 실패가 있으면 목록 순서상 가장 앞선 실패, 없으면 null
+     */
+    public <T> Failure processByKey(List<T> items, Function<T, ?> keyOf, Consumer<T> handler) {
+        Map<Object, List<Integer>> indexesByKey = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            indexesByKey.computeIfAbsent(keyOf.apply(items.get(i)), key -> new ArrayList<>()).add(i);
+        }
+
+        AtomicReference<Failure> firstFailure = new AtomicReference<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByKey.size());
+        try {
+            for (List<Integer> indexes : indexesByKey.values()) {
+                inFlight.acquire();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        for (int index : indexes) {
+                            try {
+                                handler.accept(items.get(index));
+                            } catch (RuntimeException e) {
+                                firstFailure.accumulateAndGet(new Failure(index, e),
+                                        (current, next) -> current == null || next.index() < current.index() ? next : current);
+                                return;
+                            }
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (InterruptedException e) {
+            // 종료 중: 진행 중인 작업은 끝까지 두고 전체를 미커밋으로 남김 (재전달)
+            Thread.currentThread().interrupt();
+            return new Failure(0, new IllegalStateException("가상 스레드 처리 대기 중 인터럽트", e));
+        }
+        return firstFailure.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 가장 앞선 실패 (항목 목록 기준 인덱스 + 원인)
+     */
+    public record Failure(int index, RuntimeException cause) {
+    }
+}
@@ -1,25 +1,30 @@
 package MusicBellBackEnd.MusicBellBackEnd.Kafka.Controller;
 
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.DlqConsumerService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqRecordEntity;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqReplayRequest;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqReplayService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq.DlqStoreService;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring.DlqConsumerPool;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring.KafkaOffsetsCache;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxRelay;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Play.PlayAggregateWriter;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Play.PlayWindowAggregator;
 import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ElasticSearchProducerService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling.ListenerConcurrencyAutoscaler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
-import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.Properties;
 
 /**
  * Kafka 모니터링 및 관리 API
@@ -38,10 +43,17 @@ public class KafkaMonitoringController {
 
     private final ElasticSearchProducerService producerService;
     private final DlqConsumerService dlqConsumerService;
+    private final DlqReplayService dlqReplayService;
     private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
+    private final EsOutboxRelay esOutboxRelay;
+    private final ProducerSendMetrics producerSendMetrics;
+    private final EsRetryTiers esRetryTiers;
+    private final KafkaOffsetsCache kafkaOffsetsCache;
+    private final DlqConsumerPool dlqConsumerPool;
+    private final DlqStoreService dlqStoreService;
+    private final ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler;
+    private final PlayWindowAggregator playWindowAggregator;
+    private final PlayAggregateWriter playAggregateWriter;
 
     @Value("${spring.kafka.topics.es-sending}")
     private String originalTopic;
@@ -49,8 +61,7 @@ public class KafkaMonitoringController {
     @Value("${spring.kafka.topics.es-dlq}")
     private String dlqTopic;
 
-    // 실시간 통계는 실제 Kafka 메트릭에서 조회하도록 변경
-    // static 변수 대신 실제 토픽의 오프셋을 기반으로 계산
+    // 통계는 KafkaOffsetsCache가 백그라운드에서 갱신한 토픽 오프셋 스냅샷을 기반으로 계산
 
     /**
      * 테스트 메시지 발송
@@ -102,9 +113,8 @@ public class KafkaMonitoringController {
         try {
             log.info("DLQ 메시지 수동 재처리 요청: {}", dlqMessage.getSummary());
             
-            // 원본 메시지를 다시 원본 토픽으로 전송
-            Object originalValue = dlqMessage.getOriginalValue();
-            kafkaTemplate.send(originalTopic, originalValue);
+            // 원본 메시지를 원본 키로 원본 토픽에 재전송 (전송 확인까지 대기)
+            dlqConsumerService.manualRetryDlqMessage(dlqMessage);
             
             response.put("success", true);
             response.put("message", "DLQ 메시지 재처리 완료");
@@ -125,6 +135,38 @@ public class KafkaMonitoringController {
         }
     }
 
+    /**
+     * DLQ 일괄 재처리 시작 (오프셋 범위/필터, 속도 제한, 비동기)
+     */
+    @PostMapping("/dlq/replay")
+    public ResponseEntity<DlqReplayService.ReplayJob> startDlqReplay(@RequestBody DlqReplayRequest request) {
+        return ResponseEntity.accepted().body(dlqReplayService.startReplay(request));
+    }
+
+    /**
+     * DLQ 재처리 작업 목록
+     */
+    @GetMapping("/dlq/replay")
+    public ResponseEntity<List<DlqReplayService.ReplayJob>> getDlqReplayJobs() {
+        return ResponseEntity.ok(dlqReplayService.getJobs());
+    }
+
+    /**
+     * DLQ 재처리 작업 상태 (메시지별 상태 포함)
+     */
+    @GetMapping("/dlq/replay/{jobId}")
+    public ResponseEntity<DlqReplayService.ReplayJob> getDlqReplayJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(dlqReplayService.getJob(jobId));
+    }
+
+    /**
+     * DLQ 재처리 작업 취소
+     */
+    @DeleteMapping("/dlq/replay/{jobId}")
+    public ResponseEntity<DlqReplayService.ReplayJob> cancelDlqReplay(@PathVariable String jobId) {
+        return ResponseEntity.ok(dlqReplayService.cancel(jobId));
+    }
+
     /**
      * 에러 발생 테스트 (개발용)
      */
@@ -202,6 +244,7 @@ public class KafkaMonitoringController {
                 "failedMessages", getFailedMessageCount(),
                 "dlqMessages", getDlqMessageCount()
             ));
+            response.put("outboxPending", esOutboxRelay.pendingCount());
             
             return ResponseEntity.ok(response);
             
@@ -216,6 +259,56 @@ public class KafkaMonitoringController {
         }
     }
 
+    /**
+     * Producer 전송 메트릭 조회 (성공/실패 건수, ack 지연)
+     */
+    @GetMapping("/producer/metrics")
+    public ResponseEntity<Map<String, Object>> getProducerMetrics() {
+        Map<String, Object> response = new HashMap<>(producerSendMetrics.snapshot());
+        response.put("success", true);
+        response.put("outboxPending", esOutboxRelay.pendingCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 재시도 단계별 메트릭 조회 (단계 이동/복구/DLQ 건수)
+     */
+    @GetMapping("/retry/metrics")
+    public ResponseEntity<Map<String, Object>> getRetryMetrics() {
+        Map<String, Object> response = new HashMap<>(esRetryTiers.snapshot());
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 토픽 오프셋/Consumer 그룹 lag 조회 (백그라운드 갱신 스냅샷)
+     */
+    @GetMapping("/lag")
+    public ResponseEntity<KafkaOffsetsCache.Snapshot> getLag() {
+        return ResponseEntity.ok(kafkaOffsetsCache.getSnapshot());
+    }
+
+    /**
+     * Listener 동시성 자동 조정 상태 조회 (현재 동시성, lag, 처리 시간, 최근 조정 이력)
+     */
+    @GetMapping("/consumer/autoscale")
+    public ResponseEntity<Map<String, Object>> getConsumerAutoscale() {
+        Map<String, Object> response = new HashMap<>(listenerConcurrencyAutoscaler.snapshot());
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 재생 집계 단계 상태 조회 (열린 윈도우, 버퍼된 재생, 전송/반영된 집계 수)
+     */
+    @GetMapping("/plays/aggregation")
+    public ResponseEntity<Map<String, Object>> getPlayAggregation() {
+        Map<String, Object> response = new HashMap<>(playWindowAggregator.snapshot());
+        response.put("aggregatesApplied", playAggregateWriter.getAggregatesApplied());
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 설정 정보 조회
      */
@@ -239,30 +332,44 @@ public class KafkaMonitoringController {
     }
 
     /**
-     * DLQ 메시지 목록 조회
+     * DLQ 메시지 목록 조회 (로컬 저장소, 최신순)
+     * - errorClass/originalTopic/from/to 필터는 모두 선택
+     * - 깊은 페이지는 이전 응답의 nextCursor를 beforeId로 넘겨 조회
      */
     @GetMapping("/dlq/messages")
     public ResponseEntity<Map<String, Object>> getDlqMessages(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String errorClass,
+            @RequestParam(required = false) String originalTopic,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) Long beforeId) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<DlqMessage> dlqMessages = fetchDlqMessages(page, size);
-            long totalCount = getDlqMessageCount();
+            Slice<DlqRecordEntity> slice = dlqStoreService.search(errorClass, originalTopic, from, to, beforeId, page, size);
+            List<DlqRecordEntity> records = slice.getContent();
+            
+            Map<String, Object> pagination = new HashMap<>();
+            pagination.put("page", page);
+            pagination.put("size", size);
+            pagination.put("hasNext", slice.hasNext());
+            pagination.put("nextCursor", slice.hasNext() && !records.isEmpty() ? records.get(records.size() - 1).getId() : null);
+            // 필터가 없을 때만 카운터 기반 전체 건수 제공 (COUNT 쿼리 없음)
+            if (errorClass == null && originalTopic == null && from == null && to == null) {
+                pagination.put("total", dlqStoreService.getTotalCount());
+            } else if (errorClass != null && originalTopic == null && from == null && to == null) {
+                pagination.put("total", dlqStoreService.getErrorClassCounts().getOrDefault(errorClass, 0L));
+            }
             
             response.put("success", true);
-            response.put("data", dlqMessages);
-            response.put("pagination", Map.of(
-                "page", page,
-                "size", size,
-                "total", totalCount,
-                "totalPages", (totalCount + size - 1) / size
-            ));
+            response.put("data", records.stream().map(dlqStoreService::toDlqMessage).toList());
+            response.put("pagination", pagination);
             response.put("timestamp", System.currentTimeMillis());
             
-            log.info("DLQ 메시지 목록 조회 완료 - Page: {}, Size: {}, Total: {}", page, size, totalCount);
+            log.info("DLQ 메시지 목록 조회 완료 - Page: {}, Size: {}, 반환: {}", page, size, records.size());
             
             return ResponseEntity.ok(response);
             
@@ -277,19 +384,41 @@ public class KafkaMonitoringController {
     }
 
     /**
-     * DLQ 메시지 통계 조회
+     * DLQ 토픽 원본 메시지 조회 (저장소 누락 확인 등 디버깅용)
+     */
+    @GetMapping("/dlq/messages/raw")
+    public ResponseEntity<Map<String, Object>> getRawDlqMessages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        List<DlqMessage> dlqMessages = fetchDlqMessages(page, size);
+        long totalCount = getDlqMessageCount();
+        
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", dlqMessages,
+            "pagination", Map.of(
+                "page", page,
+                "size", size,
+                "total", totalCount,
+                "totalPages", (totalCount + size - 1) / size
+            ),
+            "timestamp", System.currentTimeMillis()
+        ));
+    }
+
+    /**
+     * DLQ 메시지 통계 조회 (메모리 카운터 + 최근 5건)
      */
     @GetMapping("/dlq/stats")
     public ResponseEntity<Map<String, Object>> getDlqStats() {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Map<String, Long> errorStats = getDlqErrorStats();
-            
             response.put("success", true);
-            response.put("totalDlqMessages", getDlqMessageCount());
-            response.put("errorTypeStats", errorStats);
-            response.put("recentFailures", getRecentDlqMessages(5));
+            response.put("totalDlqMessages", dlqStoreService.getTotalCount());
+            response.put("errorTypeStats", dlqStoreService.getErrorClassCounts());
+            response.put("recentFailures", dlqStoreService.getRecent(5));
             response.put("timestamp", System.currentTimeMillis());
             
             return ResponseEntity.ok(response);
@@ -305,22 +434,24 @@ public class KafkaMonitoringController {
     }
 
     /**
-     * DLQ 메시지 삭제 (관리용)
+     * DLQ 메시지 삭제 (관리용, 로컬 저장소에서만 제거 - 토픽은 보존 기간에 맡김)
      */
     @DeleteMapping("/dlq/messages/{offset}")
-    public ResponseEntity<Map<String, Object>> deleteDlqMessage(@PathVariable long offset) {
+    public ResponseEntity<Map<String, Object>> deleteDlqMessage(
+            @PathVariable long offset,
+            @RequestParam(defaultValue = "0") int partition) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // 실제로는 Kafka Admin API를 사용해야 하지만, 
-            // 현재는 로깅만 수행
-            log.info("DLQ 메시지 삭제 요청 - Offset: {}", offset);
+            log.info("DLQ 메시지 삭제 요청 - Partition: {}, Offset: {}", partition, offset);
+            boolean deleted = dlqStoreService.delete(partition, offset);
             
-            response.put("success", true);
-            response.put("message", "DLQ 메시지 삭제 완료");
+            response.put("success", deleted);
+            response.put("message", deleted ? "DLQ 메시지 삭제 완료" : "해당 위치의 DLQ 메시지가 없습니다");
+            response.put("deletedPartition", partition);
             response.put("deletedOffset", offset);
             
-            return ResponseEntity.ok(response);
+            return deleted ? ResponseEntity.ok(response) : ResponseEntity.status(404).body(response);
             
         } catch (Exception e) {
             log.error("DLQ 메시지 삭제 실패", e);
@@ -335,31 +466,21 @@ public class KafkaMonitoringController {
     // ========== 헬퍼 메서드들 ==========
 
     /**
-     * DLQ에서 실제 메시지들을 조회
+     * DLQ에서 실제 메시지들을 조회 (풀의 Consumer로 assign/seek)
      */
     private List<DlqMessage> fetchDlqMessages(int page, int size) {
-        List<DlqMessage> messages = new ArrayList<>();
-        
         try {
-            // 현재는 실제 DLQ 파싱이 복잡하므로 시뮬레이션 데이터 사용
-            // TODO: 실제 DLQ 메시지 파싱 로직 구현 필요
-            log.info("DLQ 메시지 조회 요청 - Page: {}, Size: {}", page, size);
-            
-            // 시뮬레이션 데이터 반환 (실제 DLQ 개수는 getTopicMessageCount로 확인)
-            long dlqCount = getTopicMessageCount(dlqTopic);
-            if (dlqCount > 0) {
-                messages = createMockDlqMessages(page, size);
-            }
-            
-            log.info("DLQ 메시지 조회 완료 - 실제 DLQ 개수: {}, 반환된 메시지: {}", dlqCount, messages.size());
-            
+            List<DlqMessage> messages = dlqConsumerPool.read(page, size);
+            log.info("DLQ 메시지 조회 완료 - Page: {}, Size: {}, 반환된 메시지: {}", page, size, messages.size());
+            return messages;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
         } catch (Exception e) {
             log.error("DLQ 메시지 조회 중 오류 발생", e);
             // 오류 시 빈 리스트 반환
-            messages = new ArrayList<>();
+            return new ArrayList<>();
         }
-        
-        return messages;
     }
 
     /**
@@ -397,128 +518,9 @@ public class KafkaMonitoringController {
     }
     
     /**
-     * 특정 토픽의 메시지 개수를 조회하는 공통 메서드
+     * 특정 토픽의 메시지 개수 (백그라운드에서 갱신된 캐시에서 조회)
      */
     private long getTopicMessageCount(String topicName) {
-        try (KafkaConsumer<String, Object> consumer = createGenericConsumer()) {
-            
-            TopicPartition partition = new TopicPartition(topicName, 0);
-            consumer.assign(Collections.singletonList(partition));
-            
-            // 토픽의 끝으로 이동해서 최신 오프셋 조회
-            consumer.seekToEnd(Collections.singletonList(partition));
-            long latestOffset = consumer.position(partition);
-            
-            // 토픽의 시작으로 이동해서 시작 오프셋 조회
-            consumer.seekToBeginning(Collections.singletonList(partition));
-            long earliestOffset = consumer.position(partition);
-            
-            long messageCount = Math.max(0, latestOffset - earliestOffset);
-            
-            log.debug("토픽 {} 메시지 개수: {} (latest: {}, earliest: {})", 
-                topicName, messageCount, latestOffset, earliestOffset);
-            
-            return messageCount;
-            
-        } catch (Exception e) {
-            log.error("토픽 {} 메시지 개수 조회 중 오류 발생", topicName, e);
-            
-            // 실패 시 기본값 반환
-            if (topicName.equals(dlqTopic)) {
-                return 0; // DLQ는 0개로 시작
-            } else {
-                return 0; // 원본 토픽도 0개로 시작
-            }
-        }
-    }
-    
-    /**
-     * 범용 Kafka Consumer 생성 (Object 타입으로 모든 토픽 조회 가능)
-     */
-    private KafkaConsumer<String, Object> createGenericConsumer() {
-        Properties props = new Properties();
-        props.put("bootstrap.servers", bootstrapServers); // 설정 파일에서 주입받은 값 사용
-        props.put("group.id", "monitoring-consumer-" + System.currentTimeMillis());
-        props.put("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-        props.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-        props.put("auto.offset.reset", "earliest");
-        props.put("enable.auto.commit", "false");
-        
-        log.debug("Kafka Consumer 생성 - Bootstrap Servers: {}", bootstrapServers);
-        
-        return new KafkaConsumer<>(props);
-    }
-
-    /**
-     * DLQ 에러 타입별 통계
-     */
-    private Map<String, Long> getDlqErrorStats() {
-        Map<String, Long> stats = new HashMap<>();
-        
-        try {
-            List<DlqMessage> allMessages = fetchDlqMessages(0, 100); // 최대 100개 조회
-            
-            for (DlqMessage message : allMessages) {
-                String errorClass = message.getErrorClass();
-                stats.put(errorClass, stats.getOrDefault(errorClass, 0L) + 1);
-            }
-            
-        } catch (Exception e) {
-            log.error("DLQ 에러 통계 조회 중 오류 발생", e);
-            
-            // 시뮬레이션 데이터
-            stats.put("ElasticSearchProcessingException", 3L);
-            stats.put("IllegalArgumentException", 2L);
-            stats.put("NullPointerException", 1L);
-        }
-        
-        return stats;
-    }
-
-    /**
-     * 최근 DLQ 메시지들 조회
-     */
-    private List<DlqMessage> getRecentDlqMessages(int limit) {
-        try {
-            return fetchDlqMessages(0, limit);
-        } catch (Exception e) {
-            log.error("최근 DLQ 메시지 조회 중 오류 발생", e);
-            return createMockDlqMessages(0, limit);
-        }
-    }
-
-    /**
-     * 시뮬레이션 DLQ 메시지 생성 (실제 조회 실패 시 사용)
-     */
-    private List<DlqMessage> createMockDlqMessages(int page, int size) {
-        List<DlqMessage> mockMessages = new ArrayList<>();
-        
-        // 시뮬레이션 데이터
-        if (page == 0) {
-            DlqMessage msg1 = new DlqMessage();
-            msg1.setOriginalTopic("es-sending");
-            msg1.setOriginalPartition(0);
-            msg1.setOriginalOffset(123L + page * size);
-            msg1.setOriginalKey(null);
-            msg1.setOriginalValue(new ElasticSearchEvent(999L, "sync"));
-            msg1.setErrorMessage("ElasticSearch connection timeout");
-            msg1.setErrorClass("ElasticSearchProcessingException");
-            msg1.setFailureTimestamp(System.currentTimeMillis() - 300000);
-            
-            DlqMessage msg2 = new DlqMessage();
-            msg2.setOriginalTopic("es-sending");
-            msg2.setOriginalPartition(0);
-            msg2.setOriginalOffset(124L + page * size);
-            msg2.setOriginalKey(null);
-            msg2.setOriginalValue(new ElasticSearchEvent(null, "invalid_action"));
-            msg2.setErrorMessage("유효하지 않은 ArtistId: null");
-            msg2.setErrorClass("IllegalArgumentException");
-            msg2.setFailureTimestamp(System.currentTimeMillis() - 600000);
-            
-            mockMessages.add(msg1);
-            if (size > 1) mockMessages.add(msg2);
-        }
-        
-        return mockMessages;
+        return kafkaOffsetsCache.getMessageCount(topicName);
     }
 }
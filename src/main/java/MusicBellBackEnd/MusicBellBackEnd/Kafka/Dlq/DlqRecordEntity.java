@@ -0,0 +1,63 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * DLQ 메시지 로컬 저장소 (조회/필터/통계용 인덱스 테이블)
+ * DLQ 토픽의 (파티션, 오프셋)당 한 행, 최신순 조회는 id 역순
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "dlq_messages",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dlq_partition_offset", columnNames = {"dlqPartition", "dlqOffset"}),
+        indexes = {
+                @Index(name = "idx_dlq_error_class", columnList = "errorClass, id"),
+                @Index(name = "idx_dlq_original_topic", columnList = "originalTopic, id"),
+                @Index(name = "idx_dlq_failure_timestamp", columnList = "failureTimestamp")
+        })
+public class DlqRecordEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // DLQ 토픽 내 위치
+    @Column(nullable = false)
+    private Integer dlqPartition;
+
+    @Column(nullable = false)
+    private Long dlqOffset;
+
+    // 원본 메시지 정보
+    @Column(length = 200)
+    private String originalTopic;
+
+    private Integer originalPartition;
+
+    private Long originalOffset;
+
+    @Column(length = 200)
+    private String originalKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String originalValue; // JSON
+
+    // 에러 정보
+    @Column(length = 200)
+    private String errorClass;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private Long failureTimestamp;
+
+    private Integer retryCount;
+
+    @Column(length = 50)
+    private String processingStatus;
+}
@@ -0,0 +1,36 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DlqRecordRepository extends JpaRepository<DlqRecordEntity, Long> {
+
+    boolean existsByDlqPartitionAndDlqOffset(Integer dlqPartition, Long dlqOffset);
+
+    Optional<DlqRecordEntity> findByDlqPartitionAndDlqOffset(Integer dlqPartition, Long dlqOffset);
+
+    // 최신순 조회 (count 쿼리 없이 Slice, beforeId로 키셋 페이지네이션)
+    @Query("SELECT d FROM DlqRecordEntity d WHERE " +
+           "(:errorClass IS NULL OR d.errorClass = :errorClass) AND " +
+           "(:originalTopic IS NULL OR d.originalTopic = :originalTopic) AND " +
+           "(:fromTimestamp IS NULL OR d.failureTimestamp >= :fromTimestamp) AND " +
+           "(:toTimestamp IS NULL OR d.failureTimestamp <= :toTimestamp) AND " +
+           "(:beforeId IS NULL OR d.id < :beforeId) " +
+           "ORDER BY d.id DESC")
+    Slice<DlqRecordEntity> search(@Param("errorClass") String errorClass,
+                                  @Param("originalTopic") String originalTopic,
+                                  @Param("fromTimestamp") Long fromTimestamp,
+                                  @Param("toTimestamp") Long toTimestamp,
+                                  @Param("beforeId") Long beforeId,
+                                  Pageable pageable);
+
+    // 에러 타입별 건수 (시작 시 카운터 적재용)
+    @Query("SELECT d.errorClass, COUNT(d) FROM DlqRecordEntity d GROUP BY d.errorClass")
+    List<Object[]> countGroupByErrorClass();
+}
@@ -0,0 +1,28 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import lombok.*;
+
+/**
+ * DLQ 재처리 조건 (모든 조건은 선택, 지정한 조건을 모두 만족하는 메시지만 재전송)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DlqReplayRequest {
+
+    // DLQ 오프셋 범위 (포함, 모든 파티션에 동일 적용)
+    private Long fromOffset;
+    private Long toOffset;
+
+    // 필터
+    private String errorClass;
+    private String originalTopic;
+    private Long fromTimestamp; // 실패 시각 (epoch millis)
+    private Long toTimestamp;
+
+    // 속도 제어 (없으면 설정 기본값)
+    private Integer ratePerSecond;
+    private Integer batchSize;
+}
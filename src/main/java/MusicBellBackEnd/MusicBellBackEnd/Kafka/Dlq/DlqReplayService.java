@@ -0,0 +1,322 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DLQ 재처리 엔진
+ *
+ * - es-dlq를 오프셋 범위/필터(에러 타입, 원본 토픽, 실패 시각)로 읽어 원본 토픽에 원본 키로 재전송
+ * - 배치마다 전송 확인을 기다리고 초당 전송 수를 제한 (ES 장애 후 대량 적체를 클러스터 부담 없이 소진)
+ * - 시작 시점의 DLQ 끝 오프셋까지만 읽어, 재전송 후 다시 실패한 메시지가 같은 작업에서 반복되지 않음
+ * - 작업은 한 번에 하나씩 순서대로 실행, 메시지별 재처리 상태 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DlqReplayService {
+
+    private final ConsumerFactory<String, DlqMessage> dlqConsumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${spring.kafka.topics.es-dlq}")
+    private String dlqTopic;
+
+    @Value("${musicbell.kafka.dlq.replay.rate-per-second:100}")
+    private int defaultRatePerSecond;
+
+    @Value("${musicbell.kafka.dlq.replay.max-rate-per-second:1000}")
+    private int maxRatePerSecond;
+
+    @Value("${musicbell.kafka.dlq.replay.batch-size:100}")
+    private int defaultBatchSize;
+
+    // 작업당 메시지별 상태 보관 한도 (초과분은 건수만 집계)
+    private static final int STATUS_LIMIT = 10_000;
+    private static final int JOB_HISTORY = 20;
+    private static final long SEND_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService replayExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "dlq-replay"));
+    private final Map<String, ReplayJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * 재처리 작업 등록 (비동기 실행, 앞선 작업이 끝난 뒤 시작)
+     */
+    public ReplayJob startReplay(DlqReplayRequest request) {
+        int rate = request.getRatePerSecond() != null ? request.getRatePerSecond() : defaultRatePerSecond;
+        int batchSize = request.getBatchSize() != null ? request.getBatchSize() : defaultBatchSize;
+        if (rate <= 0 || batchSize <= 0) {
+            throw new GlobalException("ratePerSecond와 batchSize는 1 이상이어야 합니다.", "INVALID_REPLAY_REQUEST", HttpStatus.BAD_REQUEST);
+        }
+
+        ReplayJob job = new ReplayJob(UUID.randomUUID().toString(), request, Math.min(rate, maxRatePerSecond), batchSize);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            // 오래된 완료 작업 정리
+            jobs.values().removeIf(old -> jobs.size() > JOB_HISTORY && !old.isRunning());
+        }
+        replayExecutor.submit(() -> runReplay(job));
+        log.info("DLQ 재처리 작업 등록: id={}, rate={}/s, batch={}", job.getId(), job.getRatePerSecond(), batchSize);
+        return job;
+    }
+
+    public ReplayJob getJob(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new GlobalException("DLQ 재처리 작업을 찾을 수 없습니다.", "REPLAY_JOB_NOT_FOUND", HttpStatus.NOT_FOUND);
+        }
+        return job;
+    }
+
+    public List<ReplayJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    /**
+     * 작업 취소 (현재 배치까지만 전송)
+     */
+    public ReplayJob cancel(String jobId) {
+        ReplayJob job = getJob(jobId);
+        job.cancelled = true;
+        return job;
+    }
+
+    /**
+     * DLQ 메시지 한 건을 원본 토픽에 원본 키로 재전송
+     */
+    public CompletableFuture<SendResult<String, Object>> republish(DlqMessage dlqMessage) {
+        if (dlqMessage.getOriginalTopic() == null || dlqMessage.getOriginalValue() == null) {
+            throw new IllegalArgumentException("원본 토픽/메시지가 없는 DLQ 메시지: " + dlqMessage.getSummary());
+        }
+        return kafkaTemplate.send(dlqMessage.getOriginalTopic(), dlqMessage.getOriginalKey(), dlqMessage.getOriginalValue());
+    }
+
+    private void runReplay(ReplayJob job) {
+        if (job.cancelled) {
+            job.finish("CANCELLED", null);
+            return;
+        }
+        job.state = "RUNNING";
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, job.getBatchSize());
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (Consumer<String, DlqMessage> consumer =
+                     dlqConsumerFactory.createConsumer("dlq-replay-" + job.getId(), null, null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(dlqTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            // 작업 시작 시점 끝 오프셋까지만 (toOffset 지정 시 그 이하)
+            Map<TopicPartition, Long> limits = new HashMap<>();
+            consumer.endOffsets(partitions).forEach((tp, end) -> limits.put(tp,
+                    job.request.getToOffset() != null ? Math.min(end, job.request.getToOffset() + 1) : end));
+            seekToStart(consumer, partitions, job.request);
+
+            while (!job.cancelled && partitions.stream().anyMatch(tp -> consumer.position(tp) < limits.get(tp))) {
+                List<ConsumerRecord<String, DlqMessage>> batch = new ArrayList<>(job.getBatchSize());
+                try {
+                    for (ConsumerRecord<String, DlqMessage> record : consumer.poll(Duration.ofMillis(500))) {
+                        if (record.offset() >= limits.get(new TopicPartition(record.topic(), record.partition()))) {
+                            continue;
+                        }
+                        job.scanned.incrementAndGet();
+                        if (matches(record.value(), job.request)) {
+                            batch.add(record);
+                        }
+                    }
+                } catch (RecordDeserializationException e) {
+                    // 읽을 수 없는 메시지는 실패로 기록하고 건너뜀
+                    job.record(e.topicPartition().partition(), e.offset(), "UNREADABLE");
+                    job.failed.incrementAndGet();
+                    consumer.seek(e.topicPartition(), e.offset() + 1);
+                    continue;
+                }
+                replayBatch(job, batch);
+            }
+            job.finish(job.cancelled ? "CANCELLED" : "COMPLETED", null);
+            log.info("DLQ 재처리 작업 종료: id={}, state={}, scanned={}, replayed={}, failed={}",
+                    job.getId(), job.getState(), job.getScanned(), job.getReplayed(), job.getFailed());
+        } catch (Exception e) {
+            log.error("DLQ 재처리 작업 실패: id={}, error={}", job.getId(), e.getMessage(), e);
+            job.finish("FAILED", e.getMessage());
+        }
+    }
+
+    private void seekToStart(Consumer<String, DlqMessage> consumer, List<TopicPartition> partitions, DlqReplayRequest request) {
+        consumer.seekToBeginning(partitions);
+        if (request.getFromTimestamp() != null) {
+            // 실패 시각 ≈ DLQ 기록 시각이므로 타임스탬프 인덱스로 시작 위치를 좁힘
+            Map<TopicPartition, Long> query = new HashMap<>();
+            partitions.forEach(tp -> query.put(tp, request.getFromTimestamp()));
+            Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(query);
+            partitions.forEach(tp -> {
+                OffsetAndTimestamp offset = found.get(tp);
+                if (offset != null) {
+                    consumer.seek(tp, offset.offset());
+                } else {
+                    consumer.seekToEnd(List.of(tp));
+                }
+            });
+        }
+        if (request.getFromOffset() != null) {
+            partitions.forEach(tp -> {
+                if (consumer.position(tp) < request.getFromOffset()) {
+                    consumer.seek(tp, request.getFromOffset());
+                }
+            });
+        }
+    }
+
+    /**
+     * 한 배치 재전송 후 전송 확인을 기다리고, 초당 전송 수를 넘지 않도록 대기
+     */
+    private void replayBatch(ReplayJob job, List<ConsumerRecord<String, DlqMessage>> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        Map<ConsumerRecord<String, DlqMessage>, CompletableFuture<SendResult<String, Object>>> sends = new LinkedHashMap<>();
+        for (ConsumerRecord<String, DlqMessage> record : batch) {
+            try {
+                sends.put(record, republish(record.value()));
+            } catch (Exception e) {
+                job.record(record.partition(), record.offset(), "FAILED: " + e.getMessage());
+                job.failed.incrementAndGet();
+            }
+        }
+        sends.forEach((record, future) -> {
+            try {
+                future.get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                job.record(record.partition(), record.offset(), "REPLAYED");
+                job.replayed.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.cancelled = true;
+            } catch (Exception e) {
+                job.record(record.partition(), record.offset(), "FAILED: " + e.getMessage());
+                job.failed.incrementAndGet();
+            }
+        });
+
+        long minNanos = TimeUnit.SECONDS.toNanos(batch.size()) / job.getRatePerSecond();
+        long remainingNanos = minNanos - (System.nanoTime() - startNanos);
+        if (remainingNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        }
+    }
+
+    static boolean matches(DlqMessage message, DlqReplayRequest request) {
+        if (message == null) {
+            return false;
+        }
+        if (request.getErrorClass() != null && !request.getErrorClass().equals(message.getErrorClass())) {
+            return false;
+        }
+        if (request.getOriginalTopic() != null && !request.getOriginalTopic().equals(message.getOriginalTopic())) {
+            return false;
+        }
+        Long failedAt = message.getFailureTimestamp();
+        if (request.getFromTimestamp() != null && (failedAt == null || failedAt < request.getFromTimestamp())) {
+            return false;
+        }
+        return request.getToTimestamp() == null || (failedAt != null && failedAt <= request.getToTimestamp());
+    }
+
+    @PreDestroy
+    public void shutdownReplayExecutor() {
+        getJobs().forEach(job -> job.cancelled = true);
+        replayExecutor.shutdownNow();
+    }
+
+    /**
+     * DLQ 재처리 작업 상태
+     */
+    public static class ReplayJob {
+        private final String id;
+        private final DlqReplayRequest request;
+        private final int ratePerSecond;
+        private final int batchSize;
+        private final long createdAt = System.currentTimeMillis();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        // "partition:offset" -> REPLAYED / FAILED: 사유 / UNREADABLE
+        private final Map<String, String> messageStatuses = new ConcurrentHashMap<>();
+        private volatile String state = "QUEUED";
+        private volatile boolean cancelled;
+        private volatile long finishedAt;
+        private volatile String error;
+
+        ReplayJob(String id, DlqReplayRequest request, int ratePerSecond, int batchSize) {
+            this.id = id;
+            this.request = request;
+            this.ratePerSecond = ratePerSecond;
+            this.batchSize = batchSize;
+        }
+
+        public String getId() { return id; }
+        public DlqReplayRequest getRequest() { return request; }
+        public int getRatePerSecond() { return ratePerSecond; }
+        public int getBatchSize() { return batchSize; }
+        public String getState() { return state; }
+        public long getCreatedAt() { return createdAt; }
+        public long getFinishedAt() { return finishedAt; }
+        public String getError() { return error; }
+        public long getScanned() { return scanned.get(); }
+        public long getReplayed() { return replayed.get(); }
+        public long getFailed() { return failed.get(); }
+        public Map<String, String> getMessageStatuses() { return messageStatuses; }
+
+        public boolean isRunning() {
+            return "QUEUED".equals(state) || "RUNNING".equals(state);
+        }
+
+        void record(int partition, long offset, String status) {
+            String key = partition + ":" + offset;
+            if (messageStatuses.size() < STATUS_LIMIT || messageStatuses.containsKey(key)) {
+                messageStatuses.put(key, status);
+            }
+        }
+
+        void finish(String finalState, String errorMessage) {
+            finishedAt = System.currentTimeMillis();
+            error = errorMessage;
+            state = finalState;
+        }
+    }
+}
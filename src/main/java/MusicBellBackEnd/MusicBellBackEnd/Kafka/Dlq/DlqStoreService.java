@@ -0,0 +1,188 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DLQ 메시지 로컬 저장소
+ *
+ * - DLQ Consumer가 받은 메시지를 (파티션, 오프셋) 기준으로 한 번만 저장
+ * - 목록/필터 조회는 인덱스를 타는 최신순 Slice (count 쿼리 없음)
+ * - 전체/에러 타입별 건수는 시작 시 한 번 집계한 뒤 메모리 카운터로 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DlqStoreService {
+
+    private static final String UNKNOWN_ERROR_CLASS = "Unknown";
+    private static final int ERROR_MESSAGE_LENGTH = 1000;
+
+    private final DlqRecordRepository dlqRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, LongAdder> errorClassCounts = new ConcurrentHashMap<>();
+    private final LongAdder totalCount = new LongAdder();
+
+    /**
+     * 에러 타입별 카운터 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadCounters() {
+        try {
+            errorClassCounts.clear();
+            totalCount.reset();
+            for (Object[] row : dlqRecordRepository.countGroupByErrorClass()) {
+                long count = ((Number) row[1]).longValue();
+                counter(row[0] != null ? (String) row[0] : UNKNOWN_ERROR_CLASS).add(count);
+                totalCount.add(count);
+            }
+            log.info("DLQ 저장소 카운터 적재 완료: total={}, errorClasses={}", totalCount.sum(), errorClassCounts.size());
+        } catch (Exception e) {
+            log.warn("DLQ 저장소 카운터 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DLQ 메시지 저장 (같은 위치가 이미 있으면 무시 - 재전달 대비)
+     */
+    @Transactional
+    public void save(DlqMessage message, int dlqPartition, long dlqOffset) {
+        if (dlqRecordRepository.existsByDlqPartitionAndDlqOffset(dlqPartition, dlqOffset)) {
+            return;
+        }
+        String errorMessage = message.getErrorMessage();
+        if (errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH) {
+            errorMessage = errorMessage.substring(0, ERROR_MESSAGE_LENGTH);
+        }
+        dlqRecordRepository.save(DlqRecordEntity.builder()
+                .dlqPartition(dlqPartition)
+                .dlqOffset(dlqOffset)
+                .originalTopic(message.getOriginalTopic())
+                .originalPartition(message.getOriginalPartition())
+                .originalOffset(message.getOriginalOffset())
+                .originalKey(message.getOriginalKey())
+                .originalValue(toJson(message.getOriginalValue()))
+                .errorClass(message.getErrorClass())
+                .errorMessage(errorMessage)
+                .failureTimestamp(message.getFailureTimestamp())
+                .retryCount(message.getRetryCount())
+                .processingStatus(message.getProcessingStatus())
+                .build());
+
+        counter(message.getErrorClass() != null ? message.getErrorClass() : UNKNOWN_ERROR_CLASS).increment();
+        totalCount.increment();
+    }
+
+    /**
+     * 최신순 조회 (조건은 모두 선택, beforeId를 주면 해당 id 이전부터)
+     */
+    @Transactional(readOnly = true)
+    public Slice<DlqRecordEntity> search(String errorClass, String originalTopic, Long fromTimestamp, Long toTimestamp,
+                                         Long beforeId, int page, int size) {
+        return dlqRecordRepository.search(errorClass, originalTopic, fromTimestamp, toTimestamp, beforeId,
+                PageRequest.of(beforeId != null ? 0 : page, size));
+    }
+
+    /**
+     * 저장된 메시지를 DlqMessage 형태로 변환 (기존 API 응답 형식 유지)
+     */
+    public DlqMessage toDlqMessage(DlqRecordEntity record) {
+        return DlqMessage.builder()
+                .originalTopic(record.getOriginalTopic())
+                .originalPartition(record.getOriginalPartition())
+                .originalOffset(record.getOriginalOffset())
+                .originalKey(record.getOriginalKey())
+                .originalValue(fromJson(record.getOriginalValue()))
+                .errorClass(record.getErrorClass())
+                .errorMessage(record.getErrorMessage())
+                .failureTimestamp(record.getFailureTimestamp())
+                .retryCount(record.getRetryCount())
+                .processingStatus(record.getProcessingStatus())
+                .build();
+    }
+
+    /**
+     * DLQ 위치로 저장된 메시지 삭제 (관리용)
+     */
+    @Transactional
+    public boolean delete(int dlqPartition, long dlqOffset) {
+        Optional<DlqRecordEntity> record = dlqRecordRepository.findByDlqPartitionAndDlqOffset(dlqPartition, dlqOffset);
+        if (record.isEmpty()) {
+            return false;
+        }
+        dlqRecordRepository.delete(record.get());
+        String errorClass = record.get().getErrorClass() != null ? record.get().getErrorClass() : UNKNOWN_ERROR_CLASS;
+        counter(errorClass).decrement();
+        totalCount.decrement();
+        return true;
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * 에러 타입별 건수 (많은 순)
+     */
+    public Map<String, Long> getErrorClassCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        errorClassCounts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    /**
+     * 최근 DLQ 메시지
+     */
+    @Transactional(readOnly = true)
+    public List<DlqMessage> getRecent(int limit) {
+        return search(null, null, null, null, null, 0, limit).map(this::toDlqMessage).getContent();
+    }
+
+    private LongAdder counter(String errorClass) {
+        return errorClassCounts.computeIfAbsent(errorClass, key -> new LongAdder());
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(value);
+        }
+    }
+
+    private Object fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            return json;
+        }
+    }
+}
@@ -7,6 +7,9 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * DLQ(Dead Letter Queue)로 전송되는 메시지 모델
@@ -68,6 +71,50 @@ public class DlqMessage {
         return null;
     }
     
+    /**
+     * DLQ에 실을 요약 스택트레이스
+     * - 예외마다 상위 maxFrames개 프레임만, 연속으로 반복되는 프레임(재귀)은 한 줄로 합침
+     * - 원인 예외는 감싼 예외와 겹치는 하단 프레임을 "... N more"로 생략 (JDK 출력과 같은 방식)
+     */
+    public static String compactStackTrace(Throwable throwable, int maxFrames) {
+        if (throwable == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        StackTraceElement[] enclosing = new StackTraceElement[0];
+        for (Throwable current = throwable; current != null && seen.add(current); current = current.getCause()) {
+            sb.append(current == throwable ? "" : "Caused by: ").append(current).append('\n');
+
+            StackTraceElement[] frames = current.getStackTrace();
+            int common = 0;
+            while (common < frames.length && common < enclosing.length
+                    && frames[frames.length - 1 - common].equals(enclosing[enclosing.length - 1 - common])) {
+                common++;
+            }
+            int unique = frames.length - common;
+
+            int covered = 0;
+            for (int lines = 0; covered < unique && lines < maxFrames; lines++) {
+                int repeat = 1;
+                while (covered + repeat < unique && frames[covered + repeat].equals(frames[covered])) {
+                    repeat++;
+                }
+                sb.append("\tat ").append(frames[covered]);
+                if (repeat > 1) {
+                    sb.append(" (x").append(repeat).append(')');
+                }
+                sb.append('\n');
+                covered += repeat;
+            }
+            if (covered < frames.length) {
+                sb.append("\t... ").append(frames.length - covered).append(" more\n");
+            }
+            enclosing = frames;
+        }
+        return sb.toString();
+    }
+
     /**
      * DLQ 메시지 요약 정보 반환
      */
@@ -9,5 +9,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ElasticSearchEvent {
     private Long artistId;
-    private String action; // "sync" or "delete"
+    private String action; // "sync", "delete" or "stats"
+
+    /**
+     * 같은 아티스트의 연속된 액션을 하나로 합칠 때 남길 액션
+     * 마지막 액션 우선, 단 stats는 sync/delete에 흡수됨 (전체 동기화가 통계도 포함)
+     */
+    public static String mergeAction(String previous, String next) {
+        if (previous != null && "stats".equals(next) && !"stats".equals(previous)) {
+            return previous;
+        }
+        return next;
+    }
 }
@@ -0,0 +1,25 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1분 텀블링 윈도우 재생수 집계 (play-aggregates 토픽, "{type}:{id}" 키)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayAggregate {
+    public static final String TYPE_TRACK = "track";
+    public static final String TYPE_ARTIST = "artist";
+
+    private Long windowStart; // epoch millis
+    private String type; // "track" or "artist"
+    private Long id;
+    private Long count;
+
+    public String key() {
+        return type + ":" + id;
+    }
+}
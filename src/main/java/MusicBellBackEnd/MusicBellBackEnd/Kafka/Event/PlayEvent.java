@@ -0,0 +1,17 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 음악 재생 1건 (music-plays 토픽, musicId 키)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayEvent {
+    private Long musicId;
+    private Long artistId; // 아티스트 미연결 음악이면 null
+    private Long playedAt; // epoch millis
+}
@@ -0,0 +1,138 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DLQ 조회 전용 Consumer 풀
+ *
+ * - 조회 요청마다 Consumer를 만들지 않고 미리 연결된 Consumer를 빌려 assign/seek으로 읽음
+ * - 그룹 구독/오프셋 커밋을 하지 않아 조회용 Consumer 그룹이 쌓이지 않음
+ * - KafkaConsumer는 스레드 안전하지 않으므로 한 번에 한 요청만 사용
+ */
+@Slf4j
+@Component
+public class DlqConsumerPool {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, DlqMessage> dlqConsumerFactory;
+    private final String dlqTopic;
+    private final int poolSize;
+    private final BlockingQueue<Consumer<String, DlqMessage>> idle;
+    private final AtomicInteger created = new AtomicInteger();
+
+    public DlqConsumerPool(ConsumerFactory<String, DlqMessage> dlqConsumerFactory,
+                           @Value("${spring.kafka.topics.es-dlq}") String dlqTopic,
+                           @Value("${musicbell.kafka.monitoring.consumer-pool-size:2}") int poolSize) {
+        this.dlqConsumerFactory = dlqConsumerFactory;
+        this.dlqTopic = dlqTopic;
+        this.poolSize = poolSize;
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * DLQ 메시지를 오래된 순으로 페이지 조회 (파티션 번호 순으로 이어서 계산)
+     */
+    public List<DlqMessage> read(int page, int size) throws InterruptedException {
+        Consumer<String, DlqMessage> consumer = borrow();
+        try {
+            List<TopicPartition> partitions = consumer.partitionsFor(dlqTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .sorted(Comparator.comparingInt(TopicPartition::partition))
+                    .toList();
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+            Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+
+            List<DlqMessage> messages = new ArrayList<>(size);
+            long skip = (long) page * size;
+            for (TopicPartition partition : partitions) {
+                long available = end.get(partition) - beginning.get(partition);
+                if (skip >= available) {
+                    skip -= available;
+                    continue;
+                }
+                readPartition(consumer, partition, beginning.get(partition) + skip, end.get(partition), size - messages.size(), messages);
+                skip = 0;
+                if (messages.size() >= size) {
+                    break;
+                }
+            }
+            return messages;
+        } finally {
+            release(consumer);
+        }
+    }
+
+    private void readPartition(Consumer<String, DlqMessage> consumer, TopicPartition partition, long from, long end,
+                               int limit, List<DlqMessage> out) {
+        consumer.assign(List.of(partition));
+        consumer.seek(partition, from);
+        int read = 0;
+        while (read < limit && consumer.position(partition) < end) {
+            for (ConsumerRecord<String, DlqMessage> record : consumer.poll(POLL_TIMEOUT)) {
+                if (read >= limit || record.offset() >= end) {
+                    break;
+                }
+                if (record.value() != null) {
+                    out.add(record.value());
+                }
+                read++;
+            }
+        }
+    }
+
+    private Consumer<String, DlqMessage> borrow() throws InterruptedException {
+        Consumer<String, DlqMessage> consumer = idle.poll();
+        if (consumer != null) {
+            return consumer;
+        }
+        if (created.incrementAndGet() <= poolSize) {
+            Properties overrides = new Properties();
+            overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+            return dlqConsumerFactory.createConsumer("musicbell-monitoring", null, "-pool-" + created.get(), overrides);
+        }
+        created.decrementAndGet();
+        consumer = idle.poll(10, TimeUnit.SECONDS);
+        if (consumer == null) {
+            throw new IllegalStateException("DLQ 조회 Consumer를 얻지 못했습니다 (풀 크기: " + poolSize + ")");
+        }
+        return consumer;
+    }
+
+    private void release(Consumer<String, DlqMessage> consumer) {
+        consumer.assign(List.of());
+        if (!idle.offer(consumer)) {
+            consumer.close();
+            created.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        Consumer<String, DlqMessage> consumer;
+        while ((consumer = idle.poll()) != null) {
+            consumer.close();
+        }
+    }
+}
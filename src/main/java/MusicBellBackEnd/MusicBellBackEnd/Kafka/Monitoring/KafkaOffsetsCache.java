@@ -0,0 +1,169 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토픽 오프셋/Consumer 그룹 lag 캐시
+ *
+ * - 애플리케이션 수명 동안 AdminClient 하나를 재사용 (요청마다 Consumer 생성/그룹 생성 없음)
+ * - 백그라운드에서 주기적으로 갱신하고, 모니터링 API는 메모리의 스냅샷만 읽음
+ */
+@Slf4j
+@Component
+public class KafkaOffsetsCache {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 5;
+
+    private final AdminClient adminClient;
+    private final List<String> topics;
+    private final List<String> groupIds;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), 0L);
+
+    public KafkaOffsetsCache(KafkaAdmin kafkaAdmin,
+                             EsRetryTiers esRetryTiers,
+                             @Value("${spring.kafka.topics.es-sending}") String esTopic,
+                             @Value("${spring.kafka.topics.es-dlq}") String dlqTopic,
+                             @Value("${spring.kafka.es.consumer.group-id}") String esGroupId,
+                             @Value("${spring.kafka.dlq.consumer.group-id}") String dlqGroupId) {
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        List<String> watched = new ArrayList<>();
+        watched.add(esTopic);
+        watched.addAll(esRetryTiers.getTierTopics());
+        watched.add(dlqTopic);
+        this.topics = List.copyOf(watched);
+        this.groupIds = List.of(esGroupId, dlqGroupId);
+    }
+
+    /**
+     * 오프셋/lag 갱신 (시작 시 1회, 이후 주기적으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${musicbell.kafka.monitoring.refresh-ms:5000}",
+            initialDelayString = "${musicbell.kafka.monitoring.refresh-ms:5000}")
+    public void refresh() {
+        try {
+            Map<TopicPartition, OffsetSpec> earliestQuery = new HashMap<>();
+            Map<TopicPartition, OffsetSpec> latestQuery = new HashMap<>();
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(topics).topicNameValues();
+            for (String topic : topics) {
+                try {
+                    descriptions.get(topic).get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS).partitions().forEach(p -> {
+                        TopicPartition tp = new TopicPartition(topic, p.partition());
+                        earliestQuery.put(tp, OffsetSpec.earliest());
+                        latestQuery.put(tp, OffsetSpec.latest());
+                    });
+                } catch (Exception e) {
+                    // 아직 생성되지 않은 토픽은 건너뜀
+                    log.debug("토픽 조회 생략: topic={}, error={}", topic, e.getMessage());
+                }
+            }
+
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> earliest =
+                    adminClient.listOffsets(earliestQuery).all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest =
+                    adminClient.listOffsets(latestQuery).all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            Map<String, TopicOffsets> topicOffsets = new LinkedHashMap<>();
+            for (String topic : topics) {
+                int partitions = 0;
+                long earliestSum = 0;
+                long latestSum = 0;
+                for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : latest.entrySet()) {
+                    if (entry.getKey().topic().equals(topic)) {
+                        partitions++;
+                        latestSum += entry.getValue().offset();
+                        earliestSum += earliest.get(entry.getKey()).offset();
+                    }
+                }
+                if (partitions > 0) {
+                    topicOffsets.put(topic, new TopicOffsets(topic, partitions, earliestSum, latestSum, Math.max(0, latestSum - earliestSum)));
+                }
+            }
+
+            Map<String, GroupLag> groupLags = new LinkedHashMap<>();
+            for (String groupId : groupIds) {
+                Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(groupId)
+                        .partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                Map<String, Long> partitionLag = new LinkedHashMap<>();
+                long total = 0;
+                for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committed.entrySet()) {
+                    ListOffsetsResult.ListOffsetsResultInfo end = latest.get(entry.getKey());
+                    if (end == null || entry.getValue() == null) {
+                        continue;
+                    }
+                    long lag = Math.max(0, end.offset() - entry.getValue().offset());
+                    partitionLag.put(entry.getKey().toString(), lag);
+                    total += lag;
+                }
+                groupLags.put(groupId, new GroupLag(groupId, total, partitionLag));
+            }
+
+            snapshot = new Snapshot(Map.copyOf(topicOffsets), Map.copyOf(groupLags), System.currentTimeMillis());
+        } catch (Exception e) {
+            // 갱신 실패 시 직전 스냅샷 유지
+            log.warn("Kafka 오프셋/lag 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 토픽의 보관 중인 메시지 수 (갱신 전이거나 없는 토픽이면 0)
+     */
+    public long getMessageCount(String topic) {
+        TopicOffsets offsets = snapshot.topics().get(topic);
+        return offsets != null ? offsets.messageCount() : 0;
+    }
+
+    /**
+     * Consumer 그룹의 lag (갱신 전이면 null)
+     */
+    public GroupLag getGroupLag(String groupId) {
+        return snapshot.groups().get(groupId);
+    }
+
+    @PreDestroy
+    public void close() {
+        adminClient.close();
+    }
+
+    /**
+     * 토픽 오프셋 (파티션 합계)
+     */
+    public record TopicOffsets(String topic, int partitions, long earliestOffset, long latestOffset, long messageCount) {
+    }
+
+    /**
+     * Consumer 그룹 lag (파티션별 + 합계)
+     */
+    public record GroupLag(String groupId, long totalLag, Map<String, Long> partitionLag) {
+    }
+
+    public record Snapshot(Map<String, TopicOffsets> topics, Map<String, GroupLag> groups, long refreshedAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * ElasticSearch 동기화 이벤트 outbox
+ * 아티스트 변경과 같은 트랜잭션에서 기록되고, 커밋된 행만 EsOutboxRelay가 Kafka로 전달
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "es_outbox")
+public class EsOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long artistId;
+
+    @Column(nullable = false, length = 20)
+    private String action; // "sync", "delete", "stats"
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,115 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ES 동기화 outbox 릴레이
+ *
+ * - 리더 잠금(EsOutboxRelayLock)을 잡은 인스턴스 하나만 커밋된 outbox 행을 id 순 배치로 읽어 아티스트별로 합쳐 Kafka로 전송
+ * - artistId를 키로 보내 같은 아티스트 이벤트는 같은 파티션에서 순서 유지
+ * - 배치 전송이 모두 확인된 뒤 짧은 트랜잭션으로 일괄 삭제 (전송 대기 중 행 잠금 없음, 실패 시 다음 주기에 재전송, at-least-once)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EsOutboxRelay {
+
+    private final EsOutboxRepository esOutboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProducerSendMetrics producerSendMetrics;
+    private final EsOutboxRelayLock esOutboxRelayLock;
+
+    @Value("${spring.kafka.topics.es-sending}")
+    private String esTopic;
+
+    @Value("${musicbell.kafka.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 한 주기에 처리할 최대 배치 수 (스케줄러 스레드 독점 방지)
+    @Value("${musicbell.kafka.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${musicbell.kafka.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${musicbell.kafka.outbox.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            boolean leader = esOutboxRelayLock.runExclusively(() -> {
+                for (int i = 0; i < maxBatchesPerRun; i++) {
+                    if (relayBatch() < batchSize) {
+                        return;
+                    }
+                }
+            });
+            if (!leader) {
+                log.debug("다른 인스턴스가 ES outbox 릴레이 중");
+            }
+        } catch (Exception e) {
+            log.warn("ES outbox 릴레이 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 배치 전송 후 삭제
+     *
+     * @return 처리한 outbox 행 수
+     */
+    int relayBatch() {
+        List<EsOutboxEvent> rows = esOutboxRepository.findNextBatch(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 아티스트의 행은 한 건으로 합쳐 전송
+        Map<Long, String> actions = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (EsOutboxEvent row : rows) {
+            actions.put(row.getArtistId(), ElasticSearchEvent.mergeAction(actions.get(row.getArtistId()), row.getAction()));
+            ids.add(row.getId());
+        }
+
+        // 비동기 전송 (콜백에서 지연/실패 기록), linger 동안 묶여 배치/압축 전송
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(actions.size());
+        actions.forEach((artistId, action) -> {
+            long startNanos = System.nanoTime();
+            futures.add(kafkaTemplate.send(esTopic, String.valueOf(artistId), new ElasticSearchEvent(artistId, action))
+                    .whenComplete((result, error) -> producerSendMetrics.record(startNanos, error)));
+        });
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ES outbox 전송 중단", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("ES outbox 전송 실패: " + e.getMessage(), e);
+        }
+
+        // 전송 확인 후 삭제 (deleteAllByIdInBatch 자체 트랜잭션)
+        esOutboxRepository.deleteAllByIdInBatch(ids);
+        log.debug("ES outbox 릴레이: rows={}, events={}", rows.size(), actions.size());
+        return rows.size();
+    }
+
+    /**
+     * 전송 대기 중인 outbox 행 수
+     */
+    public long pendingCount() {
+        return esOutboxRepository.count();
+    }
+}
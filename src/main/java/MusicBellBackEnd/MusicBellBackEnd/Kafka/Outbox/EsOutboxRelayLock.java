@@ -0,0 +1,66 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ES outbox 릴레이 리더 잠금 (MySQL 세션 잠금 GET_LOCK)
+ *
+ * - 여러 인스턴스 중 잠금을 잡은 하나만 릴레이 → 같은 아티스트 이벤트가 es-sending에 순서대로 전송됨
+ * - 잠금은 전용 커넥션에 묶여 있어 인스턴스가 죽으면 커넥션 종료와 함께 자동 해제
+ * - outbox 행 자체는 잠그지 않음 (전송 대기 중에 행 잠금을 잡고 있지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EsOutboxRelayLock {
+
+    private static final String LOCK_NAME = "musicbell:es-outbox-relay";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잠금을 잡은 경우에만 실행 (다른 인스턴스가 릴레이 중이면 바로 false)
+     */
+    public boolean runExclusively(Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!acquire(connection)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                release(connection);
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private boolean acquire(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void release(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 MySQL이 잠금을 해제함
+            log.warn("ES outbox 릴레이 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+}
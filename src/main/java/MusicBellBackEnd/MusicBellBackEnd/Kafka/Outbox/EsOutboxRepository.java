@@ -0,0 +1,14 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EsOutboxRepository extends JpaRepository<EsOutboxEvent, Long> {
+
+    // 오래된 순으로 한 배치 조회 (릴레이는 EsOutboxRelayLock으로 한 인스턴스만 실행되므로 행 잠금 없음)
+    @Query(value = "SELECT * FROM es_outbox ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<EsOutboxEvent> findNextBatch(@Param("limit") int limit);
+}
@@ -0,0 +1,122 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistStatsAggregator;
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistStatsBatchRepository;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ElasticSearchProducerService;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicStatsBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재생 집계를 MySQL 카운터에 반영
+ *
+ * 음악/아티스트 카운터 UPDATE, 아티스트 ES stats 이벤트(outbox), 파티션별 반영 위치를 한 트랜잭션으로 저장
+ * → Kafka 오프셋 커밋 전에 죽어서 같은 집계를 다시 받아도 이미 반영된 위치는 건너뛰어 정확히 한 번 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayAggregateApplier {
+
+    private final MusicStatsBatchRepository musicStatsBatchRepository;
+    private final ArtistStatsBatchRepository artistStatsBatchRepository;
+    private final PlayAggregateOffsetRepository playAggregateOffsetRepository;
+    private final ElasticSearchProducerService elasticSearchProducerService;
+
+    @Transactional
+    public Applied apply(List<ConsumerRecord<String, PlayAggregate>> records) {
+        Map<String, PlayAggregateOffsetEntity> positions = playAggregateOffsetRepository
+                .findAllById(records.stream().map(PlayAggregateApplier::topicPartition).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(PlayAggregateOffsetEntity::getTopicPartition, Function.identity()));
+
+        // id 오름차순 - 인스턴스 간 행 잠금 순서를 맞춰 데드락 방지
+        Map<Long, Long> trackPlays = new TreeMap<>();
+        Map<Long, ArtistStatsAggregator.StatsDelta> artistPlays = new TreeMap<>();
+        // Redis 반영 대상은 DB 반영 여부와 무관하게 전달된 모든 음악 집계 (Redis 쪽은 마커로 중복 방지)
+        List<TrackPlay> deliveredTracks = new ArrayList<>();
+        Map<String, Long> nextOffsets = new HashMap<>();
+        int skipped = 0;
+
+        for (ConsumerRecord<String, PlayAggregate> record : records) {
+            String topicPartition = topicPartition(record);
+            PlayAggregate aggregate = record.value();
+            boolean valid = aggregate != null && aggregate.getId() != null
+                    && aggregate.getCount() != null && aggregate.getCount() > 0;
+            if (valid && PlayAggregate.TYPE_TRACK.equals(aggregate.getType())) {
+                deliveredTracks.add(new TrackPlay(appliedMarker(topicPartition, record.offset()),
+                        aggregate.getId(), aggregate.getCount()));
+            }
+
+            PlayAggregateOffsetEntity position = positions.get(topicPartition);
+            if (position != null && record.offset() < position.getNextOffset()) {
+                skipped++;
+                continue;
+            }
+            nextOffsets.merge(topicPartition, record.offset() + 1, Math::max);
+
+            if (!valid) {
+                continue;
+            }
+            if (PlayAggregate.TYPE_TRACK.equals(aggregate.getType())) {
+                trackPlays.merge(aggregate.getId(), aggregate.getCount(), Long::sum);
+            } else if (PlayAggregate.TYPE_ARTIST.equals(aggregate.getType())) {
+                artistPlays.merge(aggregate.getId(), new ArtistStatsAggregator.StatsDelta(aggregate.getCount(), 0L),
+                        ArtistStatsAggregator.StatsDelta::plus);
+            }
+        }
+        if (skipped > 0) {
+            log.info("이미 반영된 재생 집계 건너뜀: {}건", skipped);
+        }
+
+        if (!trackPlays.isEmpty()) {
+            musicStatsBatchRepository.addPlayCounts(trackPlays);
+        }
+        List<Long> updatedArtists = artistPlays.isEmpty() ? List.of() : artistStatsBatchRepository.applyDeltas(artistPlays);
+        elasticSearchProducerService.sendStatsEvents(updatedArtists);
+
+        nextOffsets.forEach((topicPartition, nextOffset) -> {
+            PlayAggregateOffsetEntity position = positions.get(topicPartition);
+            if (position == null) {
+                position = PlayAggregateOffsetEntity.builder().topicPartition(topicPartition).build();
+            }
+            position.setNextOffset(nextOffset);
+            playAggregateOffsetRepository.save(position);
+        });
+
+        return new Applied(deliveredTracks, updatedArtists);
+    }
+
+    private static String topicPartition(ConsumerRecord<?, ?> record) {
+        return record.topic() + "-" + record.partition();
+    }
+
+    // 집계 레코드 위치 단위 - 리밸런스로 같은 (윈도우, 음악) 집계가 따로 한 번 더 나와도 각각 반영됨
+    private static String appliedMarker(String topicPartition, long offset) {
+        return "play:applied:" + topicPartition + ":" + offset;
+    }
+
+    /**
+     * 이번 배치로 전달된 음악 재생 집계와 DB에서 갱신된 아티스트 ID
+     */
+    public record Applied(List<TrackPlay> trackPlays, List<Long> artistIds) {
+    }
+
+    /**
+     * 음악 재생 집계 1건 (marker: Redis 중복 반영 방지 키)
+     */
+    public record TrackPlay(String marker, Long musicId, long plays) {
+    }
+}
@@ -0,0 +1,25 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 집계 반영 위치 (play-aggregates 파티션별 다음에 반영할 오프셋)
+ * 카운터 UPDATE와 같은 DB 트랜잭션에서 갱신하므로, 커밋 전에 죽어 다시 읽은 집계는 건너뜀
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "play_aggregate_offsets")
+public class PlayAggregateOffsetEntity {
+
+    @Id
+    @Column(length = 255)
+    private String topicPartition; // "{topic}-{partition}"
+
+    @Column(nullable = false)
+    private Long nextOffset;
+}
@@ -0,0 +1,6 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PlayAggregateOffsetRepository extends JpaRepository<PlayAggregateOffsetEntity, String> {
+}
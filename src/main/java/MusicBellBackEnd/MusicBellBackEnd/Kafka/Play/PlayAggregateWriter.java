@@ -0,0 +1,61 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재생 집계(play-aggregates) 반영 Consumer
+ *
+ * 1. MySQL 음악/아티스트 카운터 + ES 통계 이벤트(outbox) + 반영 위치 (한 트랜잭션, 정확히 한 번)
+ * 2. Redis 통계/랭킹 (집계 레코드당 한 번, 재전달돼도 마커로 중복 방지) + 인기 차트
+ * 3. 아티스트 상세 캐시 제거
+ * 트랜잭션으로 커밋된 집계만 읽음 (read_committed)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayAggregateWriter {
+
+    public static final String LISTENER_ID = "play-aggregate-writer";
+
+    private final PlayAggregateApplier playAggregateApplier;
+    private final MusicService musicService;
+    private final ArtistService artistService;
+
+    private final AtomicLong aggregatesApplied = new AtomicLong();
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${spring.kafka.topics.play-aggregates:play-aggregates}",
+            groupId = "${spring.kafka.play-aggregate.consumer.group-id:musicbell-play-writer}",
+            containerFactory = "playAggregateKafkaListenerContainerFactory",
+            autoStartup = "${musicbell.kafka.play-aggregation.enabled:false}"
+    )
+    public void onAggregates(List<ConsumerRecord<String, PlayAggregate>> records, Acknowledgment acknowledgment) {
+        // 실패하면 예외 그대로 전파 → 에러 핸들러가 배치 재시도 (이미 반영된 위치는 건너뜀)
+        PlayAggregateApplier.Applied applied = playAggregateApplier.apply(records);
+
+        // Redis 실패도 그대로 전파 → 재전달 시 DB는 건너뛰고 Redis는 아직 반영 안 된 집계만 반영
+        musicService.applyAggregatedPlays(applied.trackPlays());
+        artistService.onArtistStatsApplied(applied.artistIds());
+
+        acknowledgment.acknowledge();
+        aggregatesApplied.addAndGet(records.size());
+        log.debug("재생 집계 반영: records={}, tracks={}, artists={}",
+                records.size(), applied.trackPlays().size(), applied.artistIds().size());
+    }
+
+    public long getAggregatesApplied() {
+        return aggregatesApplied.get();
+    }
+}
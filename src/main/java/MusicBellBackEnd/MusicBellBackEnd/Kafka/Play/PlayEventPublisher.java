@@ -0,0 +1,65 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 재생 이벤트 발행 (music-plays 토픽)
+ *
+ * 활성화되면 재생마다 DB/Redis를 직접 갱신하지 않고 이벤트만 남김
+ * → PlayWindowAggregator가 1분 윈도우로 합산 → PlayAggregateWriter가 집계 단위로 각 저장소에 반영
+ * 이벤트가 재생의 유일한 기록이므로 브로커 확인까지 기다리고, 실패하면 호출자에게 예외 전달 (재생 유실 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayEventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProducerSendMetrics producerSendMetrics;
+
+    @Value("${spring.kafka.topics.music-plays:music-plays}")
+    private String musicPlaysTopic;
+
+    @Value("${musicbell.kafka.play-aggregation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${musicbell.kafka.play-aggregation.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * musicId 키로 전송 (같은 트랙의 재생은 한 파티션에서 집계), 브로커 확인까지 대기
+     *
+     * @throws GlobalException 전송 실패/시간 초과 시 (재생이 기록되지 않았음을 호출자에게 알림)
+     */
+    public void publish(Long musicId, Long artistId) {
+        long startNanos = System.nanoTime();
+        PlayEvent event = new PlayEvent(musicId, artistId, System.currentTimeMillis());
+        try {
+            kafkaTemplate.send(musicPlaysTopic, musicId.toString(), event)
+                    .whenComplete((result, error) -> producerSendMetrics.record(startNanos, error))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException("재생 기록에 실패했습니다.", "PLAY_EVENT_SEND_FAILED", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("재생 이벤트 발행 실패: musicId={}, error={}", musicId, e.getMessage());
+            throw new GlobalException("재생 기록에 실패했습니다.", "PLAY_EVENT_SEND_FAILED", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+}
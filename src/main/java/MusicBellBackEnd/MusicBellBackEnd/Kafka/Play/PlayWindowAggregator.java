@@ -0,0 +1,143 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재생 이벤트 1분 텀블링 윈도우 집계 단계
+ *
+ * - music-plays를 읽어 파티션별로 트랙/아티스트 재생수를 윈도우 단위로 합산
+ * - 윈도우가 닫히면 집계 레코드 전송과 해당 오프셋 커밋을 하나의 Kafka 트랜잭션으로 처리 (중복/누락 없는 집계)
+ * - 컨테이너 커밋은 사용하지 않음 (ack 없이 트랜잭션으로만 커밋), 한 Consumer 스레드가 상태를 소유하도록 동시성 1
+ * - 재생이 끊겨도 윈도우가 닫히도록 idle 이벤트에서도 마감 확인 (Consumer 스레드에서 발행됨)
+ */
+@Slf4j
+@Component
+public class PlayWindowAggregator implements ConsumerAwareRebalanceListener {
+
+    public static final String LISTENER_ID = "play-aggregator";
+
+    private final KafkaTemplate<String, PlayAggregate> playAggregateKafkaTemplate;
+    private final PlayWindowState state;
+
+    @Value("${spring.kafka.topics.play-aggregates:play-aggregates}")
+    private String playAggregatesTopic;
+
+    private final AtomicLong windowsEmitted = new AtomicLong();
+    private final AtomicLong aggregatesEmitted = new AtomicLong();
+    private final AtomicLong playsAggregated = new AtomicLong();
+    private final AtomicLong emitFailures = new AtomicLong();
+
+    public PlayWindowAggregator(@Qualifier("playAggregateKafkaTemplate") KafkaTemplate<String, PlayAggregate> playAggregateKafkaTemplate,
+                                @Value("${musicbell.kafka.play-aggregation.window-ms:60000}") long windowMs,
+                                @Value("${musicbell.kafka.play-aggregation.grace-ms:5000}") long graceMs) {
+        this.playAggregateKafkaTemplate = playAggregateKafkaTemplate;
+        this.state = new PlayWindowState(windowMs, graceMs);
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${spring.kafka.topics.music-plays:music-plays}",
+            groupId = "${spring.kafka.play.consumer.group-id:musicbell-play-aggregator}",
+            containerFactory = "playEventKafkaListenerContainerFactory",
+            autoStartup = "${musicbell.kafka.play-aggregation.enabled:false}"
+    )
+    public void onPlays(List<ConsumerRecord<String, PlayEvent>> records, Consumer<?, ?> consumer) {
+        for (ConsumerRecord<String, PlayEvent> record : records) {
+            PlayEvent event = record.value();
+            if (event == null || event.getMusicId() == null) {
+                // 커밋 위치 계산을 위해 오프셋은 기록 (집계 대상 없음)
+                state.add(record.partition(), record.offset(), record.timestamp(), null, null);
+                continue;
+            }
+            long timestamp = event.getPlayedAt() != null ? event.getPlayedAt() : record.timestamp();
+            state.add(record.partition(), record.offset(), timestamp, event.getMusicId(), event.getArtistId());
+        }
+        emitClosedWindows(consumer, records.isEmpty() ? null : records.get(0).topic());
+    }
+
+    @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        Consumer<?, ?> consumer = event.getConsumer();
+        if (consumer == null || event.getTopicPartitions() == null || event.getTopicPartitions().isEmpty()) {
+            return;
+        }
+        emitClosedWindows(consumer, event.getTopicPartitions().iterator().next().topic());
+    }
+
+    /**
+     * 닫힌 윈도우 집계 전송 + 오프셋 커밋 (트랜잭션), 실패하면 상태를 유지하고 다음 poll/idle 때 다시 시도
+     */
+    void emitClosedWindows(Consumer<?, ?> consumer, String topic) {
+        if (topic == null) {
+            return;
+        }
+        PlayWindowState.Closing closing = state.closeDue(System.currentTimeMillis());
+        if (closing == null) {
+            return;
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        closing.commitOffsets().forEach((partition, offset) ->
+                offsets.put(new TopicPartition(topic, partition), new OffsetAndMetadata(offset)));
+
+        try {
+            playAggregateKafkaTemplate.executeInTransaction(operations -> {
+                for (PlayAggregate aggregate : closing.aggregates()) {
+                    operations.send(playAggregatesTopic, aggregate.key(), aggregate);
+                }
+                operations.sendOffsetsToTransaction(offsets, consumer.groupMetadata());
+                return null;
+            });
+        } catch (Exception e) {
+            emitFailures.incrementAndGet();
+            log.warn("재생 집계 윈도우 전송 실패 (다음 주기 재시도): windows={}, error={}",
+                    closing.closedUpTo(), e.getMessage());
+            return;
+        }
+
+        state.confirm(closing);
+        windowsEmitted.addAndGet(closing.closedUpTo().size());
+        aggregatesEmitted.addAndGet(closing.aggregates().size());
+        playsAggregated.addAndGet(closing.plays());
+        log.debug("재생 집계 윈도우 전송: plays={}, aggregates={}", closing.plays(), closing.aggregates().size());
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        state.revoke(partitions.stream().map(TopicPartition::partition).toList());
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        state.revoke(partitions.stream().map(TopicPartition::partition).toList());
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>(state.snapshot());
+        snapshot.put("windowsEmitted", windowsEmitted.get());
+        snapshot.put("aggregatesEmitted", aggregatesEmitted.get());
+        snapshot.put("playsAggregated", playsAggregated.get());
+        snapshot.put("emitFailures", emitFailures.get());
+        return snapshot;
+    }
+}
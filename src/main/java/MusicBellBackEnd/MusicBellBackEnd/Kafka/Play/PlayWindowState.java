@@ -0,0 +1,162 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 파티션별 1분 텀블링 윈도우 재생수 상태
+ *
+ * - 윈도우는 파티션 안에서 오프셋 순서대로 단조 증가하도록 배정 (이미 닫힌 윈도우로 늦게 온 재생은 열린 윈도우로 이월)
+ *   → 닫힌 윈도우의 레코드는 항상 커밋 위치 앞쪽에 있으므로, 닫힌 만큼만 커밋하면 재시작/리밸런스 후에도 중복/누락 없음
+ * - closeDue로 닫을 윈도우의 집계와 커밋 오프셋을 계산하고, 전송이 성공한 뒤 confirm으로 상태에서 제거
+ * - 하나의 Consumer 스레드에서만 변경 (조회용 snapshot 때문에 synchronized)
+ */
+public class PlayWindowState {
+
+    private final long windowMs;
+    private final long graceMs;
+
+    private final Map<Integer, PartitionWindows> partitions = new HashMap<>();
+
+    public PlayWindowState(long windowMs, long graceMs) {
+        this.windowMs = windowMs;
+        this.graceMs = graceMs;
+    }
+
+    /**
+     * 재생 1건 누적
+     */
+    public synchronized void add(int partition, long offset, long timestamp, Long musicId, Long artistId) {
+        PartitionWindows windows = partitions.computeIfAbsent(partition, p -> new PartitionWindows());
+        long windowStart = Math.max(windowStart(timestamp), windows.minWindowStart);
+        windows.minWindowStart = windowStart;
+        windows.lastOffset = offset;
+
+        Window window = windows.open.computeIfAbsent(windowStart, w -> new Window(offset));
+        if (musicId != null) {
+            window.plays++;
+            window.tracks.merge(musicId, 1L, Long::sum);
+        }
+        if (artistId != null) {
+            window.artists.merge(artistId, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * now 기준으로 끝난 지 grace가 지난 윈도우를 닫을 준비
+     * 같은 윈도우의 아티스트 집계는 파티션을 합쳐 한 건으로 만듦 (트랙은 키로 한 파티션에만 존재)
+     *
+     * @return 닫을 윈도우가 없으면 null
+     */
+    public synchronized Closing closeDue(long now) {
+        Map<String, PlayAggregate> aggregates = new LinkedHashMap<>();
+        Map<Integer, Long> commitOffsets = new HashMap<>();
+        Map<Integer, Long> closedUpTo = new HashMap<>();
+        long plays = 0;
+
+        for (Map.Entry<Integer, PartitionWindows> entry : partitions.entrySet()) {
+            PartitionWindows windows = entry.getValue();
+            Long lastClosed = null;
+            for (Map.Entry<Long, Window> open : windows.open.entrySet()) {
+                long windowStart = open.getKey();
+                if (windowStart + windowMs + graceMs > now) {
+                    break;
+                }
+                Window window = open.getValue();
+                window.tracks.forEach((id, count) -> merge(aggregates, windowStart, PlayAggregate.TYPE_TRACK, id, count));
+                window.artists.forEach((id, count) -> merge(aggregates, windowStart, PlayAggregate.TYPE_ARTIST, id, count));
+                plays += window.plays;
+                lastClosed = windowStart;
+            }
+            if (lastClosed == null) {
+                continue;
+            }
+            closedUpTo.put(entry.getKey(), lastClosed);
+            Map.Entry<Long, Window> remaining = windows.open.higherEntry(lastClosed);
+            commitOffsets.put(entry.getKey(), remaining != null ? remaining.getValue().firstOffset : windows.lastOffset + 1);
+        }
+
+        if (closedUpTo.isEmpty()) {
+            return null;
+        }
+        return new Closing(new ArrayList<>(aggregates.values()), commitOffsets, closedUpTo, plays);
+    }
+
+    /**
+     * 전송/커밋이 끝난 윈도우를 상태에서 제거
+     */
+    public synchronized void confirm(Closing closing) {
+        closing.closedUpTo().forEach((partition, lastClosed) -> {
+            PartitionWindows windows = partitions.get(partition);
+            if (windows == null) {
+                return; // 그 사이 리밸런스로 반납된 파티션
+            }
+            windows.open.headMap(lastClosed, true).clear();
+            windows.minWindowStart = Math.max(windows.minWindowStart, lastClosed + windowMs);
+        });
+    }
+
+    /**
+     * 반납/유실된 파티션 상태 폐기 (커밋되지 않은 재생은 새 소유자가 다시 읽어 집계)
+     */
+    public synchronized void revoke(Collection<Integer> revoked) {
+        revoked.forEach(partitions::remove);
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        long openWindows = 0;
+        long bufferedPlays = 0;
+        for (PartitionWindows windows : partitions.values()) {
+            openWindows += windows.open.size();
+            for (Window window : windows.open.values()) {
+                bufferedPlays += window.plays;
+            }
+        }
+        snapshot.put("partitions", new TreeSet<>(partitions.keySet()));
+        snapshot.put("openWindows", openWindows);
+        snapshot.put("bufferedPlays", bufferedPlays);
+        return snapshot;
+    }
+
+    public long windowStart(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, windowMs);
+    }
+
+    private static void merge(Map<String, PlayAggregate> aggregates, long windowStart, String type, Long id, long count) {
+        aggregates.merge(windowStart + ":" + type + ":" + id, new PlayAggregate(windowStart, type, id, count),
+                (a, b) -> new PlayAggregate(windowStart, type, id, a.getCount() + b.getCount()));
+    }
+
+    /**
+     * 닫을 윈도우 집계 + 파티션별 커밋 오프셋(다음에 읽을 위치) + 파티션별 마지막으로 닫은 윈도우 시작 시각
+     */
+    public record Closing(List<PlayAggregate> aggregates, Map<Integer, Long> commitOffsets,
+                          Map<Integer, Long> closedUpTo, long plays) {
+    }
+
+    private static class PartitionWindows {
+        private final TreeMap<Long, Window> open = new TreeMap<>();
+        private long minWindowStart = Long.MIN_VALUE;
+        private long lastOffset = -1;
+    }
+
+    private static class Window {
+        private final long firstOffset;
+        private final Map<Long, Long> tracks = new HashMap<>();
+        private final Map<Long, Long> artists = new HashMap<>();
+        private long plays;
+
+        private Window(long firstOffset) {
+            this.firstOffset = firstOffset;
+        }
+    }
+}
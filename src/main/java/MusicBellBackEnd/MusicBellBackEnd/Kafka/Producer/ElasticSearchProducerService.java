@@ -2,38 +2,70 @@ package MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer;
 
 
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
-import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
+/**
+ * ElasticSearch 동기화 이벤트 발행
+ * Kafka로 바로 보내지 않고 호출한 트랜잭션 안에서 outbox에 기록 → 롤백되면 이벤트도 사라지고,
+ * 커밋된 이벤트는 EsOutboxRelay가 브로커 장애와 무관하게 전달
+ */
 @Service
 @RequiredArgsConstructor
 public class ElasticSearchProducerService {
-    private final KafkaTemplate<String, ElasticSearchEvent> kafkaTemplate;
+    private final EsOutboxRepository esOutboxRepository;
     private static final Logger log = LoggerFactory.getLogger(ElasticSearchProducerService.class);
-    @Value("${spring.kafka.topics.es-sending}")
-    private String esTopic;
 
 
     public void sendSyncEvent(Long artstId) {
-        sendEvent(new ElasticSearchEvent(artstId, "sync"));
+        sendEvent(artstId, "sync");
     }
 
     public void sendDeleteEvent(Long artstId) {
-        sendEvent(new ElasticSearchEvent(artstId, "delete"));
+        sendEvent(artstId, "delete");
+    }
+
+    // 통계(팔로워/재생/좋아요 수)만 바뀐 경우 - Consumer에서 부분 업데이트로 처리
+    public void sendStatsEvent(Long artstId) {
+        sendEvent(artstId, "stats");
+    }
+
+    /**
+     * 여러 아티스트의 stats 이벤트를 한 트랜잭션으로 기록 (통계 일괄 반영용)
+     */
+    public void sendStatsEvents(Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) {
+            return;
+        }
+        try {
+            esOutboxRepository.saveAll(artistIds.stream()
+                    .map(artistId -> EsOutboxEvent.builder().artistId(artistId).action("stats").build())
+                    .toList());
+        } catch (Exception e) {
+            log.error("ElasticSearchEvent outbox 일괄 기록 실패", e);
+            throw new GlobalException(
+                    "ElasticSearch 이벤트 전송 실패",
+                    "KAFKA_SEND_ERROR",
+                    HttpStatus.INTERNAL_SERVER_ERROR);
+        }
     }
 
-    private void sendEvent(ElasticSearchEvent event) {
+    private void sendEvent(Long artistId, String action) {
         try {
-            kafkaTemplate.send(esTopic, event);
-            log.info("ElasticSearchEvent 전송: {}", event);
+            esOutboxRepository.save(EsOutboxEvent.builder()
+                    .artistId(artistId)
+                    .action(action)
+                    .build());
+            log.debug("ElasticSearchEvent outbox 기록: artistId={}, action={}", artistId, action);
         } catch (Exception e) {
-            log.error("ElasticSearchEvent 전송 실패", e);
+            log.error("ElasticSearchEvent outbox 기록 실패", e);
             throw new GlobalException(
                     "ElasticSearch 이벤트 전송 실패",
                     "KAFKA_SEND_ERROR",
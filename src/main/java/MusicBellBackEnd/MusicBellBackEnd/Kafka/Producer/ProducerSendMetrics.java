@@ -0,0 +1,48 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kafka 전송 결과 메트릭 (send 콜백에서 기록, 전송 스레드를 막지 않음)
+ */
+@Component
+public class ProducerSendMetrics {
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile String lastError;
+
+    /**
+     * send 호출 시각(System.nanoTime)부터 브로커 ack까지의 지연 기록
+     */
+    public void record(long startNanos, Throwable error) {
+        long latency = System.nanoTime() - startNanos;
+        if (error != null) {
+            failed.increment();
+            lastError = error.getMessage();
+            return;
+        }
+        succeeded.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    public Map<String, Object> snapshot() {
+        long success = succeeded.sum();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("succeeded", success);
+        snapshot.put("failed", failed.sum());
+        snapshot.put("avgLatencyMs", success > 0 ? totalLatencyNanos.sum() / (double) success / TimeUnit.MILLISECONDS.toNanos(1) : 0.0);
+        snapshot.put("maxLatencyMs", TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+        snapshot.put("lastError", lastError);
+        return snapshot;
+    }
+}
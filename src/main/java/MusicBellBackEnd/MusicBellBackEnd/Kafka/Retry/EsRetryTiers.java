@@ -0,0 +1,113 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ES 이벤트 비차단 재시도 단계 (es-sending → es-retry-1 → es-retry-2 → es-retry-3 → es-dlq)
+ *
+ * - 실패한 레코드는 즉시 다음 단계 토픽으로 옮겨져 원래 파티션은 계속 진행
+ * - 단계 토픽의 레코드는 전송 시각 + 단계 지연이 지난 뒤 처리
+ * - 단계별 이동/복구/DLQ 건수 집계
+ */
+@Component
+public class EsRetryTiers {
+
+    // 재시도 레코드에 붙이는 헤더 (DLQ 기록 시 원본 위치 복원용)
+    public static final String HEADER_ORIGINAL_TOPIC = "es-retry-original-topic";
+    public static final String HEADER_ORIGINAL_PARTITION = "es-retry-original-partition";
+    public static final String HEADER_ORIGINAL_OFFSET = "es-retry-original-offset";
+    public static final String HEADER_ATTEMPT = "es-retry-attempt";
+
+    private final List<String> tierTopics;
+    private final List<Long> tierDelaysMs;
+    private final String dlqTopic;
+
+    private final Map<String, LongAdder> forwarded = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> recovered = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> deadLettered = new ConcurrentHashMap<>();
+
+    public EsRetryTiers(@Value("${spring.kafka.topics.es-retry}") String retryTopic,
+                        @Value("${spring.kafka.topics.es-dlq}") String dlqTopic,
+                        @Value("${musicbell.kafka.es.retry.tier1-delay-ms:1000}") long tier1DelayMs,
+                        @Value("${musicbell.kafka.es.retry.tier2-delay-ms:10000}") long tier2DelayMs,
+                        @Value("${musicbell.kafka.es.retry.tier3-delay-ms:60000}") long tier3DelayMs) {
+        this.tierTopics = List.of(retryTopic + "-1", retryTopic + "-2", retryTopic + "-3");
+        this.tierDelaysMs = List.of(tier1DelayMs, tier2DelayMs, tier3DelayMs);
+        this.dlqTopic = dlqTopic;
+    }
+
+    /**
+     * 재시도 단계 번호 (1부터, 원본 토픽 등 단계 토픽이 아니면 0)
+     */
+    public int tierOf(String topic) {
+        return tierTopics.indexOf(topic) + 1;
+    }
+
+    /**
+     * 실패한 레코드가 이동할 토픽 (마지막 단계 다음은 DLQ)
+     */
+    public String nextTopic(String topic) {
+        int tier = tierOf(topic);
+        return tier < tierTopics.size() ? tierTopics.get(tier) : dlqTopic;
+    }
+
+    /**
+     * 단계 토픽 레코드를 처리할 수 있는 시각
+     */
+    public long dueAt(String topic, long recordTimestamp) {
+        int tier = tierOf(topic);
+        return tier > 0 ? recordTimestamp + tierDelaysMs.get(tier - 1) : recordTimestamp;
+    }
+
+    public List<String> getTierTopics() {
+        return tierTopics;
+    }
+
+    public void recordForwarded(String toTopic) {
+        counter(forwarded, toTopic).increment();
+    }
+
+    public void recordRecovered(String topic) {
+        counter(recovered, topic).increment();
+    }
+
+    public void recordDeadLettered(String fromTopic) {
+        counter(deadLettered, fromTopic).increment();
+    }
+
+    /**
+     * 단계별 집계 (forwarded: 단계로 들어온 수, recovered: 단계에서 성공한 수, deadLettered: 해당 토픽에서 DLQ로 간 수)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> tiers = new LinkedHashMap<>();
+        for (int i = 0; i < tierTopics.size(); i++) {
+            String topic = tierTopics.get(i);
+            Map<String, Object> tier = new LinkedHashMap<>();
+            tier.put("delayMs", tierDelaysMs.get(i));
+            tier.put("forwarded", sum(forwarded, topic));
+            tier.put("recovered", sum(recovered, topic));
+            tier.put("deadLettered", sum(deadLettered, topic));
+            tiers.put(topic, tier);
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("tiers", tiers);
+        snapshot.put("deadLetteredTotal", deadLettered.values().stream().mapToLong(LongAdder::sum).sum());
+        return snapshot;
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String topic) {
+        return counters.computeIfAbsent(topic, key -> new LongAdder());
+    }
+
+    private static long sum(Map<String, LongAdder> counters, String topic) {
+        LongAdder adder = counters.get(topic);
+        return adder != null ? adder.sum() : 0;
+    }
+}
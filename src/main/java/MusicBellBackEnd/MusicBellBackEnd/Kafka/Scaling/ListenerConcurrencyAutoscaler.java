@@ -0,0 +1,281 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring.KafkaOffsetsCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener 동시성 자동 조정
+ *
+ * - KafkaOffsetsCache의 그룹 lag과 Listener가 기록한 레코드당 처리 시간으로 필요한 Consumer 수를 계산
+ * - 최소값 ~ 파티션 수(설정 최대값 이내) 범위에서만 조정 (파티션보다 많은 Consumer는 유휴)
+ * - 컨테이너 동시성은 재시작 시 반영되므로 변경 시 stop → setConcurrency → start (미커밋 레코드는 재전달, 멱등 처리)
+ * - 축소는 lag이 낮은 상태가 연속될 때만, 변경 후에는 쿨다운 동안 유지 (리밸런스 반복 방지)
+ */
+@Slf4j
+@Component
+public class ListenerConcurrencyAutoscaler {
+
+    public static final String ES_TARGET = "es";
+    public static final String DLQ_TARGET = "dlq";
+
+    public static final String ES_BATCH_LISTENER_ID = "es-sending-batch";
+    public static final String ES_SINGLE_LISTENER_ID = "es-sending-single";
+    public static final String DLQ_LISTENER_ID = "es-dlq";
+
+    private static final int DECISION_HISTORY_SIZE = 20;
+    // 처리 시간 지수 이동 평균 가중치
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaOffsetsCache kafkaOffsetsCache;
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+
+    @Value("${musicbell.kafka.autoscale.enabled:true}")
+    private boolean enabled;
+
+    @Value("${musicbell.kafka.autoscale.min-concurrency:1}")
+    private int minConcurrency;
+
+    // 0이면 파티션 수까지
+    @Value("${musicbell.kafka.autoscale.max-concurrency:0}")
+    private int maxConcurrency;
+
+    @Value("${musicbell.kafka.autoscale.scale-up-lag:1000}")
+    private long scaleUpLag;
+
+    @Value("${musicbell.kafka.autoscale.scale-down-lag:100}")
+    private long scaleDownLag;
+
+    // 현재 lag을 이 시간 안에 처리할 수 있도록 Consumer 수 계산
+    @Value("${musicbell.kafka.autoscale.target-drain-ms:30000}")
+    private long targetDrainMs;
+
+    @Value("${musicbell.kafka.autoscale.scale-down-checks:3}")
+    private int scaleDownChecks;
+
+    @Value("${musicbell.kafka.autoscale.cooldown-ms:60000}")
+    private long cooldownMs;
+
+    public ListenerConcurrencyAutoscaler(KafkaListenerEndpointRegistry registry,
+                                         KafkaOffsetsCache kafkaOffsetsCache,
+                                         @Value("${spring.kafka.topics.es-sending}") String esTopic,
+                                         @Value("${spring.kafka.topics.es-dlq}") String dlqTopic,
+                                         @Value("${spring.kafka.es.consumer.group-id}") String esGroupId,
+                                         @Value("${spring.kafka.dlq.consumer.group-id}") String dlqGroupId) {
+        this.registry = registry;
+        this.kafkaOffsetsCache = kafkaOffsetsCache;
+        targets.put(ES_TARGET, new Target(ES_TARGET, esTopic, esGroupId, List.of(ES_BATCH_LISTENER_ID, ES_SINGLE_LISTENER_ID)));
+        targets.put(DLQ_TARGET, new Target(DLQ_TARGET, dlqTopic, dlqGroupId, List.of(DLQ_LISTENER_ID)));
+    }
+
+    /**
+     * Listener 처리 시간 기록 (poll 단위, 레코드당 평균으로 환산)
+     */
+    public void recordProcessing(String targetName, int records, long elapsedNanos) {
+        Target target = targets.get(targetName);
+        if (target == null || records <= 0) {
+            return;
+        }
+        double msPerRecord = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1) / records;
+        synchronized (target) {
+            target.avgMsPerRecord = target.avgMsPerRecord == 0
+                    ? msPerRecord
+                    : EWMA_ALPHA * msPerRecord + (1 - EWMA_ALPHA) * target.avgMsPerRecord;
+        }
+    }
+
+    /**
+     * 주기적으로 lag/처리 시간을 확인해 동시성 조정
+     */
+    @Scheduled(fixedDelayString = "${musicbell.kafka.autoscale.interval-ms:15000}",
+            initialDelayString = "${musicbell.kafka.autoscale.interval-ms:15000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        for (Target target : targets.values()) {
+            try {
+                evaluate(target);
+            } catch (Exception e) {
+                log.warn("Listener 동시성 조정 실패: target={}, error={}", target.name, e.getMessage());
+            }
+        }
+    }
+
+    private void evaluate(Target target) {
+        ConcurrentMessageListenerContainer<?, ?> container = runningContainer(target);
+        KafkaOffsetsCache.TopicOffsets offsets = kafkaOffsetsCache.getSnapshot().topics().get(target.topic);
+        KafkaOffsetsCache.GroupLag groupLag = kafkaOffsetsCache.getGroupLag(target.groupId);
+        if (container == null || offsets == null || groupLag == null) {
+            // 컨테이너가 꺼져 있거나 lag 캐시가 아직 갱신 전
+            return;
+        }
+
+        int partitions = offsets.partitions();
+        int max = maxConcurrency > 0 ? Math.min(maxConcurrency, partitions) : partitions;
+        int min = Math.max(1, Math.min(minConcurrency, max));
+        long lag = topicLag(groupLag, target.topic);
+
+        synchronized (target) {
+            int current = container.getConcurrency();
+            target.current = current;
+            target.partitions = partitions;
+            target.lastLag = lag;
+            target.lowLagChecks = lag <= scaleDownLag ? target.lowLagChecks + 1 : 0;
+
+            int desired = desiredConcurrency(current, min, max, lag, target.avgMsPerRecord,
+                    targetDrainMs, scaleUpLag, scaleDownLag);
+            if (desired < current && target.lowLagChecks < scaleDownChecks) {
+                desired = current;
+            }
+            // 범위 밖(설정 변경/파티션 축소)이면 쿨다운과 무관하게 바로잡음
+            boolean outOfBounds = current > max || current < min;
+            if (desired == current
+                    || (!outOfBounds && System.currentTimeMillis() - target.lastChangeAt < cooldownMs)) {
+                return;
+            }
+
+            String reason = desired > current
+                    ? (outOfBounds ? "below-min" : "lag-high")
+                    : (outOfBounds ? "above-max" : "lag-low");
+            log.info("Listener 동시성 조정: target={}, {} -> {}, lag={}, msPerRecord={}, partitions={}, reason={}",
+                    target.name, current, desired, lag, String.format("%.2f", target.avgMsPerRecord), partitions, reason);
+
+            container.stop();
+            container.setConcurrency(desired);
+            container.start();
+
+            target.current = desired;
+            target.lastChangeAt = System.currentTimeMillis();
+            target.lowLagChecks = 0;
+            if (desired > current) {
+                target.scaleUps++;
+            } else {
+                target.scaleDowns++;
+            }
+            target.decisions.addFirst(new ScalingDecision(target.lastChangeAt, current, desired, lag, target.avgMsPerRecord, reason));
+            while (target.decisions.size() > DECISION_HISTORY_SIZE) {
+                target.decisions.removeLast();
+            }
+        }
+    }
+
+    /**
+     * 목표 동시성 계산
+     * - lag이 높으면: 처리 시간이 있으면 목표 시간 안에 lag을 소화할 수 있는 수, 없으면 2배 (최소 +1)
+     * - lag이 낮으면: 1 감소
+     * - 결과는 항상 [min, max]
+     */
+    static int desiredConcurrency(int current, int min, int max, long lag, double avgMsPerRecord,
+                                  long targetDrainMs, long scaleUpLag, long scaleDownLag) {
+        int desired = current;
+        if (lag >= scaleUpLag) {
+            int needed = avgMsPerRecord > 0 && targetDrainMs > 0
+                    ? (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(lag * avgMsPerRecord / targetDrainMs))
+                    : current * 2;
+            desired = Math.max(current + 1, needed);
+        } else if (lag <= scaleDownLag) {
+            desired = current - 1;
+        }
+        return Math.max(min, Math.min(max, desired));
+    }
+
+    /**
+     * 그룹 lag 중 대상 토픽 파티션만 합산 (재시도 단계 토픽도 같은 그룹을 사용)
+     */
+    static long topicLag(KafkaOffsetsCache.GroupLag groupLag, String topic) {
+        long lag = 0;
+        for (Map.Entry<String, Long> entry : groupLag.partitionLag().entrySet()) {
+            String partition = entry.getKey();
+            int separator = partition.lastIndexOf('-');
+            if (separator > 0 && partition.substring(0, separator).equals(topic)) {
+                lag += entry.getValue();
+            }
+        }
+        return lag;
+    }
+
+    /**
+     * 대상의 실행 중인 Listener 컨테이너 (배치/단건 중 켜져 있는 것)
+     */
+    private ConcurrentMessageListenerContainer<?, ?> runningContainer(Target target) {
+        for (String listenerId : target.listenerIds) {
+            MessageListenerContainer container = registry.getListenerContainer(listenerId);
+            if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent && concurrent.isRunning()) {
+                return concurrent;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 대상별 현재 상태와 최근 조정 이력
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        for (Target target : targets.values()) {
+            synchronized (target) {
+                Map<String, Object> state = new LinkedHashMap<>();
+                state.put("topic", target.topic);
+                state.put("groupId", target.groupId);
+                state.put("concurrency", target.current);
+                state.put("partitions", target.partitions);
+                state.put("lag", target.lastLag);
+                state.put("avgMsPerRecord", target.avgMsPerRecord);
+                state.put("scaleUps", target.scaleUps);
+                state.put("scaleDowns", target.scaleDowns);
+                state.put("lastChangeAt", target.lastChangeAt);
+                state.put("decisions", new ArrayList<>(target.decisions));
+                snapshot.put(target.name, state);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 조정 이력
+     */
+    public record ScalingDecision(long timestamp, int from, int to, long lag, double avgMsPerRecord, String reason) {
+    }
+
+    /**
+     * 조정 대상 (토픽/그룹/Listener id + 상태, 인스턴스 락으로 보호)
+     */
+    private static class Target {
+        private final String name;
+        private final String topic;
+        private final String groupId;
+        private final List<String> listenerIds;
+        private final Deque<ScalingDecision> decisions = new ArrayDeque<>();
+        private int current;
+        private int partitions;
+        private long lastLag;
+        private double avgMsPerRecord;
+        private int lowLagChecks;
+        private long lastChangeAt;
+        private long scaleUps;
+        private long scaleDowns;
+
+        private Target(String name, String topic, String groupId, List<String> listenerIds) {
+            this.name = name;
+            this.topic = topic;
+            this.groupId = groupId;
+            this.listenerIds = listenerIds;
+        }
+    }
+}
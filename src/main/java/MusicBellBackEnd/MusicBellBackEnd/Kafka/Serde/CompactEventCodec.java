@@ -0,0 +1,398 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 내부 이벤트 바이너리 인코딩 (스키마 버전 포함)
+ *
+ * 형식: [MAGIC][VERSION][TYPE] + 필드 존재 비트맵(varint) + 존재하는 필드만 순서대로
+ * - 숫자는 zigzag varint, 문자열은 길이(varint) + UTF-8
+ * - action/status 등 값이 정해진 문자열은 사전 번호 1바이트 (사전에 없으면 0 + 문자열)
+ * - DlqMessage의 원본 이벤트는 지원 타입이면 중첩 바이너리, 아니면 JSON 바이트로 포함
+ * - stackTrace는 MAX_STACK_TRACE_CHARS까지만 기록
+ *
+ * 필드/사전을 바꾸면 VERSION을 올리고, 읽는 쪽을 먼저 배포 (모르는 버전은 SerializationException)
+ * MAGIC 바이트는 JSON 첫 글자가 될 수 없는 값이라 같은 토픽에 JSON과 섞여 있어도 구분 가능
+ */
+public final class CompactEventCodec {
+
+    public static final byte MAGIC = (byte) 0xCE;
+    public static final byte VERSION = 1;
+
+    public static final int MAX_STACK_TRACE_CHARS = 4096;
+
+    private static final byte TYPE_JSON = 0;
+    private static final byte TYPE_ES_EVENT = 1;
+    private static final byte TYPE_DLQ_MESSAGE = 2;
+    private static final byte TYPE_PLAY_EVENT = 3;
+    private static final byte TYPE_PLAY_AGGREGATE = 4;
+
+    // 사전 (순서 변경 금지, 추가 시 VERSION 증가)
+    private static final List<String> ACTIONS = List.of("sync", "delete", "stats");
+    private static final List<String> STATUSES = List.of("FAILED", "RETRY_EXHAUSTED", "MANUAL_REVIEW");
+    private static final List<String> AGGREGATE_TYPES = List.of(PlayAggregate.TYPE_TRACK, PlayAggregate.TYPE_ARTIST);
+
+    private static final String TRUNCATED_MARKER = "\n\t... (truncated)";
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    private CompactEventCodec() {
+    }
+
+    public static boolean supports(Class<?> type) {
+        return type == ElasticSearchEvent.class || type == DlqMessage.class
+                || type == PlayEvent.class || type == PlayAggregate.class;
+    }
+
+    public static boolean isCompact(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object event) {
+        Writer out = new Writer(64);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeTyped(out, event);
+        return out.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        if (!isCompact(data)) {
+            throw new SerializationException("바이너리 이벤트 형식이 아닙니다");
+        }
+        byte version = data[1];
+        if (version < 1 || version > VERSION) {
+            throw new SerializationException("지원하지 않는 이벤트 스키마 버전: " + version);
+        }
+        Reader in = new Reader(data, 2);
+        Object event = readTyped(in);
+        if (in.position != data.length) {
+            throw new SerializationException("바이너리 이벤트 뒤에 남은 바이트: " + (data.length - in.position));
+        }
+        return event;
+    }
+
+    // === 타입별 인코딩 ===
+
+    private static void writeTyped(Writer out, Object event) {
+        if (event instanceof ElasticSearchEvent e) {
+            out.writeByte(TYPE_ES_EVENT);
+            writeEsEvent(out, e);
+        } else if (event instanceof DlqMessage m) {
+            out.writeByte(TYPE_DLQ_MESSAGE);
+            writeDlqMessage(out, m);
+        } else if (event instanceof PlayEvent p) {
+            out.writeByte(TYPE_PLAY_EVENT);
+            writePlayEvent(out, p);
+        } else if (event instanceof PlayAggregate a) {
+            out.writeByte(TYPE_PLAY_AGGREGATE);
+            writePlayAggregate(out, a);
+        } else {
+            throw new SerializationException("바이너리 인코딩 미지원 타입: " + (event != null ? event.getClass().getName() : null));
+        }
+    }
+
+    private static Object readTyped(Reader in) {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_ES_EVENT -> readEsEvent(in);
+            case TYPE_DLQ_MESSAGE -> readDlqMessage(in);
+            case TYPE_PLAY_EVENT -> readPlayEvent(in);
+            case TYPE_PLAY_AGGREGATE -> readPlayAggregate(in);
+            default -> throw new SerializationException("알 수 없는 이벤트 타입: " + type);
+        };
+    }
+
+    private static void writeEsEvent(Writer out, ElasticSearchEvent event) {
+        out.writePresence(event.getArtistId(), event.getAction());
+        out.writeLong(event.getArtistId());
+        out.writeSymbol(event.getAction(), ACTIONS);
+    }
+
+    private static ElasticSearchEvent readEsEvent(Reader in) {
+        long presence = in.readVarLong();
+        ElasticSearchEvent event = new ElasticSearchEvent();
+        if (has(presence, 0)) event.setArtistId(in.readZigZagLong());
+        if (has(presence, 1)) event.setAction(in.readSymbol(ACTIONS));
+        return event;
+    }
+
+    private static void writePlayEvent(Writer out, PlayEvent event) {
+        out.writePresence(event.getMusicId(), event.getArtistId(), event.getPlayedAt());
+        out.writeLong(event.getMusicId());
+        out.writeLong(event.getArtistId());
+        out.writeLong(event.getPlayedAt());
+    }
+
+    private static PlayEvent readPlayEvent(Reader in) {
+        long presence = in.readVarLong();
+        PlayEvent event = new PlayEvent();
+        if (has(presence, 0)) event.setMusicId(in.readZigZagLong());
+        if (has(presence, 1)) event.setArtistId(in.readZigZagLong());
+        if (has(presence, 2)) event.setPlayedAt(in.readZigZagLong());
+        return event;
+    }
+
+    private static void writePlayAggregate(Writer out, PlayAggregate aggregate) {
+        out.writePresence(aggregate.getWindowStart(), aggregate.getType(), aggregate.getId(), aggregate.getCount());
+        out.writeLong(aggregate.getWindowStart());
+        out.writeSymbol(aggregate.getType(), AGGREGATE_TYPES);
+        out.writeLong(aggregate.getId());
+        out.writeLong(aggregate.getCount());
+    }
+
+    private static PlayAggregate readPlayAggregate(Reader in) {
+        long presence = in.readVarLong();
+        PlayAggregate aggregate = new PlayAggregate();
+        if (has(presence, 0)) aggregate.setWindowStart(in.readZigZagLong());
+        if (has(presence, 1)) aggregate.setType(in.readSymbol(AGGREGATE_TYPES));
+        if (has(presence, 2)) aggregate.setId(in.readZigZagLong());
+        if (has(presence, 3)) aggregate.setCount(in.readZigZagLong());
+        return aggregate;
+    }
+
+    private static void writeDlqMessage(Writer out, DlqMessage message) {
+        String stackTrace = truncateStackTrace(message.getStackTrace());
+        out.writePresence(message.getOriginalTopic(), message.getOriginalPartition(), message.getOriginalOffset(),
+                message.getOriginalKey(), message.getOriginalValue(), message.getErrorMessage(), message.getErrorClass(),
+                stackTrace, message.getFailureTimestamp(), message.getRetryCount(), message.getProcessingStatus(),
+                message.getConsumerGroup(), message.getApplicationVersion());
+        out.writeString(message.getOriginalTopic());
+        out.writeInt(message.getOriginalPartition());
+        out.writeLong(message.getOriginalOffset());
+        out.writeString(message.getOriginalKey());
+        writeOriginalValue(out, message.getOriginalValue());
+        out.writeString(message.getErrorMessage());
+        out.writeString(message.getErrorClass());
+        out.writeString(stackTrace);
+        out.writeLong(message.getFailureTimestamp());
+        out.writeInt(message.getRetryCount());
+        out.writeSymbol(message.getProcessingStatus(), STATUSES);
+        out.writeString(message.getConsumerGroup());
+        out.writeString(message.getApplicationVersion());
+    }
+
+    private static DlqMessage readDlqMessage(Reader in) {
+        long presence = in.readVarLong();
+        DlqMessage message = new DlqMessage();
+        if (has(presence, 0)) message.setOriginalTopic(in.readString());
+        if (has(presence, 1)) message.setOriginalPartition((int) in.readZigZagLong());
+        if (has(presence, 2)) message.setOriginalOffset(in.readZigZagLong());
+        if (has(presence, 3)) message.setOriginalKey(in.readString());
+        if (has(presence, 4)) message.setOriginalValue(readOriginalValue(in));
+        if (has(presence, 5)) message.setErrorMessage(in.readString());
+        if (has(presence, 6)) message.setErrorClass(in.readString());
+        if (has(presence, 7)) message.setStackTrace(in.readString());
+        if (has(presence, 8)) message.setFailureTimestamp(in.readZigZagLong());
+        if (has(presence, 9)) message.setRetryCount((int) in.readZigZagLong());
+        if (has(presence, 10)) message.setProcessingStatus(in.readSymbol(STATUSES));
+        if (has(presence, 11)) message.setConsumerGroup(in.readString());
+        if (has(presence, 12)) message.setApplicationVersion(in.readString());
+        return message;
+    }
+
+    // 원본 이벤트: 지원 타입은 중첩 바이너리, 나머지(JSON으로 받은 Map 등)는 JSON 바이트
+    private static void writeOriginalValue(Writer out, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (supports(value.getClass()) && !(value instanceof DlqMessage)) {
+            writeTyped(out, value);
+            return;
+        }
+        try {
+            out.writeByte(TYPE_JSON);
+            out.writeBytes(OBJECT_MAPPER.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new SerializationException("DLQ 원본 이벤트 JSON 직렬화 실패", e);
+        }
+    }
+
+    private static Object readOriginalValue(Reader in) {
+        if (in.peekByte() != TYPE_JSON) {
+            return readTyped(in);
+        }
+        in.readByte();
+        try {
+            return OBJECT_MAPPER.readValue(in.readBytes(), Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("DLQ 원본 이벤트 JSON 역직렬화 실패", e);
+        }
+    }
+
+    static String truncateStackTrace(String stackTrace) {
+        if (stackTrace == null || stackTrace.length() <= MAX_STACK_TRACE_CHARS) {
+            return stackTrace;
+        }
+        int end = stackTrace.lastIndexOf('\n', MAX_STACK_TRACE_CHARS - TRUNCATED_MARKER.length());
+        if (end <= 0) {
+            end = MAX_STACK_TRACE_CHARS - TRUNCATED_MARKER.length();
+        }
+        return stackTrace.substring(0, end) + TRUNCATED_MARKER;
+    }
+
+    private static boolean has(long presence, int field) {
+        return (presence & (1L << field)) != 0;
+    }
+
+    /**
+     * 증가형 바이트 버퍼 (null 필드는 존재 비트맵으로만 표현하므로 write*는 null이면 아무것도 쓰지 않음)
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int size;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void writePresence(Object... fields) {
+            long presence = 0;
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    presence |= 1L << i;
+                }
+            }
+            writeVarLong(presence);
+        }
+
+        void writeByte(byte value) {
+            ensure(1);
+            buffer[size++] = value;
+        }
+
+        void writeLong(Long value) {
+            if (value != null) {
+                writeVarLong((value << 1) ^ (value >> 63));
+            }
+        }
+
+        void writeInt(Integer value) {
+            if (value != null) {
+                writeLong(value.longValue());
+            }
+        }
+
+        void writeString(String value) {
+            if (value != null) {
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        void writeSymbol(String value, List<String> dictionary) {
+            if (value == null) {
+                return;
+            }
+            int index = dictionary.indexOf(value);
+            writeByte((byte) (index + 1));
+            if (index < 0) {
+                writeString(value);
+            }
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        byte peekByte() {
+            require(1);
+            return data[position];
+        }
+
+        byte readByte() {
+            require(1);
+            return data[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("잘못된 varint");
+        }
+
+        long readZigZagLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        String readString() {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        String readSymbol(List<String> dictionary) {
+            int code = readByte() & 0xFF;
+            if (code == 0) {
+                return readString();
+            }
+            if (code > dictionary.size()) {
+                throw new SerializationException("알 수 없는 사전 값: " + code);
+            }
+            return dictionary.get(code - 1);
+        }
+
+        byte[] readBytes() {
+            long length = readVarLong();
+            if (length < 0 || length > data.length - position) {
+                throw new SerializationException("잘못된 길이: " + length);
+            }
+            byte[] bytes = Arrays.copyOfRange(data, position, position + (int) length);
+            position += (int) length;
+            return bytes;
+        }
+
+        private void require(int count) {
+            if (position + count > data.length) {
+                throw new SerializationException("바이너리 이벤트가 잘렸습니다");
+            }
+        }
+    }
+}
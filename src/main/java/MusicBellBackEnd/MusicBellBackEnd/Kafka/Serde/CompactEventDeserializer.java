@@ -0,0 +1,63 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+
+/**
+ * 바이너리(CompactEventCodec)와 JSON을 모두 읽는 Deserializer
+ *
+ * 첫 바이트가 MAGIC이면 바이너리, 아니면 JsonDeserializer(VALUE_DEFAULT_TYPE)로 처리
+ * → 바이너리 전송을 켜기 전/후 메시지가 같은 토픽에 섞여 있어도 그대로 소비 가능
+ */
+public class CompactEventDeserializer<T> implements Deserializer<T> {
+
+    private final JsonDeserializer<T> jsonDeserializer = new JsonDeserializer<>();
+    private Class<?> targetType;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+        Object defaultType = configs.get(isKey ? JsonDeserializer.KEY_DEFAULT_TYPE : JsonDeserializer.VALUE_DEFAULT_TYPE);
+        if (defaultType instanceof Class<?> type) {
+            targetType = type;
+        } else if (defaultType instanceof String typeName) {
+            targetType = ClassUtils.resolveClassName(typeName, ClassUtils.getDefaultClassLoader());
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (CompactEventCodec.isCompact(data)) {
+            return decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (CompactEventCodec.isCompact(data)) {
+            return decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(byte[] data) {
+        Object event = CompactEventCodec.decode(data);
+        if (targetType != null && !targetType.isInstance(event)) {
+            throw new SerializationException("예상과 다른 이벤트 타입: expected=" + targetType.getSimpleName()
+                    + ", actual=" + event.getClass().getSimpleName());
+        }
+        return (T) event;
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,41 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+/**
+ * 내부 이벤트는 바이너리(CompactEventCodec), 그 외 값(ArtistDocument 등)은 기존 JSON으로 직렬화
+ */
+public class CompactEventSerializer implements Serializer<Object> {
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        return CompactEventCodec.supports(data.getClass()) ? CompactEventCodec.encode(data) : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        return CompactEventCodec.supports(data.getClass()) ? CompactEventCodec.encode(data) : jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,88 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.State;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistDocument;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 아티스트 상태 토픽(log compaction) 발행
+ *
+ * - 키 {artistId}: ES에 색인된 최신 ArtistDocument, 키 stats:{artistId}: 최신 통계
+ * - DB에서 사라진 아티스트는 두 키 모두 tombstone(null)으로 정리
+ * - ES 쓰기가 성공한 뒤 비동기로 발행 (실패해도 다음 동기화/재색인 때 다시 채워짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtistStatePublisher {
+
+    private static final String STATS_KEY_PREFIX = "stats:";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProducerSendMetrics producerSendMetrics;
+
+    @Value("${spring.kafka.topics.artist-state:artist-state}")
+    private String artistStateTopic;
+
+    @Value("${musicbell.kafka.artist-state.enabled:true}")
+    private boolean enabled;
+
+    public void publishDocuments(Collection<ArtistDocument> documents) {
+        if (!enabled) {
+            return;
+        }
+        for (ArtistDocument document : documents) {
+            send(document.getId(), document);
+        }
+    }
+
+    public void publishStats(Collection<ArtistStatsState> stats) {
+        if (!enabled) {
+            return;
+        }
+        for (ArtistStatsState state : stats) {
+            send(statsKey(state.artistId()), state);
+        }
+    }
+
+    public void publishTombstones(Collection<Long> artistIds) {
+        if (!enabled) {
+            return;
+        }
+        for (Long artistId : artistIds) {
+            send(artistId.toString(), null);
+            send(statsKey(artistId), null);
+        }
+    }
+
+    public String getTopic() {
+        return artistStateTopic;
+    }
+
+    public static String statsKey(long artistId) {
+        return STATS_KEY_PREFIX + artistId;
+    }
+
+    /**
+     * 통계 키면 아티스트 ID, 문서 키면 null
+     */
+    public static Long statsArtistId(String key) {
+        return key != null && key.startsWith(STATS_KEY_PREFIX) ? Long.valueOf(key.substring(STATS_KEY_PREFIX.length())) : null;
+    }
+
+    private void send(String key, Object value) {
+        long startNanos = System.nanoTime();
+        kafkaTemplate.send(artistStateTopic, key, value).whenComplete((result, error) -> {
+            producerSendMetrics.record(startNanos, error);
+            if (error != null) {
+                log.warn("아티스트 상태 토픽 발행 실패: key={}, error={}", key, error.getMessage());
+            }
+        });
+    }
+}
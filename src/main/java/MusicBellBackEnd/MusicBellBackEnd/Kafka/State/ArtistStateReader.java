@@ -0,0 +1,114 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.State;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 아티스트 상태 토픽 재생 (그룹 없이 assign, 처음부터 시작 시점의 끝 오프셋까지)
+ *
+ * - 문서는 batch 단위로 바로 넘기고(메모리에 전체를 들고 있지 않음), 통계/삭제만 모아서 반환
+ * - 압축 전 구간에서 같은 키가 여러 번 나오면 나중 레코드가 우선 (문서 쓰기는 외부 버전으로도 보호)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtistStateReader {
+
+    private final ArtistStatePublisher artistStatePublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${musicbell.kafka.artist-state.replay-batch-size:2000}")
+    private int batchSize;
+
+    /**
+     * 토픽 전체 재생
+     *
+     * @param documentSink 문서 batch 처리 (색인한 문서 수 반환)
+     */
+    public ReplayResult replay(Function<List<ArtistDocument>, Integer> documentSink) throws IOException {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1024 * 1024);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 100);
+
+        Map<Long, ArtistStatsState> stats = new HashMap<>();
+        Set<Long> deleted = new HashSet<>();
+        long records = 0;
+        long indexed = 0;
+
+        try (Consumer<String, String> consumer = new KafkaConsumer<>(props)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(artistStatePublisher.getTopic()).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            while (partitions.stream().anyMatch(tp -> consumer.position(tp) < endOffsets.get(tp))) {
+                List<ArtistDocument> documents = new ArrayList<>(batchSize);
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+                    if (record.offset() >= endOffsets.get(new TopicPartition(record.topic(), record.partition()))) {
+                        continue;
+                    }
+                    records++;
+                    Long statsArtistId = ArtistStatePublisher.statsArtistId(record.key());
+                    if (statsArtistId != null) {
+                        if (record.value() == null) {
+                            stats.remove(statsArtistId);
+                        } else {
+                            stats.put(statsArtistId, objectMapper.readValue(record.value(), ArtistStatsState.class));
+                        }
+                        continue;
+                    }
+                    Long artistId = Long.valueOf(record.key());
+                    if (record.value() == null) {
+                        deleted.add(artistId);
+                        continue;
+                    }
+                    deleted.remove(artistId);
+                    documents.add(objectMapper.readValue(record.value(), ArtistDocument.class));
+                }
+                if (!documents.isEmpty()) {
+                    indexed += documentSink.apply(documents);
+                }
+            }
+        }
+
+        log.info("아티스트 상태 토픽 재생 완료: records={}, indexed={}, stats={}, deleted={}",
+                records, indexed, stats.size(), deleted.size());
+        return new ReplayResult(records, indexed, List.copyOf(stats.values()), Set.copyOf(deleted));
+    }
+
+    /**
+     * 재생 결과 (문서 외에 마지막에 반영할 통계/삭제 목록)
+     */
+    public record ReplayResult(long records, long indexed, List<ArtistStatsState> stats, Set<Long> deletedIds) {
+    }
+}
@@ -0,0 +1,8 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.State;
+
+/**
+ * 아티스트 상태 토픽의 통계 레코드 (키: stats:{artistId})
+ * 통계 부분 업데이트는 문서 전체를 만들지 않으므로 별도 키로 최신 카운터만 보관
+ */
+public record ArtistStatsState(long artistId, long followerCount, long totalPlayCount, long totalLikeCount, long version) {
+}
@@ -0,0 +1,120 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 업로드 전용 JDBC 일괄 INSERT
+ *
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 청크마다 multi-row INSERT 한 문장을 보내고 DB가 할당한 id 블록을 generated keys로 돌려받는다.
+ * (InnoDB는 행 수가 정해진 단일 INSERT의 auto_increment 값을 한 번에 연속 할당)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MusicBulkInsertRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 문장에 담는 행 수 (19컬럼 x 500행 = 9,500 파라미터)
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO music_entity "
+            + "(title, artist, artist_id, album, genre, release_date, duration, music_url, album_image_url, "
+            + "uploader_name, uploader_id, play_count, like_count, is_public, file_size, file_type, music_grade, "
+            + "created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+
+    /**
+     * 음악 엔티티를 청크 단위 multi-row INSERT로 저장하고 생성된 id와 생성/수정 시각을 엔티티에 채움
+     */
+    public void insertAll(List<MusicEntity> musics) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < musics.size(); from += ROWS_PER_STATEMENT) {
+            insertChunk(musics.subList(from, Math.min(from + ROWS_PER_STATEMENT, musics.size())), now);
+        }
+    }
+
+    private void insertChunk(List<MusicEntity> chunk, LocalDateTime now) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW_PLACEHOLDER.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), new String[]{"id"});
+            int index = 1;
+            for (MusicEntity music : chunk) {
+                ps.setString(index++, music.getTitle());
+                ps.setString(index++, music.getArtist());
+                setLong(ps, index++, music.getArtistEntity() != null ? music.getArtistEntity().getId() : null);
+                ps.setString(index++, music.getAlbum());
+                ps.setString(index++, music.getGenre());
+                if (music.getReleaseDate() != null) {
+                    ps.setDate(index++, Date.valueOf(music.getReleaseDate()));
+                } else {
+                    ps.setNull(index++, Types.DATE);
+                }
+                if (music.getDuration() != null) {
+                    ps.setInt(index++, music.getDuration());
+                } else {
+                    ps.setNull(index++, Types.INTEGER);
+                }
+                ps.setString(index++, music.getMusicUrl());
+                ps.setString(index++, music.getAlbumImageUrl());
+                ps.setString(index++, music.getUploaderName());
+                setLong(ps, index++, music.getUploaderId());
+                setLong(ps, index++, music.getPlayCount() != null ? music.getPlayCount() : 0L);
+                setLong(ps, index++, music.getLikeCount() != null ? music.getLikeCount() : 0L);
+                ps.setBoolean(index++, music.getIsPublic() == null || music.getIsPublic());
+                setLong(ps, index++, music.getFileSize());
+                ps.setString(index++, music.getFileType());
+                ps.setString(index++, music.getMusicGrade());
+                ps.setTimestamp(index++, timestamp);
+                ps.setTimestamp(index++, timestamp);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("생성된 키 개수가 INSERT 행 수와 다릅니다: expected="
+                    + chunk.size() + ", actual=" + keys.size());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            // 드라이버마다 키 컬럼명이 다르므로(GENERATED_KEY, ID 등) 첫 번째 값을 사용
+            Number id = (Number) keys.get(i).values().iterator().next();
+            MusicEntity music = chunk.get(i);
+            music.setId(id.longValue());
+            music.setCreatedAt(now);
+            music.setUpdatedAt(now);
+        }
+    }
+
+    private void setLong(PreparedStatement ps, int index, Long value) throws java.sql.SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
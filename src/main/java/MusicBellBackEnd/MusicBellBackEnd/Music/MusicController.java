@@ -1,24 +1,32 @@
 package MusicBellBackEnd.MusicBellBackEnd.Music;
 
 import MusicBellBackEnd.MusicBellBackEnd.Auth.CustomUserDetails;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.CachedResponse;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.ResponseCacheService;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import MusicBellBackEnd.MusicBellBackEnd.Lyrics.LyricsService;
 import MusicBellBackEnd.MusicBellBackEnd.Lyrics.dto.LyricsResponse;
 import MusicBellBackEnd.MusicBellBackEnd.Music.Dto.*;
 import MusicBellBackEnd.MusicBellBackEnd.Redis.*;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -34,6 +42,15 @@ public class MusicController {
     private String bucket;
     private final RankingService rankingService;
     private final RecentPlayService recentPlayService;
+    private final ResponseCacheService responseCacheService;
+    private final MusicExportService musicExportService;
+
+    private static final Duration RANKING_CACHE_TTL = Duration.ofSeconds(5);
+    private static final int MAX_RANKING_LIMIT = 100;
+    // 테이블별 조회 가능한 기간 (캐시 키가 요청 값으로 무한히 늘어나지 않도록 허용 목록만)
+    private static final Map<String, Set<String>> RANKING_PERIODS = Map.of(
+            "music", Set.of("daily", "weekly", "monthly"),
+            "forum", Set.of("daily", "weekly"));
     // Presigned URL 생성 (음악 파일 및 이미지)
     @GetMapping("/presigned-url")
     public ResponseEntity<PresignedUrlResponseDto> getPresignedUrl(
@@ -186,17 +203,18 @@ public class MusicController {
     }
 
     // 인기 음악 TOP 10
-    @GetMapping("/popular")
-    public ResponseEntity<List<MusicStatsDto>> getPopularMusics() {
-        List<MusicStatsDto> popularMusics = musicService.getPopularMusics();
-        return ResponseEntity.ok(popularMusics);
+    @GetMapping(value = "/popular", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPopularMusics(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 사전 직렬화된 차트 바이트를 그대로 응답
+        return ResponseCacheService.toResponse(musicService.getPopularMusicsResponse(), ifNoneMatch);
     }
 
     // 최신 음악 TOP 10
-    @GetMapping("/latest")
-    public ResponseEntity<List<MusicStatsDto>> getLatestMusics() {
-        List<MusicStatsDto> latestMusics = musicService.getLatestMusics();
-        return ResponseEntity.ok(latestMusics);
+    @GetMapping(value = "/latest", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getLatestMusics(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ResponseCacheService.toResponse(musicService.getLatestMusicsResponse(), ifNoneMatch);
     }
 
     // 특정 업로더의 음악 목록
@@ -370,15 +388,42 @@ public class MusicController {
         return ResponseEntity.ok(Map.of("isInPlaylist", isInPlaylist));
     }
 
-    @GetMapping("/ranking")
-    public ResponseEntity<List<Long>> getRanking(
+    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRanking(
             @RequestParam(defaultValue = "music") String table,
             @RequestParam(defaultValue = "daily") String period,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String rankingTable = table.toLowerCase();
+        String rankingPeriod = period.toLowerCase();
+        Set<String> periods = RANKING_PERIODS.get(rankingTable);
+        if (periods == null || !periods.contains(rankingPeriod)) {
+            throw new GlobalException("지원하지 않는 랭킹 조회 조건입니다.", "INVALID_RANKING_PARAM");
+        }
+        int rankingLimit = Math.clamp(limit, 1, MAX_RANKING_LIMIT);
+
+        // 랭킹은 재생마다 바뀌므로 짧은 TTL 동안만 직렬화 결과를 재사용
+        CachedResponse ranking = responseCacheService.getOrCompute(
+                "ranking:" + rankingTable + ":" + rankingPeriod + ":" + rankingLimit, RANKING_CACHE_TTL,
+                () -> rankingService.getTop(rankingTable, rankingPeriod, rankingLimit));
+        return ResponseCacheService.toResponse(ranking, ifNoneMatch);
+    }
+
+    // 카탈로그 스트리밍 내보내기 (NDJSON/CSV, 마지막으로 받은 id를 afterId로 넘기면 이어받기)
+    @GetMapping("/export")
+    public void exportCatalog(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") Long afterId,
+            HttpServletResponse response) throws IOException {
+
+        MusicExportService.ExportFormat exportFormat = MusicExportService.ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"music-catalog." + exportFormat.getExtension() + "\"");
 
-        List<Long> topMusics = rankingService.getTop(table, period, limit);
-        log.info(topMusics.toString());
-        return ResponseEntity.ok(topMusics);
+        musicExportService.export(exportFormat, afterId, response.getOutputStream());
     }
 
     // 여러 음악 ID로 배치 조회 (랭킹용)
@@ -0,0 +1,164 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 음악 카탈로그 스트리밍 내보내기 (NDJSON / CSV)
+ *
+ * - COUNT + OFFSET 페이징 대신 id 순 순방향 커서 하나로 전체를 읽음
+ * - 엔티티가 아닌 컬럼 프로젝션을 읽는 즉시 출력 스트림에 써서 영속성 컨텍스트와 힙 사용량을 일정하게 유지
+ * - 모든 행은 id 오름차순이므로 마지막으로 받은 id를 afterId로 넘기면 이어받기 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MusicExportService {
+
+    private final MusicRepository musicRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,title,artist,artistId,album,genre,releaseDate,duration,"
+            + "musicUrl,albumImageUrl,uploaderName,playCount,likeCount,musicGrade,createdAt,updatedAt";
+
+    /**
+     * 공개 카탈로그를 afterId 이후부터 출력 스트림에 기록
+     *
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, Long afterId, OutputStream out) throws IOException {
+        long startId = afterId != null ? afterId : 0L;
+        long rows = 0;
+        long lastId = startId;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try (Stream<ExportRow> stream = musicRepository.streamPublicCatalogAfter(startId)) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<ExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                ExportRow row = iterator.next();
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                lastId = row.id();
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        }
+
+        log.info("카탈로그 내보내기 완료: format={}, afterId={}, rows={}, lastId={}", format, startId, rows, lastId);
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, ExportRow row) throws IOException {
+        Object[] values = {
+                row.id(), row.title(), row.artist(), row.artistId(), row.album(), row.genre(),
+                row.releaseDate(), row.duration(), row.musicUrl(), row.albumImageUrl(), row.uploaderName(),
+                row.playCount(), row.likeCount(), row.musicGrade(), row.createdAt(), row.updatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[i]);
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180: 구분자/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean needsQuote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new GlobalException("지원하지 않는 내보내기 형식입니다: " + value, "INVALID_EXPORT_FORMAT", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 내보내기 한 행 (MusicRepository.streamPublicCatalogAfter의 생성자 프로젝션 대상)
+     */
+    public record ExportRow(
+            Long id,
+            String title,
+            String artist,
+            Long artistId,
+            String album,
+            String genre,
+            LocalDate releaseDate,
+            Integer duration,
+            String musicUrl,
+            String albumImageUrl,
+            String uploaderName,
+            Long playCount,
+            Long likeCount,
+            String musicGrade,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+}
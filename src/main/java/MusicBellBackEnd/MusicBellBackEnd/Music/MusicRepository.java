@@ -1,18 +1,27 @@
 package MusicBellBackEnd.MusicBellBackEnd.Music;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MusicRepository extends JpaRepository<MusicEntity, Long> {
     
+    // 자동완성 인덱스 적재용 (id, title, playCount, likeCount) - 인기순 상위만
+    @Query("SELECT m.id, m.title, m.playCount, m.likeCount FROM MusicEntity m " +
+           "WHERE m.isPublic = true ORDER BY m.playCount DESC")
+    List<Object[]> findPublicAutocompleteRows(Pageable pageable);
+    
     // 공개된 음악만 조회
     Page<MusicEntity> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
     
@@ -69,6 +78,23 @@ public interface MusicRepository extends JpaRepository<MusicEntity, Long> {
     @Query("UPDATE MusicEntity m SET m.likeCount = m.likeCount - 1 WHERE m.id = :id AND m.likeCount > 0")
     void decrementLikeCount(@Param("id") Long id);
     
+    // === 카탈로그 내보내기 ===
+
+    // id 워터마크 이후의 공개 음악을 순방향 커서로 스트리밍 (MySQL은 fetchSize=MIN_VALUE일 때 행 단위 전송)
+    // 엔티티 대신 컬럼 프로젝션으로 받음 - 역방향 OneToOne(lyrics)의 행별 추가 SELECT가 없어야
+    // 스트리밍 결과셋이 열린 커넥션에서 다른 쿼리를 실행하지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new MusicBellBackEnd.MusicBellBackEnd.Music.MusicExportService$ExportRow(" +
+           "m.id, m.title, m.artist, a.id, m.album, m.genre, m.releaseDate, m.duration, " +
+           "m.musicUrl, m.albumImageUrl, m.uploaderName, m.playCount, m.likeCount, m.musicGrade, " +
+           "m.createdAt, m.updatedAt) " +
+           "FROM MusicEntity m LEFT JOIN m.artistEntity a " +
+           "WHERE m.isPublic = true AND m.id > :afterId ORDER BY m.id ASC")
+    Stream<MusicExportService.ExportRow> streamPublicCatalogAfter(@Param("afterId") Long afterId);
+    
     // === 마이그레이션 관련 쿼리 ===
     
     // 마이그레이션이 필요한 음악 조회 (기존 artist는 있지만 artistEntity가 null)
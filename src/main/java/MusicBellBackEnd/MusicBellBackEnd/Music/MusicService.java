@@ -3,20 +3,29 @@ package MusicBellBackEnd.MusicBellBackEnd.Music;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistEntity;
 import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistService;
 import MusicBellBackEnd.MusicBellBackEnd.Auth.CustomUserDetails;
+import MusicBellBackEnd.MusicBellBackEnd.Autocomplete.AutocompleteService;
+import MusicBellBackEnd.MusicBellBackEnd.Cache.CachedResponse;
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Play.PlayAggregateApplier;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Play.PlayEventPublisher;
 import MusicBellBackEnd.MusicBellBackEnd.Music.Dto.*;
+import MusicBellBackEnd.MusicBellBackEnd.Redis.ChartCacheService;
 import MusicBellBackEnd.MusicBellBackEnd.Redis.RankingService;
 import MusicBellBackEnd.MusicBellBackEnd.Redis.RecentPlayService;
 import MusicBellBackEnd.MusicBellBackEnd.Redis.RedisService;
 import MusicBellBackEnd.MusicBellBackEnd.Redis.PlaylistService;
+import MusicBellBackEnd.MusicBellBackEnd.Redis.TrackCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +35,13 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -41,7 +56,28 @@ public class MusicService {
     private final RankingService rankingService;
     private final PlaylistService playlistService;
     private final RecentPlayService recentPlayService;
-
+    private final ChartCacheService chartCacheService;
+    private final TrackCacheService trackCacheService;
+    private final MusicBulkInsertRepository musicBulkInsertRepository;
+    private final AutocompleteService autocompleteService;
+    private final PlayEventPublisher playEventPublisher;
+
+    // 인기/최신 차트 설정
+    private static final String POPULAR_MUSIC_CHART = "music:popular";
+    private static final String LATEST_MUSIC_CHART = "music:latest";
+    private static final int CHART_SIZE = 10;
+    private static final Comparator<MusicStatsDto> POPULAR_ORDER = Comparator.comparingLong(
+            (MusicStatsDto m) -> m.getPlayCount() != null ? m.getPlayCount() : 0L).reversed();
+    // ID는 생성 순서대로 증가하므로 createdAt 대신 사용
+    private static final Comparator<MusicStatsDto> LATEST_ORDER = Comparator.comparing(
+            MusicStatsDto::getId, Comparator.reverseOrder());
+
+    // 배치 조회 설정
+    private static final int CACHE_CHUNK_SIZE = 1000;
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    // 이 개수 이상 업로드하면 JDBC 일괄 INSERT 경로 사용
+    private static final int BULK_INGEST_THRESHOLD = 100;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -68,13 +104,28 @@ public class MusicService {
         Long uploaderId = ((CustomUserDetails)auth.getPrincipal()).getId();
 
         try {
-            List<MusicEntity> savedMusics = musicRequestDtos.stream()
-                    .map(this::convertToEntity)
-                    .peek(entity -> entity.setUploaderId(uploaderId))
-                    .map(musicRepository::save)
-                    .collect(Collectors.toList());
+            List<MusicEntity> savedMusics;
+            if (musicRequestDtos.size() >= BULK_INGEST_THRESHOLD) {
+                savedMusics = bulkInsertMusics(musicRequestDtos, uploaderId);
+            } else {
+                savedMusics = musicRequestDtos.stream()
+                        .map(this::convertToEntity)
+                        .peek(entity -> entity.setUploaderId(uploaderId))
+                        .map(musicRepository::save)
+                        .collect(Collectors.toList());
+            }
             
             log.info("총 {}개의 음악이 업로드되었습니다.", savedMusics.size());
+            savedMusics.forEach(autocompleteService::upsertTrackAfterCommit);
+
+            // 공개 음악은 커밋 후 최신 차트에 반영 (차트에 들어갈 수 있는 최신 N곡만)
+            savedMusics.stream()
+                    .filter(music -> Boolean.TRUE.equals(music.getIsPublic()))
+                    .sorted(Comparator.comparing(MusicEntity::getId, Comparator.reverseOrder()))
+                    .limit(CHART_SIZE)
+                    .forEach(music -> chartCacheService.upsertRankedAfterCommit(LATEST_MUSIC_CHART,
+                            convertToStatsDto(music), MusicStatsDto::getId, LATEST_ORDER, CHART_SIZE));
+
             return savedMusics.stream()
                     .map(this::convertToResponseDto)
                     .collect(Collectors.toList());
@@ -84,6 +135,29 @@ public class MusicService {
         }
     }
 
+    /**
+     * 대량 업로드: 아티스트를 배치당 한 번만 조회/생성하고 JDBC multi-row INSERT로 저장
+     */
+    private List<MusicEntity> bulkInsertMusics(List<MusicRequestDto> musicRequestDtos, Long uploaderId) {
+        Map<String, ArtistEntity> artists = artistService.resolveArtists(musicRequestDtos.stream()
+                .map(MusicRequestDto::getArtist)
+                .filter(name -> name != null && !name.trim().isEmpty())
+                .collect(Collectors.toList()));
+
+        List<MusicEntity> musics = new ArrayList<>(musicRequestDtos.size());
+        for (MusicRequestDto dto : musicRequestDtos) {
+            ArtistEntity artistEntity = dto.getArtist() != null && !dto.getArtist().trim().isEmpty()
+                    ? artists.get(ArtistService.normalizeName(dto.getArtist()))
+                    : null;
+            MusicEntity music = buildEntity(dto, artistEntity);
+            music.setUploaderId(uploaderId);
+            musics.add(music);
+        }
+
+        musicBulkInsertRepository.insertAll(musics);
+        return musics;
+    }
+
     // 음악 상세 조회
     public MusicResponseDto getMusicById(Long id, Authentication auth) {
         MusicEntity music = musicRepository.findById(id)
@@ -177,6 +251,9 @@ public class MusicService {
         // 업데이트
         updateMusicEntity(music, updateDto);
         MusicEntity savedMusic = musicRepository.save(music);
+        trackCacheService.evict(id);
+        autocompleteService.upsertTrackAfterCommit(savedMusic);
+        chartCacheService.runAfterCommit(() -> refreshMusicChartsContaining(id));
         
         log.info("음악 ID {} 정보가 수정되었습니다.", id);
         return convertToResponseDto(savedMusic);
@@ -194,6 +271,9 @@ public class MusicService {
         }
         
         musicRepository.delete(music);
+        trackCacheService.evict(id);
+        autocompleteService.removeTrackAfterCommit(id);
+        chartCacheService.runAfterCommit(() -> refreshMusicChartsContaining(id));
         log.info("음악 ID {}가 삭제되었습니다.", id);
     }
 
@@ -203,6 +283,7 @@ public class MusicService {
         MusicEntity music = musicRepository.findById(id)
                 .orElseThrow(() -> new GlobalException("음악을 찾을 수 없습니다.", "MUSIC_NOT_FOUND", HttpStatus.NOT_FOUND));
         
+        trackCacheService.evict(id);
         if (isLike) {
             musicRepository.incrementLikeCount(id);
             log.info("음악 ID {} 좋아요가 증가되었습니다.", id);
@@ -228,20 +309,91 @@ public class MusicService {
         return isLike;
     }
 
-    // 인기 음악 조회
+    // 인기 음악 조회 (사전 계산된 차트)
     public List<MusicStatsDto> getPopularMusics() {
-        List<MusicEntity> popularMusics = musicRepository.findTop10ByIsPublicTrueOrderByPlayCountDesc();
-        return popularMusics.stream()
+        List<MusicStatsDto> cached = chartCacheService.getItems(POPULAR_MUSIC_CHART);
+        return cached != null ? cached : refreshPopularMusicChart();
+    }
+
+    // 인기 음악 조회 (직렬화된 응답 + ETag)
+    public CachedResponse getPopularMusicsResponse() {
+        if (chartCacheService.getResponse(POPULAR_MUSIC_CHART) == null) {
+            refreshPopularMusicChart();
+        }
+        return chartCacheService.getResponse(POPULAR_MUSIC_CHART);
+    }
+
+    // 최신 음악 조회 (사전 계산된 차트)
+    public List<MusicStatsDto> getLatestMusics() {
+        List<MusicStatsDto> cached = chartCacheService.getItems(LATEST_MUSIC_CHART);
+        return cached != null ? cached : refreshLatestMusicChart();
+    }
+
+    // 최신 음악 조회 (직렬화된 응답 + ETag)
+    public CachedResponse getLatestMusicsResponse() {
+        if (chartCacheService.getResponse(LATEST_MUSIC_CHART) == null) {
+            refreshLatestMusicChart();
+        }
+        return chartCacheService.getResponse(LATEST_MUSIC_CHART);
+    }
+
+    // === 차트 갱신 ===
+
+    /**
+     * 애플리케이션 시작 시 Redis에서 차트 복원 (없으면 DB에서 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpMusicCharts() {
+        try {
+            if (!chartCacheService.restore(POPULAR_MUSIC_CHART, MusicStatsDto.class)) {
+                refreshPopularMusicChart();
+            }
+            if (!chartCacheService.restore(LATEST_MUSIC_CHART, MusicStatsDto.class)) {
+                refreshLatestMusicChart();
+            }
+        } catch (Exception e) {
+            log.warn("음악 차트 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (증분 갱신으로 놓친 변경 보정)
+     */
+    @Scheduled(fixedDelayString = "${musicbell.chart.refresh-interval-ms:300000}",
+            initialDelayString = "${musicbell.chart.refresh-interval-ms:300000}")
+    public void refreshMusicCharts() {
+        try {
+            refreshPopularMusicChart();
+            refreshLatestMusicChart();
+        } catch (Exception e) {
+            log.warn("음악 차트 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<MusicStatsDto> refreshPopularMusicChart() {
+        List<MusicStatsDto> popular = musicRepository.findTop10ByIsPublicTrueOrderByPlayCountDesc().stream()
                 .map(this::convertToStatsDto)
                 .collect(Collectors.toList());
+        chartCacheService.publish(POPULAR_MUSIC_CHART, popular);
+        return popular;
     }
 
-    // 최신 음악 조회
-    public List<MusicStatsDto> getLatestMusics() {
-        List<MusicEntity> latestMusics = musicRepository.findTop10ByIsPublicTrueOrderByCreatedAtDesc();
-        return latestMusics.stream()
+    private List<MusicStatsDto> refreshLatestMusicChart() {
+        List<MusicStatsDto> latest = musicRepository.findTop10ByIsPublicTrueOrderByCreatedAtDesc().stream()
                 .map(this::convertToStatsDto)
                 .collect(Collectors.toList());
+        chartCacheService.publish(LATEST_MUSIC_CHART, latest);
+        return latest;
+    }
+
+    // 수정/삭제된 음악이 차트에 있으면 해당 차트만 재계산 (커밋 후 호출)
+    private void refreshMusicChartsContaining(Long musicId) {
+        if (chartCacheService.contains(POPULAR_MUSIC_CHART, (MusicStatsDto m) -> musicId.equals(m.getId()))) {
+            refreshPopularMusicChart();
+        }
+        if (chartCacheService.contains(LATEST_MUSIC_CHART, (MusicStatsDto m) -> musicId.equals(m.getId()))) {
+            refreshLatestMusicChart();
+        }
     }
 
     // === 변환 메서드들 ===
@@ -253,6 +405,10 @@ public class MusicService {
             artistEntity = artistService.findOrCreateArtist(dto.getArtist());
         }
         
+        return buildEntity(dto, artistEntity);
+    }
+
+    private MusicEntity buildEntity(MusicRequestDto dto, ArtistEntity artistEntity) {
         return MusicEntity.builder()
                 .title(dto.getTitle())
                 .artist(dto.getArtist()) // 기존 String 필드 유지 (점진적 전환)
@@ -339,17 +495,44 @@ public class MusicService {
     // 여러 음악 ID로 배치 조회 (랭킹용)
     public List<MusicResponseDto> getMusicsByIds(List<Long> musicIds) {
         try {
-            List<MusicEntity> musics = musicRepository.findAllById(musicIds);
-            
-            // 원래 순서 유지를 위해 ID 순서대로 정렬
-            return musicIds.stream()
-                    .map(id -> musics.stream()
-                            .filter(music -> music.getId().equals(id))
-                            .findFirst()
-                            .map(this::convertToResponseDto)
-                            .orElse(null))
-                    .filter(dto -> dto != null)
-                    .collect(Collectors.toList());
+            // 1. 캐시 일괄 조회 (청크당 MGET 한 번 - 큰 요청이 Redis를 오래 붙잡지 않도록)
+            List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(musicIds));
+            Map<Long, MusicResponseDto> found = new HashMap<>();
+            for (int from = 0; from < distinctIds.size(); from += CACHE_CHUNK_SIZE) {
+                found.putAll(trackCacheService.getAll(
+                        distinctIds.subList(from, Math.min(from + CACHE_CHUNK_SIZE, distinctIds.size()))));
+            }
+
+            // 2. 캐시에 없는 곡만 IN 쿼리로 조회 (큰 배치는 청크 단위)
+            List<Long> misses = new ArrayList<>();
+            for (Long id : distinctIds) {
+                if (!found.containsKey(id)) {
+                    misses.add(id);
+                }
+            }
+
+            List<MusicResponseDto> loaded = new ArrayList<>(misses.size());
+            for (int from = 0; from < misses.size(); from += BATCH_CHUNK_SIZE) {
+                List<Long> chunk = misses.subList(from, Math.min(from + BATCH_CHUNK_SIZE, misses.size()));
+                for (MusicEntity music : musicRepository.findAllById(chunk)) {
+                    MusicResponseDto dto = convertToResponseDto(music);
+                    found.put(dto.getId(), dto);
+                    loaded.add(dto);
+                }
+            }
+            trackCacheService.putAll(loaded);
+
+            // 3. 요청 순서대로 조립 (O(n), 없는 ID는 제외)
+            List<MusicResponseDto> result = new ArrayList<>(musicIds.size());
+            for (Long id : musicIds) {
+                MusicResponseDto dto = found.get(id);
+                if (dto != null) {
+                    result.add(dto);
+                }
+            }
+            return result;
+        } catch (GlobalException e) {
+            throw e;
         } catch (Exception e) {
             log.error("배치 음악 조회 중 오류 발생: {}", e.getMessage());
             throw new GlobalException("배치 음악 조회에 실패했습니다.", "BATCH_MUSIC_FETCH_FAILED", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -362,6 +545,13 @@ public class MusicService {
         // DB 업데이트
         MusicEntity music = musicRepository.findById(musicId)
                 .orElseThrow(() -> new GlobalException("음악을 찾을 수 없습니다.", "NOT_MUSIC_FOUND", HttpStatus.NOT_FOUND));
+
+        // 재생 집계 경로: 이벤트만 남기고 DB/Redis/ES 반영은 1분 윈도우 집계 단위로 (applyAggregatedPlays)
+        if (playEventPublisher.isEnabled()) {
+            playEventPublisher.publish(musicId, music.getArtistEntity() != null ? music.getArtistEntity().getId() : null);
+            return;
+        }
+
         music.setPlayCount(music.getPlayCount() + 1);
         musicRepository.save(music);
 
@@ -377,5 +567,39 @@ public class MusicService {
         
         // 랭킹 점수 업데이트
         rankingService.updatePlayScore("music", musicId);
+
+        // 인기 차트 증분 갱신 (현재 임계값을 넘은 경우에만 재정렬, 커밋 후)
+        if (Boolean.TRUE.equals(music.getIsPublic())) {
+            chartCacheService.upsertRankedAfterCommit(POPULAR_MUSIC_CHART, convertToStatsDto(music),
+                    MusicStatsDto::getId, POPULAR_ORDER, CHART_SIZE);
+        }
+    }
+
+    /**
+     * 전달된 재생 집계를 Redis 통계/랭킹/인기 차트에 반영 (집계 레코드당 한 번, 재전달분은 마커로 건너뜀)
+     */
+    public void applyAggregatedPlays(List<PlayAggregateApplier.TrackPlay> trackPlays) {
+        if (trackPlays.isEmpty()) {
+            return;
+        }
+        Map<Long, MusicEntity> musics = musicRepository.findAllById(
+                        trackPlays.stream().map(PlayAggregateApplier.TrackPlay::musicId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(MusicEntity::getId, Function.identity()));
+
+        for (PlayAggregateApplier.TrackPlay trackPlay : trackPlays) {
+            // 삭제된 음악은 통계/랭킹 키를 만들지 않음
+            if (musics.containsKey(trackPlay.musicId())) {
+                rankingService.updatePlayScoreOnce(trackPlay.marker(), "music:stats:" + trackPlay.musicId(),
+                        "music", trackPlay.musicId(), trackPlay.plays());
+            }
+        }
+
+        for (MusicEntity music : musics.values()) {
+            if (Boolean.TRUE.equals(music.getIsPublic())) {
+                chartCacheService.upsertRanked(POPULAR_MUSIC_CHART, convertToStatsDto(music),
+                        MusicStatsDto::getId, POPULAR_ORDER, CHART_SIZE);
+            }
+        }
     }
 }
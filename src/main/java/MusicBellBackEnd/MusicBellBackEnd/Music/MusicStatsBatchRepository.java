@@ -0,0 +1,46 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음악 재생수 증가 일괄 반영 (JDBC batch UPDATE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MusicStatsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPDATE_SQL = "UPDATE music_entity SET play_count = play_count + ? WHERE id = ?";
+
+    /**
+     * 음악별 재생수 증가분을 한 트랜잭션의 배치 UPDATE로 반영 (전달된 순서대로 실행)
+     *
+     * @return 실제로 갱신된 음악 ID 목록 (DB에 없는 음악 제외)
+     */
+    @Transactional
+    public List<Long> addPlayCounts(Map<Long, Long> playCounts) {
+        List<Long> ids = new ArrayList<>(playCounts.keySet());
+        List<Object[]> params = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            params.add(new Object[]{playCounts.get(id), id});
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, params);
+        List<Long> updated = new ArrayList<>(ids.size());
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 반환
+            if (counts[i] != 0) {
+                updated.add(ids.get(i));
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,206 @@
+package MusicBellBackEnd.MusicBellBackEnd.Redis;
+
+import MusicBellBackEnd.MusicBellBackEnd.Cache.CachedResponse;
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 인기/최신 차트 사전 계산 캐시
+ *
+ * - 차트 목록을 미리 JSON 바이트 + ETag로 직렬화해 메모리에 보관 (조회 시 복사만 발생)
+ * - 동일한 내용을 Redis에도 저장하여 재시작/다른 인스턴스에서 바로 복원
+ *   (변경된 차트만 표시해 두고 짧은 주기로 최신 스냅샷 한 번만 기록 - 잦은 재생에도 Redis 쓰기는 주기당 1회)
+ * - 재생/업로드 시 현재 임계값(마지막 순위)을 넘는 경우에만 증분 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChartCacheService {
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private static final String CHART_KEY = "chart:";
+
+    // 차트명 -> 스냅샷 (읽기는 락 없이 참조만 교체)
+    private final Map<String, ChartSnapshot> snapshots = new ConcurrentHashMap<>();
+    // Redis에 아직 기록되지 않은 차트명
+    private final Set<String> dirtyCharts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 차트 목록을 직렬화하여 메모리 스냅샷을 교체하고 Redis 기록 대상으로 표시
+     */
+    public synchronized <T> void publish(String chartName, List<T> items) {
+        List<T> copy = List.copyOf(items);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(copy);
+        } catch (JsonProcessingException e) {
+            throw new GlobalException("차트 직렬화 중 오류가 발생했습니다", "CHART_SERIALIZE_ERROR", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        snapshots.put(chartName, new ChartSnapshot(copy, CachedResponse.of(json), System.currentTimeMillis()));
+        dirtyCharts.add(chartName);
+    }
+
+    /**
+     * 변경된 차트의 최신 스냅샷을 Redis에 기록 (락 밖에서 실행, 종료 시에도 남은 변경 기록)
+     */
+    @Scheduled(fixedDelayString = "${musicbell.chart.redis-flush-ms:1000}")
+    @PreDestroy
+    public void flushDirtyCharts() {
+        for (String chartName : dirtyCharts) {
+            // 기록 전에 표시를 지워야 기록 중 들어온 변경이 다음 주기에 다시 기록됨
+            dirtyCharts.remove(chartName);
+            ChartSnapshot snapshot = snapshots.get(chartName);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                redisService.setValue(CHART_KEY + chartName, new String(snapshot.response().body(), StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                // Redis 저장 실패해도 메모리 스냅샷으로 계속 서빙, 다음 주기에 재시도
+                dirtyCharts.add(chartName);
+                log.warn("차트 Redis 저장 실패: chart={}, error={}", chartName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Redis에 저장된 차트를 메모리로 복원 (애플리케이션 시작 시)
+     */
+    public <T> boolean restore(String chartName, Class<T> itemType) {
+        try {
+            Object cached = redisService.getValue(CHART_KEY + chartName);
+            if (cached == null) {
+                return false;
+            }
+
+            String json = cached.toString();
+            List<T> items = objectMapper.readValue(json,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, itemType));
+
+            snapshots.put(chartName, new ChartSnapshot(List.copyOf(items),
+                    CachedResponse.of(json.getBytes(StandardCharsets.UTF_8)), System.currentTimeMillis()));
+            log.info("차트 Redis 복원 완료: chart={}, size={}", chartName, items.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("차트 Redis 복원 실패: chart={}, error={}", chartName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 직렬화된 차트 응답(바이트 + ETag) 조회 (계산 전이면 null)
+     */
+    public CachedResponse getResponse(String chartName) {
+        ChartSnapshot snapshot = snapshots.get(chartName);
+        return snapshot != null ? snapshot.response() : null;
+    }
+
+    /**
+     * 차트 항목 조회 (계산 전이면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getItems(String chartName) {
+        ChartSnapshot snapshot = snapshots.get(chartName);
+        return snapshot != null ? (List<T>) snapshot.items() : null;
+    }
+
+    /**
+     * 차트에 특정 항목이 포함되어 있는지 확인
+     */
+    public <T> boolean contains(String chartName, Predicate<T> matcher) {
+        List<T> items = getItems(chartName);
+        return items != null && items.stream().anyMatch(matcher);
+    }
+
+    /**
+     * 순위 차트 증분 갱신
+     * - 이미 차트에 있는 항목이면 값 교체 후 재정렬
+     * - 없는 항목은 차트가 가득 찼을 때 마지막 순위보다 앞서는 경우에만 편입
+     *
+     * @return 차트가 변경되었는지 여부
+     */
+    public synchronized <T> boolean upsertRanked(String chartName, T item, Function<T, ?> idOf,
+                                                 Comparator<T> order, int limit) {
+        List<T> current = getItems(chartName);
+        if (current == null) {
+            // 아직 계산되지 않은 차트는 다음 주기 갱신에 맡김
+            return false;
+        }
+
+        Object id = idOf.apply(item);
+        boolean present = false;
+        List<T> next = new ArrayList<>(current.size() + 1);
+        for (T existing : current) {
+            if (Objects.equals(idOf.apply(existing), id)) {
+                present = true;
+            } else {
+                next.add(existing);
+            }
+        }
+
+        // 임계값을 넘지 못하면 차트 변경 없음 (직렬화/Redis 쓰기 생략)
+        if (!present && current.size() >= limit
+                && order.compare(item, current.get(current.size() - 1)) >= 0) {
+            return false;
+        }
+
+        next.add(item);
+        next.sort(order);
+        publish(chartName, next.size() > limit ? next.subList(0, limit) : next);
+        return true;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 순위 차트 증분 갱신 (롤백된 항목이 차트/Redis에 남지 않도록)
+     * 항목은 호출 시점(트랜잭션 안)에 미리 만들어 넘김
+     */
+    public <T> void upsertRankedAfterCommit(String chartName, T item, Function<T, ?> idOf,
+                                            Comparator<T> order, int limit) {
+        runAfterCommit(() -> upsertRanked(chartName, item, idOf, order, limit));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 차트 갱신 작업 실행 (트랜잭션 밖이면 즉시 실행)
+     * 수정/삭제 후 재계산이 커밋 전 상태를 읽거나 롤백된 변경을 차트/Redis에 남기지 않도록 함
+     */
+    public void runAfterCommit(Runnable refresh) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh.run();
+            }
+        });
+    }
+
+    /**
+     * 차트 스냅샷 (불변 목록 + 직렬화된 응답)
+     */
+    public record ChartSnapshot(List<?> items, CachedResponse response, long refreshedAt) {
+    }
+}
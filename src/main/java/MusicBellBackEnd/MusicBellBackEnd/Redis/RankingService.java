@@ -24,24 +24,51 @@ public class RankingService {
     private static final int LIKE_SCORE = 3;
     private static final int DOWNLOAD_SCORE = 2;
 
+    // 재생 집계 반영 마커 보관 기간 (재전달 가능 기간보다 넉넉하게)
+    private static final long APPLIED_MARKER_TTL_SECONDS = TimeUnit.DAYS.toSeconds(7);
+
     /**
      * 점수 업데이트 (범용 메소드)
      */
     public void updateScore(String table, Long id, int score) {
-        String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String thisWeek = getWeekKey();
-        String thisMonth = getMonthKey();
-        String prefix = table+":";
+        List<String> keys = currentRankingKeys(table);
 
         // Sorted Set을 사용하여 점수 증가 (더 효율적)
-        redisService.incrementScoreInSortedSet(prefix + DAILY_RANKING_KEY + today, id.toString(), score);
-        redisService.incrementScoreInSortedSet(prefix + WEEKLY_RANKING_KEY + thisWeek, id.toString(), score);
-        redisService.incrementScoreInSortedSet(prefix + MONTHLY_RANKING_KEY + thisMonth, id.toString(), score);
+        for (String key : keys) {
+            redisService.incrementScoreInSortedSet(key, id.toString(), score);
+        }
+
+        expireRankings(keys);
+    }
+
+    /**
+     * 재생 집계 1건을 통계 해시 + 랭킹에 한 번만 반영 (같은 마커로 다시 오면 무시)
+     *
+     * @return 이번 호출에서 반영했으면 true
+     */
+    public boolean updatePlayScoreOnce(String markerKey, String statsKey, String table, Long id, long plays) {
+        List<String> keys = currentRankingKeys(table);
+        boolean applied = redisService.incrementOnce(markerKey, APPLIED_MARKER_TTL_SECONDS, statsKey, "playCount", plays,
+                keys, id.toString(), plays * PLAY_SCORE);
+        expireRankings(keys);
+        return applied;
+    }
+
+    // 일간/주간/월간 순서
+    private List<String> currentRankingKeys(String table) {
+        String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        String prefix = table+":";
+        return List.of(
+                prefix + DAILY_RANKING_KEY + today,
+                prefix + WEEKLY_RANKING_KEY + getWeekKey(),
+                prefix + MONTHLY_RANKING_KEY + getMonthKey());
+    }
 
-        // TTL 설정 (메모리 최적화)
-        redisService.expire(prefix + DAILY_RANKING_KEY + today, 2, TimeUnit.DAYS);
-        redisService.expire(prefix + WEEKLY_RANKING_KEY + thisWeek, 8, TimeUnit.DAYS);
-        redisService.expire(prefix + MONTHLY_RANKING_KEY + thisMonth, 32, TimeUnit.DAYS);
+    // TTL 설정 (메모리 최적화)
+    private void expireRankings(List<String> keys) {
+        redisService.expire(keys.get(0), 2, TimeUnit.DAYS);
+        redisService.expire(keys.get(1), 8, TimeUnit.DAYS);
+        redisService.expire(keys.get(2), 32, TimeUnit.DAYS);
     }
 
 
@@ -52,6 +79,13 @@ public class RankingService {
         updateScore(table, id, PLAY_SCORE);
     }
 
+    /**
+     * 집계된 재생 횟수만큼 한 번에 점수 반영 (재생 집계 경로)
+     */
+    public void updatePlayScore(String table, Long id, long plays) {
+        updateScore(table, id, Math.toIntExact(plays * PLAY_SCORE));
+    }
+
     public void updateLikeScore(String table, Long id) {
         updateScore(table, id, LIKE_SCORE);
     }
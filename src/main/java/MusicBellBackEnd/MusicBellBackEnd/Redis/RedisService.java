@@ -4,15 +4,20 @@ package MusicBellBackEnd.MusicBellBackEnd.Redis;
 
 import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +37,23 @@ public class RedisService {
         return redisTemplate.opsForValue().get(key);
     }
 
+    public List<Object> multiGetValues(Collection<String> keys) {
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    // 파이프라인으로 여러 값을 한 번의 왕복에 저장
+    public void setValues(Map<String, Object> values, long timeout, TimeUnit unit) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, timeout, unit));
+                return null;
+            }
+        });
+    }
+
     public void deleteValue(String key) {
         redisTemplate.delete(key);
     }
@@ -102,6 +124,49 @@ public class RedisService {
         redisTemplate.opsForHash().increment(key, field, delta);
     }
 
+    // === 멱등 증가 (집계 반영용) ===
+    /**
+     * 마커 키가 없을 때만 해시 필드 증가 + Sorted Set 점수 증가를 한 번에 수행 (Lua 스크립트로 원자적 처리)
+     * 같은 마커로 다시 호출되면 아무것도 하지 않음 → 재전달된 집계의 중복 반영 방지
+     *
+     * @return 이번 호출에서 반영했으면 true
+     */
+    public boolean incrementOnce(String markerKey, long markerTtlSeconds, String hashKey, String hashField, long hashDelta,
+                                 List<String> sortedSetKeys, Object member, double score) {
+        String script =
+                "if not redis.call('set', KEYS[1], '1', 'NX', 'EX', tonumber(ARGV[1])) then\n" +
+                        "    return 0\n" +
+                        "end\n" +
+                        "redis.call('hincrby', KEYS[2], ARGV[2], tonumber(ARGV[3]))\n" +
+                        "for i = 3, #KEYS do\n" +
+                        "    redis.call('zincrby', KEYS[i], ARGV[4], ARGV[5])\n" +
+                        "end\n" +
+                        "return 1";
+
+        byte[][] keysAndArgs = new byte[2 + sortedSetKeys.size() + 5][];
+        int i = 0;
+        keysAndArgs[i++] = markerKey.getBytes();
+        keysAndArgs[i++] = hashKey.getBytes();
+        for (String sortedSetKey : sortedSetKeys) {
+            keysAndArgs[i++] = sortedSetKey.getBytes();
+        }
+        keysAndArgs[i++] = String.valueOf(markerTtlSeconds).getBytes();
+        keysAndArgs[i++] = hashField.getBytes();
+        keysAndArgs[i++] = String.valueOf(hashDelta).getBytes();
+        keysAndArgs[i++] = String.valueOf(score).getBytes();
+        // Sorted Set 멤버는 opsForZSet과 같은 값 직렬화 사용 (같은 멤버로 누적되도록)
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        keysAndArgs[i] = valueSerializer.serialize(member);
+
+        int numKeys = 2 + sortedSetKeys.size();
+        Long result = redisTemplate.execute(
+                (RedisCallback<Long>) connection ->
+                        connection.eval(script.getBytes(), ReturnType.INTEGER, numKeys, keysAndArgs)
+        );
+        return result != null && result == 1L;
+    }
+
     // === 세션 관리 ===
     public void saveSession(String sessionId, Object sessionData, long timeout, TimeUnit unit) {
         redisTemplate.opsForValue().set("session:" + sessionId, sessionData, timeout, unit);
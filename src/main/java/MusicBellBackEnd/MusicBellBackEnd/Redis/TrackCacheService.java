@@ -0,0 +1,111 @@
+package MusicBellBackEnd.MusicBellBackEnd.Redis;
+
+import MusicBellBackEnd.MusicBellBackEnd.Music.Dto.MusicResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음악 상세 정보 Redis 캐시 (배치 조회용)
+ *
+ * - MGET 한 번으로 여러 곡을 조회하고, 저장은 파이프라인으로 처리
+ * - 재생수/좋아요수는 TTL 동안 약간 지연될 수 있음 (수정/삭제/좋아요 시 무효화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrackCacheService {
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private static final String TRACK_KEY = "music:track:";
+    private static final long TRACK_TTL_SECONDS = 60;
+
+    /**
+     * 여러 곡을 한 번에 조회 (캐시에 있는 곡만 반환)
+     */
+    public Map<Long, MusicResponseDto> getAll(Collection<Long> musicIds) {
+        Map<Long, MusicResponseDto> hits = new HashMap<>();
+        if (musicIds.isEmpty()) {
+            return hits;
+        }
+
+        List<Long> ids = new ArrayList<>(musicIds);
+        List<String> keys = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            keys.add(TRACK_KEY + id);
+        }
+
+        try {
+            List<Object> values = redisService.multiGetValues(keys);
+            if (values == null) {
+                return hits;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    hits.put(ids.get(i), objectMapper.readValue(value.toString(), MusicResponseDto.class));
+                }
+            }
+        } catch (Exception e) {
+            // 캐시 장애 시 전부 miss로 처리하여 DB에서 조회
+            log.warn("음악 캐시 일괄 조회 실패: error={}", e.getMessage());
+        }
+        return hits;
+    }
+
+    /**
+     * 여러 곡을 한 번에 저장
+     */
+    public void putAll(Collection<MusicResponseDto> tracks) {
+        if (tracks.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (MusicResponseDto track : tracks) {
+                values.put(TRACK_KEY + track.getId(), objectMapper.writeValueAsString(track));
+            }
+            redisService.setValues(values, TRACK_TTL_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("음악 캐시 일괄 저장 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 단일 곡 캐시 무효화 (트랜잭션 안이면 커밋 후)
+     * 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 값으로 다시 채울 수 있음
+     */
+    public void evict(Long musicId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(musicId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(musicId);
+            }
+        });
+    }
+
+    private void delete(Long musicId) {
+        try {
+            redisService.deleteValue(TRACK_KEY + musicId);
+        } catch (Exception e) {
+            log.warn("음악 캐시 무효화 실패: musicId={}, error={}", musicId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistDocument;
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistSyncService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStatePublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArtistDocumentVersionTest {
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ArtistStatePublisher artistStatePublisher;
+
+    @InjectMocks
+    private ArtistSyncService artistSyncService;
+
+    @Test
+    @DisplayName("문서 외부 버전은 DB 행 버전이며 updatedAt(벽시계 시간)과 무관하다")
+    void convertToDocument_UsesRowVersion() {
+        // given: 시계가 뒤로 간 서버에서 저장된 더 새로운 행
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        ArtistEntity older = artist(3L, now);
+        ArtistEntity newer = artist(4L, now.minusMinutes(5));
+
+        // when
+        ArtistDocument olderDocument = artistSyncService.convertToDocument(older);
+        ArtistDocument newerDocument = artistSyncService.convertToDocument(newer);
+
+        // then
+        assertAll(
+                () -> assertThat(olderDocument.getVersion()).isEqualTo(3L),
+                () -> assertThat(newerDocument.getVersion()).isGreaterThan(olderDocument.getVersion()),
+                () -> assertThat(artistSyncService.convertToDocument(artist(null, now)).getVersion()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 DB 버전의 통계 이벤트가 두 번 와도 문서 버전이 DB 버전을 넘지 않아 이후 전체 문서 쓰기가 반영된다")
+    void syncArtistStats_RedeliveredSameVersion_DoesNotBlockFullDocumentWrite() {
+        // given: DB 버전 5로 전체 색인된 문서, 이후 통계 변경으로 DB 버전 6
+        FakeVersionedDocument index = new FakeVersionedDocument(5L);
+        IndexCoordinates coordinates = IndexCoordinates.of("artists");
+        when(elasticsearchOperations.getIndexCoordinatesFor(ArtistDocument.class)).thenReturn(coordinates);
+        List<Object[]> statsRows = List.<Object[]>of(new Object[]{1L, 10L, 200L, 30L, 6L});
+        when(artistRepository.findStatsByIdIn(any())).thenReturn(statsRows);
+        doAnswer(invocation -> {
+            invocation.<List<UpdateQuery>>getArgument(0).forEach(index::scriptedUpdate);
+            return null;
+        }).when(elasticsearchOperations).bulkUpdate(anyList(), any(IndexCoordinates.class));
+
+        // when: 같은 통계 이벤트 재전달
+        artistSyncService.syncArtistStats(List.of(1L));
+        artistSyncService.syncArtistStats(List.of(1L));
+
+        // then: 이름 변경(DB 버전 6 그대로 읽은 전체 문서)이 409 없이 색인됨
+        ArtistEntity renamed = artist(6L, LocalDateTime.of(2025, 7, 1, 12, 0));
+        renamed.setName("renamed");
+        when(artistRepository.findById(anyLong())).thenReturn(Optional.of(renamed));
+        doAnswer(invocation -> {
+            for (ArtistDocument document : invocation.<List<ArtistDocument>>getArgument(0)) {
+                if (!index.externalGteWrite(document.getVersion())) {
+                    throw new BulkFailureException("version conflict",
+                            Map.of(document.getId(), new BulkFailureException.FailureDetails(409, "version_conflict")));
+                }
+            }
+            return null;
+        }).when(elasticsearchOperations).save(anyList(), any(IndexCoordinates.class));
+
+        artistSyncService.syncSingleArtist(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ArtistDocument>> published = ArgumentCaptor.forClass(Collection.class);
+        verify(artistStatePublisher).publishDocuments(published.capture());
+        assertAll(
+                () -> assertThat(index.scriptedUpdatesApplied).isEqualTo(1),
+                () -> assertThat(index.version).isEqualTo(6L),
+                () -> assertThat(published.getValue()).extracting(ArtistDocument::getName).containsExactly("renamed")
+        );
+    }
+
+    /**
+     * ES 문서 버전 동작 모사
+     * - 스크립트 업데이트: noop 조건(스크립트의 ctx._version 비교)이 아니면 내부 버전 +1
+     * - 외부 버전(EXTERNAL_GTE) 쓰기: 요청 버전 >= 현재 버전일 때만 성공
+     */
+    private static class FakeVersionedDocument {
+
+        private static final Pattern NOOP_GUARD = Pattern.compile("ctx\\._version\\s*(>=|>)\\s*params\\.version");
+
+        long version;
+        int scriptedUpdatesApplied;
+
+        FakeVersionedDocument(long version) {
+            this.version = version;
+        }
+
+        void scriptedUpdate(UpdateQuery query) {
+            Matcher guard = NOOP_GUARD.matcher(query.getScript());
+            assertThat(guard.find()).isTrue();
+            long requested = ((Number) query.getParams().get("version")).longValue();
+            boolean noop = guard.group(1).equals(">=") ? version >= requested : version > requested;
+            if (!noop) {
+                version++;
+                scriptedUpdatesApplied++;
+            }
+        }
+
+        boolean externalGteWrite(long requested) {
+            if (requested < version) {
+                return false;
+            }
+            version = requested;
+            return true;
+        }
+    }
+
+    private static ArtistEntity artist(Long version, LocalDateTime updatedAt) {
+        return ArtistEntity.builder()
+                .id(1L)
+                .name("artist")
+                .followerCount(0L)
+                .totalPlayCount(0L)
+                .totalLikeCount(0L)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+}
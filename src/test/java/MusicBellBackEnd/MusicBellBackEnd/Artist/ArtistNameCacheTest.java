@@ -0,0 +1,67 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ArtistNameCacheTest {
+
+    private ArtistNameCache artistNameCache;
+
+    @BeforeEach
+    void setUp() {
+        artistNameCache = new ArtistNameCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 등록한 ID는 커밋 후에만 조회된다")
+    void putAfterCommit_VisibleOnlyAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        artistNameCache.putAfterCommit(ArtistService.normalizeName("  IU "), 1L);
+        Long beforeCommit = artistNameCache.getId("iu");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertAll(
+                () -> assertThat(beforeCommit).isNull(),
+                () -> assertThat(artistNameCache.getId("iu")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("전체 재적재 시 이전 매핑은 사라지고 새 매핑으로 교체된다")
+    void replaceAll_SwapsMappings() {
+        // given
+        artistNameCache.put("old name", 1L);
+
+        // when
+        artistNameCache.replaceAll(Map.of("new name", 1L, "bts", 2L));
+        artistNameCache.evict("bts");
+
+        // then
+        assertAll(
+                () -> assertThat(artistNameCache.getId("old name")).isNull(),
+                () -> assertThat(artistNameCache.getId("new name")).isEqualTo(1L),
+                () -> assertThat(artistNameCache.getId("bts")).isNull(),
+                () -> assertThat(artistNameCache.size()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ArtistStatsAggregatorTest {
+
+    private ArtistStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ArtistStatsAggregator();
+    }
+
+    @Test
+    @DisplayName("같은 아티스트의 증감은 합산되고 drain 시 id 순으로 꺼낸 뒤 비워진다")
+    void drain_SumsPerArtistInIdOrder() {
+        // given
+        aggregator.add(3L, 1, 0);
+        aggregator.add(1L, 1, 0);
+        aggregator.add(1L, 0, 1);
+        aggregator.add(1L, 1, -1);
+        aggregator.add(2L, 0, 0);
+
+        // when
+        Map<Long, ArtistStatsAggregator.StatsDelta> drained = aggregator.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(List.copyOf(drained.keySet())).containsExactly(1L, 3L),
+                () -> assertThat(drained.get(1L)).isEqualTo(new ArtistStatsAggregator.StatsDelta(2, 0)),
+                () -> assertThat(drained.get(3L)).isEqualTo(new ArtistStatsAggregator.StatsDelta(1, 0)),
+                () -> assertThat(aggregator.size()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("동시에 누적하며 drain해도 증감이 유실되지 않는다")
+    void drain_ConcurrentAddsAreNotLost() throws InterruptedException {
+        // given
+        int threads = 8;
+        int playsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long total = 0;
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < playsPerThread; i++) {
+                    aggregator.add(1L, 1, 0);
+                }
+            });
+        }
+        while (!executor.isTerminated()) {
+            executor.shutdown();
+            ArtistStatsAggregator.StatsDelta delta = aggregator.drain().get(1L);
+            total += delta != null ? delta.plays() : 0;
+            executor.awaitTermination(1, TimeUnit.MILLISECONDS);
+        }
+        ArtistStatsAggregator.StatsDelta rest = aggregator.drain().get(1L);
+        total += rest != null ? rest.plays() : 0;
+
+        // then
+        assertThat(total).isEqualTo((long) threads * playsPerThread);
+    }
+
+    @Test
+    @DisplayName("반영 실패로 되돌린 증감은 이후 누적분과 합쳐진다")
+    void restore_MergesWithNewDeltas() {
+        // given
+        aggregator.add(1L, 5, 1);
+        Map<Long, ArtistStatsAggregator.StatsDelta> failed = aggregator.drain();
+        aggregator.add(1L, 1, 0);
+
+        // when
+        aggregator.restore(failed);
+
+        // then
+        assertThat(aggregator.drain().get(1L)).isEqualTo(new ArtistStatsAggregator.StatsDelta(6, 1));
+    }
+}
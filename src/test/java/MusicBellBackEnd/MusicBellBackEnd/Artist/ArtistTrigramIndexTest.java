@@ -0,0 +1,59 @@
+package MusicBellBackEnd.MusicBellBackEnd.Artist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ArtistTrigramIndexTest {
+
+    private ArtistTrigramIndex artistTrigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        artistTrigramIndex = new ArtistTrigramIndex();
+        artistTrigramIndex.rebuild(Map.of(
+                1L, "BLACKPINK",
+                2L, "Black Eyed Peas",
+                3L, "NewJeans",
+                4L, "아이유"));
+    }
+
+    @Test
+    @DisplayName("오타가 있는 이름도 유사도 순으로 가장 가까운 아티스트가 먼저 반환된다")
+    void findSimilar_RanksBySimilarity() {
+        // when
+        List<ArtistTrigramIndex.Match> matches = artistTrigramIndex.findSimilar("blackpnk", 10, 0.1);
+
+        // then
+        assertAll(
+                () -> assertThat(matches).isNotEmpty(),
+                () -> assertThat(matches.get(0).id()).isEqualTo(1L),
+                () -> assertThat(matches).extracting(ArtistTrigramIndex.Match::id).doesNotContain(3L, 4L),
+                () -> assertThat(matches).isSortedAccordingTo(
+                        (a, b) -> Double.compare(b.similarity(), a.similarity()))
+        );
+    }
+
+    @Test
+    @DisplayName("이름 변경/삭제가 인덱스에 즉시 반영된다")
+    void putAndRemove_UpdateIncrementally() {
+        // when
+        artistTrigramIndex.put(3L, "뉴진스");
+        artistTrigramIndex.remove(4L);
+
+        // then
+        assertAll(
+                () -> assertThat(artistTrigramIndex.findSimilar("NewJeans", 10, 0.3)).isEmpty(),
+                () -> assertThat(artistTrigramIndex.findSimilar("뉴진스", 10, 0.3))
+                        .extracting(ArtistTrigramIndex.Match::id).containsExactly(3L),
+                () -> assertThat(artistTrigramIndex.findSimilar("아이유", 10, 0.3)).isEmpty(),
+                () -> assertThat(artistTrigramIndex.size()).isEqualTo(3)
+        );
+    }
+}
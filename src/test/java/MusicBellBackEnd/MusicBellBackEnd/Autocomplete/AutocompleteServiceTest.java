@@ -0,0 +1,94 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistRepository;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicEntity;
+import MusicBellBackEnd.MusicBellBackEnd.Music.MusicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTest {
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private MusicRepository musicRepository;
+
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        autocompleteService = new AutocompleteService(artistRepository, musicRepository);
+        ReflectionTestUtils.setField(autocompleteService, "topK", 20);
+        ReflectionTestUtils.setField(autocompleteService, "maxTracks", 100);
+        when(artistRepository.findActiveAutocompleteRows()).thenReturn(List.of());
+        when(musicRepository.findPublicAutocompleteRows(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "봄날", 10L, 0L}));
+        autocompleteService.rebuild();
+    }
+
+    @Test
+    @DisplayName("곡 수정/삭제 - 트랜잭션 중에는 인덱스 그대로, 커밋 시점에 반영되고 롤백되면 반영 안 됨")
+    void trackChanges_AppliedOnlyOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            autocompleteService.upsertTrackAfterCommit(music(1L, "봄날 (Remix)"));
+            autocompleteService.removeTrackAfterCommit(1L);
+            List<String> beforeCommit = titles("봄날");
+
+            // when: 첫 번째(수정)만 커밋, 두 번째(삭제)는 롤백
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCommit();
+
+            // then
+            assertAll(
+                    () -> assertThat(beforeCommit).containsExactly("봄날"),
+                    () -> assertThat(titles("봄날")).containsExactly("봄날 (Remix)")
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 반영")
+    void trackChanges_AppliedImmediatelyWithoutTransaction() {
+        // when
+        autocompleteService.removeTrackAfterCommit(1L);
+
+        // then
+        assertThat(titles("봄날")).isEmpty();
+    }
+
+    private List<String> titles(String query) {
+        return autocompleteService.suggest(query, 10, AutocompleteService.TYPE_TRACK).stream()
+                .map(AutocompleteTrie.Suggestion::text)
+                .toList();
+    }
+
+    private MusicEntity music(Long id, String title) {
+        return MusicEntity.builder()
+                .id(id)
+                .title(title)
+                .playCount(10L)
+                .likeCount(0L)
+                .isPublic(true)
+                .build();
+    }
+}
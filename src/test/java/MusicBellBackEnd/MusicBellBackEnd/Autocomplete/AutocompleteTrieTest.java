@@ -0,0 +1,68 @@
+package MusicBellBackEnd.MusicBellBackEnd.Autocomplete;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AutocompleteTrieTest {
+
+    private AutocompleteTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = AutocompleteTrie.build(List.of(
+                suggestion(1L, "방탄소년단", 100),
+                suggestion(2L, "방예담", 10),
+                suggestion(3L, "BLACKPINK", 80),
+                suggestion(4L, "볼빨간사춘기", 50),
+                suggestion(5L, "과나", 5)), 3);
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 해당 아티스트가 검색된다")
+    void suggest_MatchesChoseong() {
+        assertAll(
+                () -> assertThat(texts(trie.suggest("ㅂㅌㅅ", 10))).containsExactly("방탄소년단"),
+                () -> assertThat(texts(trie.suggest("ㅂ", 10))).containsExactly("방탄소년단", "볼빨간사춘기", "방예담")
+        );
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(받침 미완성, 복합 모음)도 자모 단위로 매칭된다")
+    void suggest_MatchesPartialSyllables() {
+        assertAll(
+                () -> assertThat(texts(trie.suggest("방타", 10))).containsExactly("방탄소년단"),
+                () -> assertThat(texts(trie.suggest("방", 10))).containsExactly("방탄소년단", "방예담"),
+                () -> assertThat(texts(trie.suggest("고", 10))).containsExactly("과나"),
+                () -> assertThat(texts(trie.suggest("black p", 10))).containsExactly("BLACKPINK")
+        );
+    }
+
+    @Test
+    @DisplayName("인기도 변경/삭제 시 경로의 상위 K가 다시 계산된다")
+    void upsertAndRemove_RecomputeTopK() {
+        // when
+        trie.upsert(suggestion(2L, "방예담", 200));
+        trie.remove(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(texts(trie.suggest("ㅂ", 10))).containsExactly("방예담", "볼빨간사춘기"),
+                () -> assertThat(trie.suggest("ㅂㅌㅅ", 10)).isEmpty(),
+                () -> assertThat(trie.size()).isEqualTo(4)
+        );
+    }
+
+    private static AutocompleteTrie.Suggestion suggestion(Long id, String text, double score) {
+        return new AutocompleteTrie.Suggestion(AutocompleteService.TYPE_ARTIST, id, text, score);
+    }
+
+    private static List<String> texts(List<AutocompleteTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteTrie.Suggestion::text).toList();
+    }
+}
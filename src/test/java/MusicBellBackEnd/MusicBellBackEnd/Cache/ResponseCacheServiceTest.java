@@ -0,0 +1,89 @@
+package MusicBellBackEnd.MusicBellBackEnd.Cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ResponseCacheServiceTest {
+
+    private ResponseCacheService responseCacheService;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = new ResponseCacheService(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 loader를 다시 호출하지 않고 같은 ETag 반환")
+    void getOrCompute_CachesSerializedBytes() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        CachedResponse first = responseCacheService.getOrCompute("ranking:music:daily:10", Duration.ofMinutes(1),
+                () -> { calls.incrementAndGet(); return List.of(3L, 1L, 2L); });
+        CachedResponse second = responseCacheService.getOrCompute("ranking:music:daily:10", Duration.ofMinutes(1),
+                () -> { calls.incrementAndGet(); return List.of(9L); });
+
+        // then
+        assertAll(
+                () -> assertThat(calls.get()).isEqualTo(1),
+                () -> assertThat(second.etag()).isEqualTo(first.etag()),
+                () -> assertThat(new String(second.body())).isEqualTo("[3,1,2]")
+        );
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 일치하면 304, 무효화 후에는 새 본문")
+    void toResponse_NotModifiedUntilEvicted() {
+        // given
+        CachedResponse cached = responseCacheService.put("artist:detail:1", List.of("a"), Duration.ofMinutes(1));
+
+        // when
+        ResponseEntity<byte[]> notModified = ResponseCacheService.toResponse(cached, "W/" + cached.etag());
+        responseCacheService.evict("artist:detail:1");
+        CachedResponse reloaded = responseCacheService.getOrCompute("artist:detail:1", Duration.ofMinutes(1),
+                () -> List.of("b"));
+        ResponseEntity<byte[]> modified = ResponseCacheService.toResponse(reloaded, cached.etag());
+
+        // then
+        assertAll(
+                () -> assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(notModified.getBody()).isNull(),
+                () -> assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(modified.getHeaders().getETag()).isEqualTo(reloaded.etag()),
+                () -> assertThat(reloaded.etag()).isNotEqualTo(cached.etag())
+        );
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 전체를 비우지 않고 가장 오래 안 쓰인 항목만 제거")
+    void put_EvictsLeastRecentlyUsedWhenFull() {
+        // given
+        for (int i = 0; i < ResponseCacheService.MAX_ENTRIES; i++) {
+            responseCacheService.put("key:" + i, i, Duration.ofMinutes(1));
+        }
+        responseCacheService.get("key:0");
+
+        // when
+        responseCacheService.put("key:new", "new", Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertThat(responseCacheService.size()).isEqualTo(ResponseCacheService.MAX_ENTRIES),
+                () -> assertThat(responseCacheService.get("key:0")).isNotNull(),
+                () -> assertThat(responseCacheService.get("key:1")).isNull(),
+                () -> assertThat(responseCacheService.get("key:new")).isNotNull()
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistDocument;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStatePublisher;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.State.ArtistStatsState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArtistStatePublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private ProducerSendMetrics producerSendMetrics;
+
+    @InjectMocks
+    private ArtistStatePublisher artistStatePublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(artistStatePublisher, "artistStateTopic", "artist-state");
+        ReflectionTestUtils.setField(artistStatePublisher, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("문서는 artistId 키로, 통계는 stats: 키로 발행된다")
+    void publish_UsesDocumentAndStatsKeys() {
+        // given
+        ArtistDocument document = new ArtistDocument();
+        document.setId("7");
+        ArtistStatsState stats = new ArtistStatsState(7L, 10, 20, 30, 1_000L);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // when
+        artistStatePublisher.publishDocuments(List.of(document));
+        artistStatePublisher.publishStats(List.of(stats));
+
+        // then
+        verify(kafkaTemplate).send("artist-state", "7", document);
+        verify(kafkaTemplate).send("artist-state", "stats:7", stats);
+    }
+
+    @Test
+    @DisplayName("DB에서 사라진 아티스트는 문서/통계 키 모두 tombstone으로 발행된다")
+    void publishTombstones_NullsBothKeys() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), isNull())).thenReturn(new CompletableFuture<>());
+
+        // when
+        artistStatePublisher.publishTombstones(List.of(7L));
+
+        // then
+        verify(kafkaTemplate).send(eq("artist-state"), eq("7"), isNull());
+        verify(kafkaTemplate).send(eq("artist-state"), eq("stats:7"), isNull());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 발행하지 않고, 키에서 통계 대상 아티스트를 구분한다")
+    void disabledAndKeyParsing() {
+        // given
+        ReflectionTestUtils.setField(artistStatePublisher, "enabled", false);
+
+        // when
+        artistStatePublisher.publishTombstones(List.of(7L));
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        assertAll(
+                () -> assertThat(ArtistStatePublisher.statsArtistId("stats:7")).isEqualTo(7L),
+                () -> assertThat(ArtistStatePublisher.statsArtistId("7")).isNull()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DlqReplayServiceTest {
+
+    @Mock
+    private ConsumerFactory<String, DlqMessage> dlqConsumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @InjectMocks
+    private DlqReplayService dlqReplayService;
+
+    @Test
+    @DisplayName("에러 타입/원본 토픽/실패 시각 조건을 모두 만족하는 메시지만 재처리 대상이다")
+    void matches_AppliesAllFilters() {
+        // given
+        DlqMessage message = dlqMessage("ElasticSearchProcessingException", 1_000L);
+        DlqReplayRequest byError = DlqReplayRequest.builder().errorClass("ElasticSearchProcessingException").build();
+        DlqReplayRequest otherError = DlqReplayRequest.builder().errorClass("IllegalArgumentException").build();
+        DlqReplayRequest inWindow = DlqReplayRequest.builder().originalTopic("es-sending").fromTimestamp(500L).toTimestamp(1_000L).build();
+        DlqReplayRequest beforeWindow = DlqReplayRequest.builder().fromTimestamp(1_001L).build();
+
+        // when & then
+        assertAll(
+                () -> assertThat(DlqReplayService.matches(message, byError)).isTrue(),
+                () -> assertThat(DlqReplayService.matches(message, otherError)).isFalse(),
+                () -> assertThat(DlqReplayService.matches(message, inWindow)).isTrue(),
+                () -> assertThat(DlqReplayService.matches(message, beforeWindow)).isFalse(),
+                () -> assertThat(DlqReplayService.matches(null, new DlqReplayRequest())).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("재전송은 원본 토픽에 원본 키로 보낸다")
+    void republish_SendsToOriginalTopicWithOriginalKey() {
+        // given
+        DlqMessage message = dlqMessage("ElasticSearchProcessingException", 1_000L);
+        when(kafkaTemplate.send("es-sending", "7", message.getOriginalValue())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        dlqReplayService.republish(message);
+
+        // then
+        verify(kafkaTemplate, times(1)).send("es-sending", "7", message.getOriginalValue());
+    }
+
+    @Test
+    @DisplayName("원본 메시지가 없는 DLQ 메시지는 재전송하지 않는다")
+    void republish_RejectsMessageWithoutOriginal() {
+        DlqMessage message = DlqMessage.builder().originalTopic("es-sending").build();
+
+        assertThrows(IllegalArgumentException.class, () -> dlqReplayService.republish(message));
+    }
+
+    private static DlqMessage dlqMessage(String errorClass, long failureTimestamp) {
+        return DlqMessage.builder()
+                .originalTopic("es-sending")
+                .originalPartition(0)
+                .originalOffset(10L)
+                .originalKey("7")
+                .originalValue(new ElasticSearchEvent(7L, "sync"))
+                .errorClass(errorClass)
+                .failureTimestamp(failureTimestamp)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Dlq;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DlqStoreServiceTest {
+
+    @Mock
+    private DlqRecordRepository dlqRecordRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private DlqStoreService dlqStoreService;
+
+    @Test
+    @DisplayName("같은 DLQ 위치가 재전달되면 한 번만 저장하고 카운터도 한 번만 증가한다")
+    void save_IgnoresRedelivery() {
+        // given
+        DlqMessage message = dlqMessage("ElasticSearchProcessingException");
+        when(dlqRecordRepository.existsByDlqPartitionAndDlqOffset(0, 10L)).thenReturn(false, true);
+
+        // when
+        dlqStoreService.save(message, 0, 10L);
+        dlqStoreService.save(message, 0, 10L);
+
+        // then
+        ArgumentCaptor<DlqRecordEntity> captor = ArgumentCaptor.forClass(DlqRecordEntity.class);
+        verify(dlqRecordRepository).save(captor.capture());
+        assertAll(
+                () -> assertThat(captor.getValue().getOriginalValue()).isEqualTo("{\"artistId\":7}"),
+                () -> assertThat(dlqStoreService.getTotalCount()).isEqualTo(1),
+                () -> assertThat(dlqStoreService.getErrorClassCounts()).containsEntry("ElasticSearchProcessingException", 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("시작 시 에러 타입별 건수를 적재하고 삭제 시 카운터를 차감한다")
+    void loadCountersAndDelete() {
+        // given
+        when(dlqRecordRepository.countGroupByErrorClass()).thenReturn(List.of(
+                new Object[]{"IllegalArgumentException", 2L},
+                new Object[]{"ElasticSearchProcessingException", 5L}));
+        DlqRecordEntity record = DlqRecordEntity.builder().id(1L).errorClass("IllegalArgumentException").build();
+        when(dlqRecordRepository.findByDlqPartitionAndDlqOffset(0, 3L)).thenReturn(Optional.of(record));
+        when(dlqRecordRepository.findByDlqPartitionAndDlqOffset(0, 4L)).thenReturn(Optional.empty());
+
+        // when
+        dlqStoreService.loadCounters();
+        boolean deleted = dlqStoreService.delete(0, 3L);
+        boolean missing = dlqStoreService.delete(0, 4L);
+
+        // then
+        assertAll(
+                () -> assertThat(deleted).isTrue(),
+                () -> assertThat(missing).isFalse(),
+                () -> assertThat(dlqStoreService.getTotalCount()).isEqualTo(6),
+                () -> assertThat(dlqStoreService.getErrorClassCounts()).containsExactly(
+                        Map.entry("ElasticSearchProcessingException", 5L),
+                        Map.entry("IllegalArgumentException", 1L))
+        );
+        verify(dlqRecordRepository).delete(record);
+    }
+
+    private DlqMessage dlqMessage(String errorClass) {
+        return DlqMessage.builder()
+                .originalTopic("es-sending")
+                .originalPartition(0)
+                .originalOffset(42L)
+                .originalKey("7")
+                .originalValue(Map.of("artistId", 7))
+                .errorClass(errorClass)
+                .errorMessage("boom")
+                .failureTimestamp(1_000L)
+                .retryCount(3)
+                .processingStatus("RETRY_EXHAUSTED")
+                .build();
+    }
+}
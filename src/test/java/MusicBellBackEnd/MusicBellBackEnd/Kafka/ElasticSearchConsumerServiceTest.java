@@ -0,0 +1,150 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistSyncService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.ElasticSearchConsumerService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.KeyOrderedVirtualExecutor;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling.ListenerConcurrencyAutoscaler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticSearchConsumerServiceTest {
+
+    @Mock
+    private ArtistSyncService artistSyncService;
+
+    @Mock
+    private ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler;
+
+    @Mock
+    private KeyOrderedVirtualExecutor keyOrderedVirtualExecutor;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private ElasticSearchConsumerService elasticSearchConsumerService;
+
+    @Test
+    @DisplayName("배치 내 같은 아티스트 이벤트는 마지막 액션 하나로 합쳐지고 한 번만 커밋된다")
+    void handleElasticSearchEvents_CoalescesPerArtist() {
+        // given
+        List<ConsumerRecord<String, ElasticSearchEvent>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(record(i, 1L, "sync"));
+        }
+        records.add(record(100, 2L, "sync"));
+        records.add(record(101, 2L, "delete"));
+        records.add(record(102, 3L, "delete"));
+        records.add(record(103, 3L, "sync"));
+
+        // when
+        elasticSearchConsumerService.handleElasticSearchEvents(records, acknowledgment);
+
+        // then
+        verify(artistSyncService, times(1)).syncArtists(List.of(1L, 3L), List.of(2L));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("잘못된 이벤트가 섞여 있으면 유효한 이벤트를 반영한 뒤 해당 인덱스로 실패를 알린다")
+    void handleElasticSearchEvents_ReportsInvalidRecordIndex() {
+        // given
+        List<ConsumerRecord<String, ElasticSearchEvent>> records = List.of(
+                record(0, 1L, "sync"),
+                record(1, 2L, "unknown"),
+                record(2, 3L, "sync"));
+
+        // when
+        BatchListenerFailedException thrown = assertThrows(BatchListenerFailedException.class,
+                () -> elasticSearchConsumerService.handleElasticSearchEvents(records, acknowledgment));
+
+        // then
+        assertThat(thrown.getIndex()).isEqualTo(1);
+        verify(artistSyncService, times(1)).syncArtists(List.of(1L, 3L), List.of());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("stats 이벤트는 같은 배치의 sync/delete에 흡수되고 단독일 때만 부분 업데이트된다")
+    void handleElasticSearchEvents_StatsOnlyWhenAlone() {
+        // given
+        List<ConsumerRecord<String, ElasticSearchEvent>> records = List.of(
+                record(0, 1L, "stats"),
+                record(1, 1L, "stats"),
+                record(2, 2L, "sync"),
+                record(3, 2L, "stats"),
+                record(4, 3L, "stats"),
+                record(5, 3L, "delete"));
+
+        // when
+        elasticSearchConsumerService.handleElasticSearchEvents(records, acknowledgment);
+
+        // then
+        verify(artistSyncService, times(1)).syncArtists(List.of(2L), List.of(3L));
+        verify(artistSyncService, times(1)).syncArtistStats(List.of(1L));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서 여러 아티스트가 실패하면 가장 앞선 첫 레코드 위치로 실패를 알린다")
+    void handleElasticSearchEvents_VirtualThreads_ReportsEarliestFailedRecord() {
+        // given: 아티스트 1은 0번에 처음 등장하지만 마지막 등장(2번)은 아티스트 2(1번)보다 뒤
+        ElasticSearchConsumerService service = new ElasticSearchConsumerService(
+                artistSyncService, listenerConcurrencyAutoscaler, new KeyOrderedVirtualExecutor(4));
+        ReflectionTestUtils.setField(service, "virtualThreadsEnabled", true);
+        doThrow(new IllegalStateException("ES down")).when(artistSyncService).syncSingleArtist(anyLong());
+        List<ConsumerRecord<String, ElasticSearchEvent>> records = List.of(
+                record(0, 1L, "sync"),
+                record(1, 2L, "sync"),
+                record(2, 1L, "stats"));
+
+        // when
+        BatchListenerFailedException thrown = assertThrows(BatchListenerFailedException.class,
+                () -> service.handleElasticSearchEvents(records, acknowledgment));
+
+        // then: 0번 앞까지만 커밋되어야 아티스트 1의 sync가 재시도됨
+        assertThat(thrown.getIndex()).isEqualTo(0);
+        verify(artistSyncService, times(1)).syncSingleArtist(1L);
+        verify(artistSyncService, times(1)).syncSingleArtist(2L);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 단계의 이벤트는 액션과 무관하게 현재 DB 상태로 다시 색인된다")
+    void resyncFromSource_IgnoresEventAction() {
+        // when
+        elasticSearchConsumerService.resyncFromSource(new ElasticSearchEvent(1L, "sync"));
+        elasticSearchConsumerService.resyncFromSource(new ElasticSearchEvent(2L, "delete"));
+
+        // then
+        verify(artistSyncService, times(1)).syncArtists(List.of(1L), List.of());
+        verify(artistSyncService, times(1)).syncArtists(List.of(2L), List.of());
+        verify(artistSyncService, never()).syncSingleArtist(anyLong());
+        verify(artistSyncService, never()).deleteFromIndex(anyLong());
+    }
+
+    private static ConsumerRecord<String, ElasticSearchEvent> record(long offset, Long artistId, String action) {
+        return new ConsumerRecord<>("es-sending", 0, offset, null, new ElasticSearchEvent(artistId, action));
+    }
+}
@@ -0,0 +1,117 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxRelay;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxRelayLock;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Outbox.EsOutboxRepository;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Producer.ProducerSendMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EsOutboxRelayTest {
+
+    @Mock
+    private EsOutboxRepository esOutboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private ProducerSendMetrics producerSendMetrics;
+
+    @Mock
+    private EsOutboxRelayLock esOutboxRelayLock;
+
+    @InjectMocks
+    private EsOutboxRelay esOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(esOutboxRelay, "esTopic", "es-sending");
+        ReflectionTestUtils.setField(esOutboxRelay, "batchSize", 500);
+        ReflectionTestUtils.setField(esOutboxRelay, "maxBatchesPerRun", 20);
+        ReflectionTestUtils.setField(esOutboxRelay, "sendTimeoutMs", 1000L);
+        lenient().when(esOutboxRelayLock.runExclusively(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("outbox 행은 아티스트별로 합쳐 artistId 키로 전송된 뒤 일괄 삭제된다")
+    void relay_SendsKeyedPerArtistThenDeletes() {
+        // given
+        when(esOutboxRepository.findNextBatch(500)).thenReturn(List.of(
+                row(1L, 10L, "sync"),
+                row(2L, 10L, "stats"),
+                row(3L, 20L, "stats"),
+                row(4L, 20L, "stats")));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        esOutboxRelay.relay();
+
+        // then
+        verify(kafkaTemplate, times(1)).send("es-sending", "10", new ElasticSearchEvent(10L, "sync"));
+        verify(kafkaTemplate, times(1)).send("es-sending", "20", new ElasticSearchEvent(20L, "stats"));
+        verify(esOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("전송이 실패하면 outbox 행을 삭제하지 않는다")
+    void relay_KeepsRowsWhenSendFails() {
+        // given
+        when(esOutboxRepository.findNextBatch(500)).thenReturn(List.of(row(1L, 10L, "sync")));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        esOutboxRelay.relay();
+
+        // then
+        verify(kafkaTemplate, times(1)).send(eq("es-sending"), eq("10"), any());
+        verify(esOutboxRepository, never()).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리더 잠금을 잡고 있으면 outbox를 읽지 않는다")
+    void relay_SkipsWhenNotLeader() {
+        // given
+        doReturn(false).when(esOutboxRelayLock).runExclusively(any());
+
+        // when
+        esOutboxRelay.relay();
+
+        // then
+        verify(esOutboxRepository, never()).findNextBatch(anyInt());
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    private static EsOutboxEvent row(Long id, Long artistId, String action) {
+        return EsOutboxEvent.builder().id(id).artistId(artistId).action(action).build();
+    }
+}
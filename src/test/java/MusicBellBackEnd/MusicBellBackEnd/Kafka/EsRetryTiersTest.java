@@ -0,0 +1,66 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class EsRetryTiersTest {
+
+    private EsRetryTiers esRetryTiers;
+
+    @BeforeEach
+    void setUp() {
+        esRetryTiers = new EsRetryTiers("es-retry", "es-dlq", 1000, 10000, 60000);
+    }
+
+    @Test
+    @DisplayName("실패 레코드는 원본 → 1 → 2 → 3 단계를 거쳐 DLQ로 이동한다")
+    void nextTopic_ChainsTiersToDlq() {
+        assertAll(
+                () -> assertThat(esRetryTiers.nextTopic("es-sending")).isEqualTo("es-retry-1"),
+                () -> assertThat(esRetryTiers.nextTopic("es-retry-1")).isEqualTo("es-retry-2"),
+                () -> assertThat(esRetryTiers.nextTopic("es-retry-2")).isEqualTo("es-retry-3"),
+                () -> assertThat(esRetryTiers.nextTopic("es-retry-3")).isEqualTo("es-dlq")
+        );
+    }
+
+    @Test
+    @DisplayName("단계 토픽 레코드는 전송 시각 + 단계 지연 이후에 처리된다")
+    void dueAt_AddsTierDelay() {
+        assertAll(
+                () -> assertThat(esRetryTiers.dueAt("es-retry-1", 5_000L)).isEqualTo(6_000L),
+                () -> assertThat(esRetryTiers.dueAt("es-retry-3", 5_000L)).isEqualTo(65_000L),
+                () -> assertThat(esRetryTiers.dueAt("es-sending", 5_000L)).isEqualTo(5_000L)
+        );
+    }
+
+    @Test
+    @DisplayName("단계별 이동/복구/DLQ 건수가 따로 집계된다")
+    @SuppressWarnings("unchecked")
+    void snapshot_CountsPerTier() {
+        // given
+        esRetryTiers.recordForwarded("es-retry-1");
+        esRetryTiers.recordForwarded("es-retry-1");
+        esRetryTiers.recordRecovered("es-retry-1");
+        esRetryTiers.recordForwarded("es-retry-2");
+        esRetryTiers.recordDeadLettered("es-retry-3");
+
+        // when
+        Map<String, Object> snapshot = esRetryTiers.snapshot();
+        Map<String, Map<String, Object>> tiers = (Map<String, Map<String, Object>>) snapshot.get("tiers");
+
+        // then
+        assertAll(
+                () -> assertThat(tiers.get("es-retry-1")).containsEntry("forwarded", 2L).containsEntry("recovered", 1L),
+                () -> assertThat(tiers.get("es-retry-2")).containsEntry("forwarded", 1L),
+                () -> assertThat(tiers.get("es-retry-3")).containsEntry("deadLettered", 1L),
+                () -> assertThat(snapshot).containsEntry("deadLetteredTotal", 1L)
+        );
+    }
+}
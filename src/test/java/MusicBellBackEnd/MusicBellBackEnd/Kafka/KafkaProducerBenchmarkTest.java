@@ -0,0 +1,103 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Config.KafkaProducerConfig;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * ES 이벤트 Producer 처리량 벤치마크 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ * - 100,000건(아티스트 5,000명) 기준 기본 설정(linger 0, 무압축) vs KafkaProducerConfig 설정(linger/batch/lz4, 멱등)
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 6, topics = KafkaProducerBenchmarkTest.TOPIC)
+class KafkaProducerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaProducerBenchmarkTest.class);
+
+    static final String TOPIC = "es-sending-bench";
+    private static final int EVENT_COUNT = 100_000;
+    private static final int ARTIST_COUNT = 5_000;
+
+    @Test
+    @DisplayName("100,000건 전송: 튜닝된 Producer가 모든 이벤트를 전송하고 같은 아티스트는 항상 같은 파티션으로 간다")
+    void tunedProducer_vs_defaultProducer(EmbeddedKafkaBroker broker) {
+        String servers = broker.getBrokersAsString();
+        Map<String, Object> baselineProps = KafkaProducerConfig.producerProps(servers, 0, 16384, "none");
+        Map<String, Object> tunedProps = KafkaProducerConfig.producerProps(servers, 20, 65536, "lz4");
+
+        // warm-up
+        send(baselineProps, 2_000);
+        send(tunedProps, 2_000);
+
+        // when
+        SendRun baseline = send(baselineProps, EVENT_COUNT);
+        SendRun tuned = send(tunedProps, EVENT_COUNT);
+
+        log.info("[benchmark] Producer {}건 - 기본: {}ms ({}/s), 튜닝: {}ms ({}/s)",
+                EVENT_COUNT, baseline.millis(), Math.round(baseline.throughput()),
+                tuned.millis(), Math.round(tuned.throughput()));
+
+        // then
+        assertAll(
+                () -> assertThat(tuned.acked()).isEqualTo(EVENT_COUNT),
+                () -> assertThat(tuned.keys()).isEqualTo(ARTIST_COUNT),
+                () -> assertThat(tuned.partitionMismatches()).isZero()
+        );
+    }
+
+    private SendRun send(Map<String, Object> props, int count) {
+        DefaultKafkaProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory);
+        Map<String, Integer> partitionByKey = new ConcurrentHashMap<>();
+        AtomicInteger acked = new AtomicInteger();
+        AtomicInteger mismatches = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long artistId = i % ARTIST_COUNT + 1;
+            String key = String.valueOf(artistId);
+            futures.add(template.send(TOPIC, key, new ElasticSearchEvent(artistId, "stats"))
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            return;
+                        }
+                        acked.incrementAndGet();
+                        int partition = result.getRecordMetadata().partition();
+                        Integer previous = partitionByKey.putIfAbsent(key, partition);
+                        if (previous != null && previous != partition) {
+                            mismatches.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        producerFactory.destroy();
+        return new SendRun(count, millis, acked.get(), partitionByKey.size(), mismatches.get());
+    }
+
+    private record SendRun(int count, long millis, int acked, int keys, int partitionMismatches) {
+        double throughput() {
+            return millis > 0 ? count * 1000.0 / millis : count;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Config.KafkaProducerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaProducerConfigTest {
+
+    @Mock
+    private ObjectProvider<SslBundles> sslBundles;
+
+    @Test
+    @DisplayName("spring.kafka.producer.* 설정을 유지하고 튜닝 값(멱등/linger/batch/압축)만 덮어쓴다")
+    void producerFactory_KeepsSpringKafkaPropertiesAndAppliesTuning() {
+        // given
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of("kafka-1:9092", "kafka-2:9092"));
+        kafkaProperties.getProducer().setClientId("musicbell-api");
+        kafkaProperties.getProducer().setCompressionType("gzip");
+        kafkaProperties.getProducer().getProperties().put("max.request.size", "2097152");
+
+        KafkaProducerConfig config = new KafkaProducerConfig(kafkaProperties, sslBundles);
+        ReflectionTestUtils.setField(config, "lingerMs", 20);
+        ReflectionTestUtils.setField(config, "batchSize", 65536);
+        ReflectionTestUtils.setField(config, "compressionType", "lz4");
+
+        // when
+        Map<String, Object> props = config.producerFactory().getConfigurationProperties();
+
+        // then
+        assertAll(
+                () -> assertThat(props.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG)).isEqualTo(List.of("kafka-1:9092", "kafka-2:9092")),
+                () -> assertThat(props.get(ProducerConfig.CLIENT_ID_CONFIG)).isEqualTo("musicbell-api"),
+                () -> assertThat(props.get("max.request.size")).isEqualTo("2097152"),
+                () -> assertThat(props.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo(true),
+                () -> assertThat(props.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo(20),
+                () -> assertThat(props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("lz4")
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.KeyOrderedVirtualExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class KeyOrderedVirtualExecutorTest {
+
+    private KeyOrderedVirtualExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedVirtualExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키의 항목은 들어온 순서대로 처리된다")
+    void processByKey_PreservesOrderPerKey() {
+        // given
+        List<String> items = List.of("a:1", "b:1", "a:2", "c:1", "b:2", "a:3");
+        Map<String, List<String>> processed = new ConcurrentHashMap<>();
+
+        // when
+        KeyOrderedVirtualExecutor.Failure failure = executor.processByKey(items, item -> item.split(":")[0],
+                item -> processed.computeIfAbsent(item.split(":")[0], key -> new CopyOnWriteArrayList<>()).add(item));
+
+        // then
+        assertAll(
+                () -> assertThat(failure).isNull(),
+                () -> assertThat(processed.get("a")).containsExactly("a:1", "a:2", "a:3"),
+                () -> assertThat(processed.get("b")).containsExactly("b:1", "b:2"),
+                () -> assertThat(processed.get("c")).containsExactly("c:1")
+        );
+    }
+
+    @Test
+    @DisplayName("실패한 키의 이후 항목은 건너뛰고, 가장 앞선 실패 위치를 돌려준다")
+    void processByKey_ReturnsEarliestFailure() {
+        // given
+        List<String> items = List.of("a:1", "b:1", "a:fail", "b:fail", "a:2", "c:1");
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // when
+        KeyOrderedVirtualExecutor.Failure failure = executor.processByKey(items, item -> item.split(":")[0], item -> {
+            if (item.endsWith("fail")) {
+                throw new IllegalStateException(item);
+            }
+            processed.add(item);
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(failure.index()).isEqualTo(2),
+                () -> assertThat(failure.cause()).hasMessage("a:fail"),
+                () -> assertThat(processed).containsExactlyInAnyOrder("a:1", "b:1", "c:1")
+        );
+    }
+}
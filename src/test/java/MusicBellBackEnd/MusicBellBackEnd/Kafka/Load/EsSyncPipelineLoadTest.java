@@ -0,0 +1,432 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Load;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ElasticSearch.ArtistSyncService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Config.KafkaConsumerConfig;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Config.KafkaErrorHandlingConfig;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Config.KafkaProducerConfig;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.ElasticSearchConsumerService;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Consumer.KeyOrderedVirtualExecutor;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Retry.EsRetryTiers;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling.ListenerConcurrencyAutoscaler;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ES 동기화 파이프라인 부하 테스트 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ *
+ * Producer(KafkaProducerConfig 설정) → es-sending(임베디드 브로커) → 운영과 같은 배치 Listener Container Factory/에러 핸들러
+ * → ElasticSearchConsumerService → 메모리 색인(ArtistSearchRepository 대신, ArtistSyncService 경계에서 대체)
+ *
+ * 보고: 처리량(이벤트/초), 전송~색인 완료 지연 p50/p95/p99/max, 재시도 단계 이동률, DLQ 비율
+ * 기본 프로필 외에 -Dload.* 로 직접 조합 가능 (예: ./gradlew benchmark -Dload.events=500000 -Dload.mix=sync:10,stats:89,delete:1)
+ * -Dload.min-throughput / -Dload.max-p99-ms 를 주면 회귀 기준으로 검증
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 6, topics = {"es-retry-1", "es-retry-2", "es-retry-3", "es-dlq"})
+class EsSyncPipelineLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EsSyncPipelineLoadTest.class);
+
+    private static final String RETRY_TOPIC = "es-retry";
+    private static final String RETRY_TIER1_TOPIC = "es-retry-1";
+    private static final String DLQ_TOPIC = "es-dlq";
+    private static final int PARTITIONS = 6;
+
+    static Stream<LoadProfile> profiles() {
+        if (System.getProperty("load.events") != null || System.getProperty("load.mix") != null) {
+            return Stream.of(LoadProfile.fromSystemProperties());
+        }
+        return Stream.of(
+                // 재생/좋아요 위주 운영 트래픽 (인기 아티스트에 몰림)
+                new LoadProfile("stats-heavy", 100_000, 20_000, parseMix("sync:5,stats:94,delete:1"), 0.2, 500, 20, 0.0, 2, false),
+                // 등록/수정 위주
+                new LoadProfile("sync-heavy", 50_000, 20_000, parseMix("sync:70,stats:25,delete:5"), 0.0, 500, 20, 0.0, 2, false),
+                // 잘못된 이벤트 0.5% + ES 실패 1% (재시도 단계/DLQ 경로 포함)
+                new LoadProfile("faulty", 50_000, 10_000, parseMix("sync:30,stats:64,delete:1,invalid:5"), 0.1, 500, 20, 0.01, 2, false),
+                // 가상 스레드 모드 (아티스트별 단건 처리)
+                new LoadProfile("virtual-threads", 50_000, 20_000, parseMix("sync:30,stats:68,delete:2"), 0.1, 200, 50, 0.0, 2, true)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("profiles")
+    void esSyncPipeline(LoadProfile profile, EmbeddedKafkaBroker broker) throws Exception {
+        String servers = broker.getBrokersAsString();
+        String topic = "es-sending-load-" + profile.name();
+        String groupId = "es-load-" + profile.name() + "-" + System.nanoTime();
+        broker.addTopics(new NewTopic(topic, PARTITIONS, (short) 1));
+
+        InMemoryArtistIndex index = new InMemoryArtistIndex(profile.esCallMicros(), profile.esDocMicros(), profile.esFailureRate());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaProducerConfig.producerProps(servers, 20, 65536, "lz4", Boolean.getBoolean("load.compact-serde"))));
+        LatencyRecorder latencies = new LatencyRecorder(profile.events());
+        ConcurrentMessageListenerContainer<String, ElasticSearchEvent> container =
+                createContainer(servers, topic, groupId, profile, index, template, latencies);
+
+        try (AdminClient admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, servers))) {
+            long retryBefore = endOffsets(admin, RETRY_TIER1_TOPIC);
+            long dlqBefore = endOffsets(admin, DLQ_TOPIC);
+
+            container.start();
+            Map<Long, Boolean> expectedPresence = new HashMap<>();
+
+            // when
+            long start = System.nanoTime();
+            produce(template, topic, profile, expectedPresence);
+            long producedNanos = System.nanoTime() - start;
+            awaitDrained(admin, groupId, topic, profile.events());
+            long totalNanos = System.nanoTime() - start;
+            container.stop();
+            template.flush();
+
+            long retried = endOffsets(admin, RETRY_TIER1_TOPIC) - retryBefore;
+            long deadLettered = endOffsets(admin, DLQ_TOPIC) - dlqBefore;
+            LoadResult result = new LoadResult(profile, producedNanos, totalNanos, latencies, retried, deadLettered, index);
+            result.print();
+
+            // then
+            assertAll(
+                    () -> assertThat(latencies.count()).isPositive(),
+                    () -> {
+                        if (profile.esFailureRate() == 0) {
+                            // ES 실패가 없으면 최종 색인 상태가 아티스트별 마지막 sync/delete와 같아야 함
+                            expectedPresence.forEach((artistId, present) ->
+                                    assertThat(index.contains(artistId)).as("artist %d", artistId).isEqualTo(present));
+                        }
+                    },
+                    () -> {
+                        if (profile.invalidRatio() == 0 && profile.esFailureRate() == 0) {
+                            assertThat(deadLettered + retried).isZero();
+                        }
+                    },
+                    () -> {
+                        double minThroughput = Double.parseDouble(System.getProperty("load.min-throughput", "0"));
+                        assertThat(result.throughput()).isGreaterThanOrEqualTo(minThroughput);
+                    },
+                    () -> {
+                        long maxP99 = Long.getLong("load.max-p99-ms", Long.MAX_VALUE);
+                        assertThat(latencies.percentile(99)).isLessThanOrEqualTo(maxP99);
+                    }
+            );
+        } finally {
+            if (container.isRunning()) {
+                container.stop();
+            }
+            ((DefaultKafkaProducerFactory<String, Object>) template.getProducerFactory()).destroy();
+        }
+    }
+
+    /**
+     * 운영 설정(KafkaConsumerConfig/KafkaErrorHandlingConfig)으로 배치 컨테이너 생성
+     * 리스너는 ElasticSearchConsumerService.handleElasticSearchEvents, 성공한 배치마다 레코드별 지연 기록
+     */
+    private ConcurrentMessageListenerContainer<String, ElasticSearchEvent> createContainer(
+            String servers, String topic, String groupId, LoadProfile profile, InMemoryArtistIndex index,
+            KafkaTemplate<String, Object> template, LatencyRecorder latencies) {
+
+        EsRetryTiers esRetryTiers = new EsRetryTiers(RETRY_TOPIC, DLQ_TOPIC, 1_000, 10_000, 60_000);
+        KafkaErrorHandlingConfig errorHandlingConfig = new KafkaErrorHandlingConfig(esRetryTiers);
+        ReflectionTestUtils.setField(errorHandlingConfig, "dlqTopic", DLQ_TOPIC);
+
+        KafkaConsumerConfig consumerConfig = new KafkaConsumerConfig(errorHandlingConfig);
+        ReflectionTestUtils.setField(consumerConfig, "bootstrapServers", servers);
+        ReflectionTestUtils.setField(consumerConfig, "groupId", groupId);
+        ReflectionTestUtils.setField(consumerConfig, "esConcurrency", profile.concurrency());
+
+        ElasticSearchConsumerService consumerService = new ElasticSearchConsumerService(
+                index.asSyncService(), mock(ListenerConcurrencyAutoscaler.class), new KeyOrderedVirtualExecutor(64));
+        ReflectionTestUtils.setField(consumerService, "virtualThreadsEnabled", profile.virtualThreads());
+
+        ConcurrentKafkaListenerContainerFactory<String, ElasticSearchEvent> factory =
+                consumerConfig.elasticSearchBatchKafkaListenerContainerFactory(template);
+        factory.setBatchInterceptor(new BatchInterceptor<>() {
+            @Override
+            public ConsumerRecords<String, ElasticSearchEvent> intercept(ConsumerRecords<String, ElasticSearchEvent> records,
+                                                                          Consumer<String, ElasticSearchEvent> consumer) {
+                return records;
+            }
+
+            @Override
+            public void success(ConsumerRecords<String, ElasticSearchEvent> records, Consumer<String, ElasticSearchEvent> consumer) {
+                long now = System.currentTimeMillis();
+                for (ConsumerRecord<String, ElasticSearchEvent> record : records) {
+                    latencies.record(now - record.timestamp());
+                }
+            }
+        });
+
+        ConcurrentMessageListenerContainer<String, ElasticSearchEvent> container = factory.createContainer(topic);
+        container.getContainerProperties().setGroupId(groupId);
+        container.setupMessageListener((BatchAcknowledgingMessageListener<String, ElasticSearchEvent>)
+                consumerService::handleElasticSearchEvents);
+        return container;
+    }
+
+    /**
+     * 프로필 비율대로 이벤트 생성/전송 (artistId 키, 인기 아티스트 1%에 hotRatio만큼 몰림)
+     */
+    private void produce(KafkaTemplate<String, Object> template, String topic, LoadProfile profile,
+                         Map<Long, Boolean> expectedPresence) {
+        Random random = new Random(42);
+        int hotArtists = Math.max(1, profile.artists() / 100);
+        for (int i = 0; i < profile.events(); i++) {
+            long artistId = random.nextDouble() < profile.hotRatio()
+                    ? random.nextInt(hotArtists) + 1
+                    : random.nextInt(profile.artists()) + 1;
+            String action = profile.pickAction(random.nextDouble());
+            if ("sync".equals(action)) {
+                expectedPresence.put(artistId, true);
+            } else if ("delete".equals(action)) {
+                expectedPresence.put(artistId, false);
+            }
+            template.send(topic, String.valueOf(artistId), new ElasticSearchEvent(artistId, action));
+        }
+        template.flush();
+    }
+
+    private void awaitDrained(AdminClient admin, String groupId, String topic, long events) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Long.getLong("load.timeout-seconds", 300));
+        while (System.nanoTime() < deadline) {
+            Map<TopicPartition, OffsetAndMetadata> committed =
+                    admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata().get(10, TimeUnit.SECONDS);
+            long done = committed.entrySet().stream()
+                    .filter(entry -> entry.getKey().topic().equals(topic) && entry.getValue() != null)
+                    .mapToLong(entry -> entry.getValue().offset())
+                    .sum();
+            if (done >= events) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("부하 테스트 시간 초과: " + topic);
+    }
+
+    private static long endOffsets(AdminClient admin, String topic) throws Exception {
+        Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            request.put(new TopicPartition(topic, partition), OffsetSpec.latest());
+        }
+        return admin.listOffsets(request).all().get(10, TimeUnit.SECONDS).values().stream()
+                .mapToLong(info -> info.offset())
+                .sum();
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    /**
+     * 부하 프로필 (이벤트 수, 아티스트 수, 액션 비율, 인기 아티스트 쏠림, 메모리 색인 지연/실패율, 동시성, 가상 스레드 모드)
+     */
+    record LoadProfile(String name, int events, int artists, Map<String, Integer> mix, double hotRatio,
+                       long esCallMicros, long esDocMicros, double esFailureRate, int concurrency, boolean virtualThreads) {
+
+        static LoadProfile fromSystemProperties() {
+            return new LoadProfile(
+                    System.getProperty("load.name", "custom"),
+                    Integer.getInteger("load.events", 100_000),
+                    Integer.getInteger("load.artists", 20_000),
+                    parseMix(System.getProperty("load.mix", "sync:10,stats:88,delete:2")),
+                    Double.parseDouble(System.getProperty("load.hot-ratio", "0.2")),
+                    Long.getLong("load.es-call-micros", 500),
+                    Long.getLong("load.es-doc-micros", 20),
+                    Double.parseDouble(System.getProperty("load.es-failure-rate", "0")),
+                    Integer.getInteger("load.concurrency", 2),
+                    Boolean.getBoolean("load.virtual-threads"));
+        }
+
+        double invalidRatio() {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            return total == 0 ? 0 : (double) mix.getOrDefault("invalid", 0) / total;
+        }
+
+        /**
+         * 누적 비율로 액션 선택 ("invalid"는 지원하지 않는 액션으로 전송 → 검증 실패 후 DLQ)
+         */
+        String pickAction(double roll) {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            double cumulative = 0;
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                cumulative += (double) entry.getValue() / total;
+                if (roll < cumulative) {
+                    return "invalid".equals(entry.getKey()) ? "bogus" : entry.getKey();
+                }
+            }
+            return "stats";
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * ES 색인 대체 (ArtistSyncService 호출을 메모리 맵으로 처리)
+     * 호출당 고정 지연 + 문서당 지연을 흉내 내고, 설정한 비율로 bulk 호출 실패
+     */
+    static class InMemoryArtistIndex {
+        private final Map<Long, Long> documents = new ConcurrentHashMap<>(); // artistId -> 통계 갱신 횟수
+        private final long callMicros;
+        private final long docMicros;
+        private final double failureRate;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong docs = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        InMemoryArtistIndex(long callMicros, long docMicros, double failureRate) {
+            this.callMicros = callMicros;
+            this.docMicros = docMicros;
+            this.failureRate = failureRate;
+        }
+
+        ArtistSyncService asSyncService() {
+            ArtistSyncService syncService = mock(ArtistSyncService.class);
+            doAnswer(invocation -> bulk(invocation.getArgument(0), invocation.getArgument(1)))
+                    .when(syncService).syncArtists(anyCollection(), anyCollection());
+            doAnswer(invocation -> updateStats(invocation.getArgument(0)))
+                    .when(syncService).syncArtistStats(anyCollection());
+            doAnswer(invocation -> bulk(List.of(invocation.<Long>getArgument(0)), List.of()))
+                    .when(syncService).syncSingleArtist(anyLong());
+            doAnswer(invocation -> bulk(List.of(), List.of(invocation.<Long>getArgument(0))))
+                    .when(syncService).deleteFromIndex(any());
+            return syncService;
+        }
+
+        int bulk(Collection<Long> syncIds, Collection<Long> deleteIds) {
+            simulate(syncIds.size() + deleteIds.size());
+            syncIds.forEach(id -> documents.merge(id, 0L, Long::sum));
+            deleteIds.forEach(documents::remove);
+            return syncIds.size() + deleteIds.size();
+        }
+
+        int updateStats(Collection<Long> artistIds) {
+            simulate(artistIds.size());
+            // ES 부분 업데이트와 같이 없는 문서는 건너뜀
+            artistIds.forEach(id -> documents.computeIfPresent(id, (key, count) -> count + 1));
+            return artistIds.size();
+        }
+
+        boolean contains(long artistId) {
+            return documents.containsKey(artistId);
+        }
+
+        private void simulate(int docCount) {
+            if (docCount == 0) {
+                return;
+            }
+            calls.incrementAndGet();
+            docs.addAndGet(docCount);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(callMicros + docMicros * docCount));
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("simulated ES bulk failure");
+            }
+        }
+    }
+
+    /**
+     * 레코드별 전송~색인 완료 지연(ms)
+     */
+    static class LatencyRecorder {
+        private long[] samples;
+        private int size;
+
+        LatencyRecorder(int expected) {
+            this.samples = new long[Math.max(expected, 16)];
+        }
+
+        synchronized void record(long millis) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = Math.max(millis, 0);
+        }
+
+        synchronized int count() {
+            return size;
+        }
+
+        synchronized long percentile(double p) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(p / 100.0 * size) - 1;
+            return sorted[Math.min(Math.max(rank, 0), size - 1)];
+        }
+    }
+
+    record LoadResult(LoadProfile profile, long producedNanos, long totalNanos, LatencyRecorder latencies,
+                      long retried, long deadLettered, InMemoryArtistIndex index) {
+
+        double throughput() {
+            return profile.events() * 1e9 / totalNanos;
+        }
+
+        void print() {
+            log.info("[benchmark] ES 동기화 부하 [{}] {}건 (아티스트 {}, 동시성 {}{})",
+                    profile.name(), profile.events(), profile.artists(), profile.concurrency(),
+                    profile.virtualThreads() ? ", 가상 스레드" : "");
+            log.info("[benchmark]   처리량: {}/s (전송 {}/s), 총 {}ms",
+                    Math.round(throughput()), Math.round(profile.events() * 1e9 / producedNanos), totalNanos / 1_000_000);
+            log.info("[benchmark]   지연(ms) p50: {}, p95: {}, p99: {}, max: {} (측정 {}건)",
+                    latencies.percentile(50), latencies.percentile(95), latencies.percentile(99), latencies.percentile(100),
+                    latencies.count());
+            log.info("[benchmark]   ES 호출: {} (문서 {}, 실패 {}), 재시도 단계 이동: {} ({}%), DLQ: {} ({}%)",
+                    index.calls.get(), index.docs.get(), index.failures.get(),
+                    retried, String.format("%.2f", retried * 100.0 / profile.events()),
+                    deadLettered, String.format("%.2f", deadLettered * 100.0 / profile.events()));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Play;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PlayWindowStateTest {
+
+    private static final long WINDOW_MS = 60_000;
+    private static final long GRACE_MS = 5_000;
+    private static final long T0 = 1_700_000_040_000L; // 윈도우 시작 시각 (60,000의 배수)
+
+    @Test
+    @DisplayName("윈도우가 끝나고 grace가 지나면 트랙/아티스트별 재생수를 닫고, 마지막 오프셋 다음 위치를 커밋한다")
+    void closeDue_AggregatesTracksAndArtists() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 10, T0 + 1_000, 1L, 100L);
+        state.add(0, 11, T0 + 2_000, 1L, 100L);
+        state.add(0, 12, T0 + 3_000, 2L, 100L);
+        state.add(0, 13, T0 + 4_000, 3L, null);
+
+        // when
+        PlayWindowState.Closing early = state.closeDue(T0 + WINDOW_MS + GRACE_MS - 1);
+        PlayWindowState.Closing closing = state.closeDue(T0 + WINDOW_MS + GRACE_MS);
+
+        // then
+        assertAll(
+                () -> assertThat(early).isNull(),
+                () -> assertThat(closing.aggregates())
+                        .extracting(PlayAggregate::getWindowStart, PlayAggregate::getType, PlayAggregate::getId, PlayAggregate::getCount)
+                        .containsExactlyInAnyOrder(
+                                tuple(T0, PlayAggregate.TYPE_TRACK, 1L, 2L),
+                                tuple(T0, PlayAggregate.TYPE_TRACK, 2L, 1L),
+                                tuple(T0, PlayAggregate.TYPE_TRACK, 3L, 1L),
+                                tuple(T0, PlayAggregate.TYPE_ARTIST, 100L, 3L)),
+                () -> assertThat(closing.commitOffsets()).isEqualTo(Map.of(0, 14L)),
+                () -> assertThat(closing.plays()).isEqualTo(4L)
+        );
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 윈도우가 남으면 그 윈도우의 첫 오프셋까지만 커밋한다")
+    void closeDue_CommitsUpToFirstOpenWindow() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 0, T0, 1L, null);
+        state.add(0, 1, T0 + WINDOW_MS, 1L, null);
+        state.add(0, 2, T0 + WINDOW_MS + 1, 1L, null);
+
+        // when
+        PlayWindowState.Closing closing = state.closeDue(T0 + WINDOW_MS + GRACE_MS);
+
+        // then
+        assertAll(
+                () -> assertThat(closing.aggregates()).extracting(PlayAggregate::getCount).containsExactly(1L),
+                () -> assertThat(closing.commitOffsets()).isEqualTo(Map.of(0, 1L))
+        );
+    }
+
+    @Test
+    @DisplayName("이미 닫힌 윈도우로 늦게 도착한 재생은 열린 윈도우로 이월되어 누락되지 않는다")
+    void add_LateEventCarriedIntoOpenWindow() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 0, T0, 1L, null);
+        state.confirm(state.closeDue(T0 + WINDOW_MS + GRACE_MS));
+
+        // when - 닫힌 윈도우 시각의 재생
+        state.add(0, 1, T0 + 10, 1L, null);
+        PlayWindowState.Closing closing = state.closeDue(T0 + 2 * WINDOW_MS + GRACE_MS);
+
+        // then
+        assertAll(
+                () -> assertThat(closing.aggregates())
+                        .extracting(PlayAggregate::getWindowStart, PlayAggregate::getCount)
+                        .containsExactly(tuple(T0 + WINDOW_MS, 1L)),
+                () -> assertThat(closing.commitOffsets()).isEqualTo(Map.of(0, 2L))
+        );
+    }
+
+    @Test
+    @DisplayName("같은 윈도우의 아티스트 재생은 파티션을 합쳐 한 건으로 만든다")
+    void closeDue_MergesArtistAcrossPartitions() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 5, T0, 1L, 100L);
+        state.add(1, 7, T0, 2L, 100L);
+
+        // when
+        PlayWindowState.Closing closing = state.closeDue(T0 + WINDOW_MS + GRACE_MS);
+
+        // then
+        List<PlayAggregate> artists = closing.aggregates().stream()
+                .filter(aggregate -> PlayAggregate.TYPE_ARTIST.equals(aggregate.getType()))
+                .toList();
+        assertAll(
+                () -> assertThat(artists).extracting(PlayAggregate::getId, PlayAggregate::getCount).containsExactly(tuple(100L, 2L)),
+                () -> assertThat(closing.commitOffsets()).isEqualTo(Map.of(0, 6L, 1, 8L))
+        );
+    }
+
+    @Test
+    @DisplayName("전송 확인 전에는 같은 윈도우를 다시 닫고, 확인 후에는 다시 내보내지 않는다")
+    void confirm_RemovesOnlyAfterSuccess() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 0, T0, 1L, 100L);
+        long now = T0 + WINDOW_MS + GRACE_MS;
+
+        // when
+        PlayWindowState.Closing first = state.closeDue(now);
+        PlayWindowState.Closing retry = state.closeDue(now);
+        state.confirm(retry);
+
+        // then
+        assertAll(
+                () -> assertThat(retry.aggregates()).isEqualTo(first.aggregates()),
+                () -> assertThat(state.closeDue(now)).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("반납된 파티션의 집계 중 상태는 버린다 (새 소유자가 커밋 위치부터 다시 집계)")
+    void revoke_DropsPartitionState() {
+        // given
+        PlayWindowState state = new PlayWindowState(WINDOW_MS, GRACE_MS);
+        state.add(0, 0, T0, 1L, null);
+        state.add(1, 0, T0, 2L, null);
+
+        // when
+        state.revoke(List.of(0));
+        PlayWindowState.Closing closing = state.closeDue(T0 + WINDOW_MS + GRACE_MS);
+
+        // then
+        assertAll(
+                () -> assertThat(closing.aggregates()).extracting(PlayAggregate::getId).containsExactly(2L),
+                () -> assertThat(closing.commitOffsets()).containsOnlyKeys(1)
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Scaling;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Monitoring.KafkaOffsetsCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ListenerConcurrencyAutoscalerTest {
+
+    @Test
+    @DisplayName("lag이 높으면 목표 시간 안에 소화할 수 있는 만큼 늘리되 파티션 수를 넘지 않는다")
+    void desiredConcurrency_ScalesUpWithinPartitions() {
+        assertAll(
+                // 10,000건 * 10ms / 30s = 4
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1, 6, 10_000, 10.0, 30_000, 1_000, 100)).isEqualTo(4),
+                // 필요 수가 현재 이하여도 최소 +1
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1, 6, 1_000, 1.0, 30_000, 1_000, 100)).isEqualTo(3),
+                // 처리 시간 측정 전이면 2배
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1, 6, 5_000, 0.0, 30_000, 1_000, 100)).isEqualTo(4),
+                // 파티션 수가 상한
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1, 3, 1_000_000, 50.0, 30_000, 1_000, 100)).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("lag이 낮으면 1씩 줄이고 최소값 아래로는 내려가지 않으며, 중간 구간에서는 유지한다")
+    void desiredConcurrency_ScalesDownAndHolds() {
+        assertAll(
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(3, 1, 6, 10, 5.0, 30_000, 1_000, 100)).isEqualTo(2),
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(1, 1, 6, 0, 5.0, 30_000, 1_000, 100)).isEqualTo(1),
+                () -> assertThat(ListenerConcurrencyAutoscaler.desiredConcurrency(3, 1, 6, 500, 5.0, 30_000, 1_000, 100)).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 그룹의 재시도 단계 토픽 lag은 대상 토픽 lag에 포함하지 않는다")
+    void topicLag_CountsOnlyTargetTopic() {
+        KafkaOffsetsCache.GroupLag groupLag = new KafkaOffsetsCache.GroupLag("es-group", 1_111L, Map.of(
+                "es-sending-0", 100L,
+                "es-sending-1", 10L,
+                "es-sending-retry-1-0", 1_000L,
+                "es-sending-retry-2-0", 1L));
+
+        assertThat(ListenerConcurrencyAutoscaler.topicLag(groupLag, "es-sending")).isEqualTo(110L);
+    }
+}
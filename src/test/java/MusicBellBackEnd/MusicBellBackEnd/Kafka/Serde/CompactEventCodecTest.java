@@ -0,0 +1,144 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayAggregate;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.PlayEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CompactEventCodecTest {
+
+    @Test
+    @DisplayName("내부 이벤트는 바이너리로 왕복 변환되고 JSON보다 작다")
+    void encodeDecode_RoundTrip() {
+        // given
+        ElasticSearchEvent esEvent = new ElasticSearchEvent(123_456L, "stats");
+        ElasticSearchEvent customAction = new ElasticSearchEvent(-1L, "reindex");
+        PlayEvent playEvent = new PlayEvent(42L, null, 1_700_000_000_000L);
+        PlayAggregate aggregate = new PlayAggregate(1_700_000_040_000L, PlayAggregate.TYPE_ARTIST, 7L, 1_234L);
+
+        // when
+        byte[] bytes = CompactEventCodec.encode(esEvent);
+        JsonSerializer<Object> json = new JsonSerializer<>();
+        json.setAddTypeInfo(false);
+
+        // then
+        assertAll(
+                () -> assertThat(CompactEventCodec.decode(bytes)).isEqualTo(esEvent),
+                () -> assertThat(CompactEventCodec.decode(CompactEventCodec.encode(customAction))).isEqualTo(customAction),
+                () -> assertThat(CompactEventCodec.decode(CompactEventCodec.encode(playEvent))).isEqualTo(playEvent),
+                () -> assertThat(CompactEventCodec.decode(CompactEventCodec.encode(aggregate))).isEqualTo(aggregate),
+                () -> assertThat(bytes.length).isLessThan(json.serialize("t", esEvent).length / 3)
+        );
+    }
+
+    @Test
+    @DisplayName("DLQ 메시지는 원본 이벤트를 타입 그대로 복원하고 긴 스택트레이스는 잘라서 싣는다")
+    void encodeDecode_DlqMessage() {
+        // given
+        DlqMessage message = DlqMessage.builder()
+                .originalTopic("es-sending")
+                .originalPartition(1)
+                .originalOffset(99L)
+                .originalKey("5")
+                .originalValue(new ElasticSearchEvent(5L, "sync"))
+                .errorMessage("boom")
+                .errorClass("IllegalStateException")
+                .stackTrace("x".repeat(CompactEventCodec.MAX_STACK_TRACE_CHARS * 2))
+                .failureTimestamp(1_700_000_000_000L)
+                .retryCount(3)
+                .processingStatus("RETRY_EXHAUSTED")
+                .build();
+        DlqMessage jsonOriginal = DlqMessage.builder().originalValue(Map.of("artistId", 5)).build();
+
+        // when
+        DlqMessage decoded = (DlqMessage) CompactEventCodec.decode(CompactEventCodec.encode(message));
+        DlqMessage decodedJsonOriginal = (DlqMessage) CompactEventCodec.decode(CompactEventCodec.encode(jsonOriginal));
+
+        // then
+        assertAll(
+                () -> assertThat(decoded.getOriginalValue()).isEqualTo(new ElasticSearchEvent(5L, "sync")),
+                () -> assertThat(decoded.getOriginalOffset()).isEqualTo(99L),
+                () -> assertThat(decoded.getProcessingStatus()).isEqualTo("RETRY_EXHAUSTED"),
+                () -> assertThat(decoded.getStackTrace()).hasSizeLessThanOrEqualTo(CompactEventCodec.MAX_STACK_TRACE_CHARS)
+                        .endsWith("(truncated)"),
+                () -> assertThat(decoded.getConsumerGroup()).isNull(),
+                () -> assertThat(decodedJsonOriginal.getOriginalValue()).isEqualTo(Map.of("artistId", 5))
+        );
+    }
+
+    @Test
+    @DisplayName("Deserializer는 바이너리와 기존 JSON을 모두 읽고, 다른 타입의 바이너리는 거부한다")
+    void deserializer_ReadsBothFormats() {
+        // given
+        CompactEventDeserializer<ElasticSearchEvent> deserializer = new CompactEventDeserializer<>();
+        deserializer.configure(Map.of(
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ElasticSearchEvent.class.getName(),
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+                JsonDeserializer.TRUSTED_PACKAGES, ElasticSearchEvent.class.getPackageName()), false);
+        byte[] json = "{\"artistId\":3,\"action\":\"delete\"}".getBytes();
+        byte[] binary = CompactEventCodec.encode(new ElasticSearchEvent(3L, "delete"));
+        byte[] otherType = CompactEventCodec.encode(new PlayEvent(1L, 2L, 3L));
+
+        // when & then
+        assertAll(
+                () -> assertThat(deserializer.deserialize("es-sending", json)).isEqualTo(new ElasticSearchEvent(3L, "delete")),
+                () -> assertThat(deserializer.deserialize("es-sending", binary)).isEqualTo(new ElasticSearchEvent(3L, "delete")),
+                () -> assertThatThrownBy(() -> deserializer.deserialize("es-sending", otherType))
+                        .isInstanceOf(SerializationException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 스키마 버전이나 잘린 데이터는 SerializationException으로 거부한다")
+    void decode_RejectsUnknownVersionAndTruncatedData() {
+        // given
+        byte[] bytes = CompactEventCodec.encode(new ElasticSearchEvent(1L, "sync"));
+        byte[] future = bytes.clone();
+        future[1] = (byte) (CompactEventCodec.VERSION + 1);
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 1);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> CompactEventCodec.decode(future)).isInstanceOf(SerializationException.class),
+                () -> assertThatThrownBy(() -> CompactEventCodec.decode(truncated)).isInstanceOf(SerializationException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("DLQ 스택트레이스는 예외당 프레임 수를 제한하고 재귀 반복 프레임과 원인 예외의 공통 프레임을 생략한다")
+    void compactStackTrace_TruncatesAndDeduplicates() {
+        // given
+        Throwable cause = recurse(50);
+        IllegalStateException wrapper = new IllegalStateException("wrapped", cause);
+
+        // when
+        String compact = DlqMessage.compactStackTrace(wrapper, 5);
+
+        // then
+        assertAll(
+                () -> assertThat(compact).startsWith("java.lang.IllegalStateException: wrapped"),
+                () -> assertThat(compact).contains("Caused by: java.lang.RuntimeException: deep"),
+                () -> assertThat(compact).contains("(x"),
+                () -> assertThat(compact).contains("more"),
+                () -> assertThat(compact.lines().count()).isLessThanOrEqualTo(14)
+        );
+    }
+
+    private static Throwable recurse(int depth) {
+        if (depth == 0) {
+            return new RuntimeException("deep");
+        }
+        return recurse(depth - 1);
+    }
+}
@@ -0,0 +1,160 @@
+package MusicBellBackEnd.MusicBellBackEnd.Kafka.Serde;
+
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.DlqMessage;
+import MusicBellBackEnd.MusicBellBackEnd.Kafka.Event.ElasticSearchEvent;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 내부 이벤트 직렬화 벤치마크 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ * - ElasticSearchEvent 100,000건 / DlqMessage 20,000건 기준 JSON(Json(De)Serializer) vs 바이너리(CompactEvent(De)Serializer)
+ * - 이벤트당 바이트 수와 encode/decode 처리량 (warm-up 후 측정 5회 중 최고값)
+ */
+@Tag("benchmark")
+class CompactEventSerdeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactEventSerdeBenchmarkTest.class);
+
+    private static final String TOPIC = "serde-bench";
+    private static final int ES_EVENT_COUNT = 100_000;
+    private static final int DLQ_MESSAGE_COUNT = 20_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    @DisplayName("ElasticSearchEvent: 바이너리가 JSON보다 작고 같은 이벤트로 복원된다")
+    void esEvent_json_vs_compact() {
+        List<Object> events = new ArrayList<>(ES_EVENT_COUNT);
+        String[] actions = {"sync", "delete", "stats"};
+        for (int i = 0; i < ES_EVENT_COUNT; i++) {
+            events.add(new ElasticSearchEvent((long) (i % 50_000) + 1, actions[i % actions.length]));
+        }
+
+        Result json = run(events, jsonSerializer(), jsonDeserializer(ElasticSearchEvent.class));
+        Result compact = run(events, new CompactEventSerializer(), compactDeserializer(ElasticSearchEvent.class));
+        print("ElasticSearchEvent", events.size(), json, compact);
+
+        assertAll(
+                () -> assertThat(compact.bytesPerEvent()).isLessThan(json.bytesPerEvent() / 2),
+                () -> assertThat(compact.lastDecoded()).isEqualTo(events.get(events.size() - 1))
+        );
+    }
+
+    @Test
+    @DisplayName("DlqMessage: 요약 스택트레이스를 포함해도 바이너리가 JSON보다 작고 원본 이벤트 타입이 유지된다")
+    void dlqMessage_json_vs_compact() {
+        String stackTrace = DlqMessage.compactStackTrace(
+                new IllegalStateException("ES bulk failed", new RuntimeException("connection reset")), 15);
+        List<Object> messages = new ArrayList<>(DLQ_MESSAGE_COUNT);
+        for (int i = 0; i < DLQ_MESSAGE_COUNT; i++) {
+            messages.add(DlqMessage.builder()
+                    .originalTopic("es-sending")
+                    .originalPartition(i % 2)
+                    .originalOffset((long) i)
+                    .originalKey(String.valueOf(i % 5_000 + 1))
+                    .originalValue(new ElasticSearchEvent((long) i % 5_000 + 1, "sync"))
+                    .errorMessage("ES bulk failed")
+                    .errorClass("ListenerExecutionFailedException")
+                    .stackTrace(stackTrace)
+                    .failureTimestamp(1_700_000_000_000L + i)
+                    .retryCount(3)
+                    .processingStatus("RETRY_EXHAUSTED")
+                    .build());
+        }
+
+        Result json = run(messages, jsonSerializer(), jsonDeserializer(DlqMessage.class));
+        Result compact = run(messages, new CompactEventSerializer(), compactDeserializer(DlqMessage.class));
+        print("DlqMessage", messages.size(), json, compact);
+
+        assertAll(
+                () -> assertThat(compact.bytesPerEvent()).isLessThan(json.bytesPerEvent()),
+                () -> assertThat(((DlqMessage) compact.lastDecoded()).getOriginalValue()).isInstanceOf(ElasticSearchEvent.class)
+        );
+    }
+
+    private Result run(List<Object> events, Serializer<Object> serializer, Deserializer<?> deserializer) {
+        byte[][] encoded = new byte[events.size()][];
+        long bestEncodeNanos = Long.MAX_VALUE;
+        long bestDecodeNanos = Long.MAX_VALUE;
+        Object lastDecoded = null;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < events.size(); i++) {
+                encoded[i] = serializer.serialize(TOPIC, events.get(i));
+            }
+            long encodeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (byte[] bytes : encoded) {
+                lastDecoded = deserializer.deserialize(TOPIC, bytes);
+            }
+            long decodeNanos = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                bestEncodeNanos = Math.min(bestEncodeNanos, encodeNanos);
+                bestDecodeNanos = Math.min(bestDecodeNanos, decodeNanos);
+            }
+        }
+
+        long totalBytes = 0;
+        for (byte[] bytes : encoded) {
+            totalBytes += bytes.length;
+        }
+        return new Result((double) totalBytes / events.size(),
+                events.size() * 1e9 / bestEncodeNanos, events.size() * 1e9 / bestDecodeNanos, lastDecoded);
+    }
+
+    private static void print(String type, int count, Result json, Result compact) {
+        log.info("[benchmark] {} {}건 - 바이트/이벤트 JSON: {}, 바이너리: {} (x{})",
+                type, count, String.format("%.1f", json.bytesPerEvent()), String.format("%.1f", compact.bytesPerEvent()),
+                String.format("%.1f", json.bytesPerEvent() / compact.bytesPerEvent()));
+        log.info("[benchmark] {} encode/s JSON: {}, 바이너리: {} | decode/s JSON: {}, 바이너리: {}",
+                type, Math.round(json.encodePerSecond()), Math.round(compact.encodePerSecond()),
+                Math.round(json.decodePerSecond()), Math.round(compact.decodePerSecond()));
+    }
+
+    private static Serializer<Object> jsonSerializer() {
+        JsonSerializer<Object> serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        return serializer;
+    }
+
+    private static Deserializer<?> jsonDeserializer(Class<?> type) {
+        JsonDeserializer<Object> deserializer = new JsonDeserializer<>();
+        deserializer.configure(deserializerConfigs(type), false);
+        return deserializer;
+    }
+
+    private static Deserializer<?> compactDeserializer(Class<?> type) {
+        CompactEventDeserializer<Object> deserializer = new CompactEventDeserializer<>();
+        deserializer.configure(deserializerConfigs(type), false);
+        return deserializer;
+    }
+
+    private static Map<String, Object> deserializerConfigs(Class<?> type) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(JsonDeserializer.TRUSTED_PACKAGES, type.getPackageName());
+        configs.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configs.put(JsonDeserializer.VALUE_DEFAULT_TYPE, type.getName());
+        return configs;
+    }
+
+    private record Result(double bytesPerEvent, double encodePerSecond, double decodePerSecond, Object lastDecoded) {
+    }
+}
@@ -1,6 +1,7 @@
 package MusicBellBackEnd.MusicBellBackEnd.Music;
 
 import MusicBellBackEnd.MusicBellBackEnd.Music.Dto.MusicResponseDto;
+import MusicBellBackEnd.MusicBellBackEnd.Redis.TrackCacheService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,9 +10,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -24,6 +29,9 @@ class AdditionalMusicServiceTest {
     @Mock
     private MusicRepository musicRepository;
 
+    @Mock
+    private TrackCacheService trackCacheService;
+
     @InjectMocks
     private MusicService musicService;
 
@@ -55,4 +63,50 @@ class AdditionalMusicServiceTest {
                 () -> assertThat(results.get(2).getTitle()).isEqualTo("Song 3")
         );
     }
+
+    @Test
+    @DisplayName("getMusicsByIds: 캐시에 있는 곡은 DB를 거치지 않고 miss만 조회한다")
+    void getMusicsByIds_loadsOnlyCacheMisses() {
+        // given
+        List<Long> musicIds = List.of(3L, 1L, 2L);
+        MusicResponseDto cached1 = MusicResponseDto.builder().id(1L).title("Song 1").build();
+        MusicResponseDto cached3 = MusicResponseDto.builder().id(3L).title("Song 3").build();
+        MusicEntity music2 = MusicEntity.builder().id(2L).title("Song 2").artist("Artist 2").build();
+
+        when(trackCacheService.getAll(musicIds))
+                .thenReturn(Map.of(1L, cached1, 3L, cached3));
+        when(musicRepository.findAllById(List.of(2L))).thenReturn(List.of(music2));
+
+        // when
+        List<MusicResponseDto> results = musicService.getMusicsByIds(musicIds);
+
+        // then
+        assertAll(
+                () -> assertThat(results).extracting(MusicResponseDto::getId).containsExactly(3L, 1L, 2L),
+                () -> assertThat(results.get(2).getTitle()).isEqualTo("Song 2")
+        );
+        verify(trackCacheService).putAll(List.of(results.get(2)));
+    }
+
+    @Test
+    @DisplayName("getMusicsByIds: 1000개를 넘는 요청은 캐시를 청크 단위로 조회하고 모두 반환한다")
+    void getMusicsByIds_chunksLargeBatch() {
+        // given
+        List<Long> musicIds = LongStream.rangeClosed(1, 1500).boxed().toList();
+        when(trackCacheService.getAll(anyList())).thenReturn(Map.of());
+        when(musicRepository.findAllById(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(id -> MusicEntity.builder().id(id).title("Song " + id).artist("Artist").build())
+                .toList());
+
+        // when
+        List<MusicResponseDto> results = musicService.getMusicsByIds(musicIds);
+
+        // then
+        assertAll(
+                () -> assertThat(results).hasSize(1500),
+                () -> assertThat(results.get(1499).getId()).isEqualTo(1500L)
+        );
+        verify(trackCacheService).getAll(musicIds.subList(0, 1000));
+        verify(trackCacheService).getAll(musicIds.subList(1000, 1500));
+    }
 }
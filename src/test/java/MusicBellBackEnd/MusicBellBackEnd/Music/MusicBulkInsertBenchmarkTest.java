@@ -0,0 +1,106 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 대량 업로드 벤치마크 (./gradlew benchmark 로 실행, 일반 test 태스크에서는 제외)
+ * - 10,000곡 기준 JPA saveAll(IDENTITY, 행마다 INSERT) vs JDBC multi-row INSERT
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(MusicBulkInsertRepository.class)
+class MusicBulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MusicBulkInsertBenchmarkTest.class);
+
+    private static final int TRACK_COUNT = 10_000;
+
+    @Autowired
+    private MusicRepository musicRepository;
+
+    @Autowired
+    private MusicBulkInsertRepository musicBulkInsertRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("10,000곡 업로드: saveAll과 JDBC 일괄 INSERT 소요 시간을 기록하고, 일괄 INSERT가 모든 행과 id를 채운다")
+    void bulkInsert_vs_saveAll() {
+        // warm-up
+        musicRepository.saveAll(createMusics(200));
+        musicBulkInsertRepository.insertAll(createMusics(200));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when: JPA saveAll
+        List<MusicEntity> jpaMusics = createMusics(TRACK_COUNT);
+        long jpaStart = System.nanoTime();
+        musicRepository.saveAll(jpaMusics);
+        entityManager.flush();
+        long jpaMillis = (System.nanoTime() - jpaStart) / 1_000_000;
+        entityManager.clear();
+
+        // when: JDBC 일괄 INSERT
+        List<MusicEntity> bulkMusics = createMusics(TRACK_COUNT);
+        long bulkStart = System.nanoTime();
+        musicBulkInsertRepository.insertAll(bulkMusics);
+        long bulkMillis = (System.nanoTime() - bulkStart) / 1_000_000;
+
+        // 시간은 환경마다 달라 기록만 하고 검증하지 않음
+        log.info("[benchmark] {} tracks - saveAll: {} ms, bulk insert: {} ms (x{})",
+                TRACK_COUNT, jpaMillis, bulkMillis, String.format("%.1f", (double) jpaMillis / Math.max(bulkMillis, 1)));
+
+        // then: 채워진 id가 모두 서로 다르고 실제 저장된 행을 가리킴
+        List<Long> bulkIds = bulkMusics.stream().map(MusicEntity::getId).toList();
+        Map<Long, String> titles = new HashMap<>();
+        bulkMusics.forEach(music -> titles.put(music.getId(), music.getTitle()));
+        entityManager.clear();
+        List<MusicEntity> persisted = musicRepository.findAllById(bulkIds);
+        assertAll(
+                () -> assertThat(bulkIds).doesNotContainNull().doesNotHaveDuplicates().hasSize(TRACK_COUNT),
+                () -> assertThat(persisted).hasSize(TRACK_COUNT),
+                () -> assertThat(persisted).allSatisfy(music ->
+                        assertThat(music.getTitle()).isEqualTo(titles.get(music.getId()))),
+                () -> assertThat(musicRepository.count()).isEqualTo(TRACK_COUNT * 2L + 400)
+        );
+    }
+
+    private List<MusicEntity> createMusics(int count) {
+        List<MusicEntity> musics = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            musics.add(MusicEntity.builder()
+                    .title("Benchmark Track " + i)
+                    .artist("Benchmark Artist " + (i % 100))
+                    .album("Benchmark Album")
+                    .genre("POP")
+                    .duration(180)
+                    .musicUrl("https://example.com/music/" + i + ".mp3")
+                    .uploaderName("bench")
+                    .uploaderId(1L)
+                    .playCount(0L)
+                    .likeCount(0L)
+                    .isPublic(true)
+                    .fileType("mp3")
+                    .musicGrade("GENERAL")
+                    .build());
+        }
+        return musics;
+    }
+}
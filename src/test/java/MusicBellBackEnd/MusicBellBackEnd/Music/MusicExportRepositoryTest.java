@@ -0,0 +1,148 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import MusicBellBackEnd.MusicBellBackEnd.Artist.ArtistEntity;
+import MusicBellBackEnd.MusicBellBackEnd.Lyrics.LyricsEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(MusicExportRepositoryTest.StreamingFetchSizeConfig.class)
+class MusicExportRepositoryTest {
+
+    // H2는 음수 fetchSize를 거부하므로 MySQL 스트리밍 힌트(Integer.MIN_VALUE)는 기록만 하고 넘김
+    private static final List<Integer> requestedFetchSizes = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MusicRepository musicRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("카탈로그 스트리밍 - 가사/아티스트가 연결된 행도 추가 SELECT 없이 쿼리 한 번으로 프로젝션을 읽는다")
+    void streamPublicCatalogAfter_ReadsProjectionWithSingleStatement() {
+        // given
+        ArtistEntity artist = ArtistEntity.builder()
+                .name("Export Artist")
+                .isVerified(false)
+                .isActive(true)
+                .build();
+        entityManager.persist(artist);
+
+        MusicEntity withLyrics = music("With Lyrics", true, artist);
+        MusicEntity withoutLyrics = music("Without Lyrics", true, null);
+        MusicEntity privateMusic = music("Private", false, null);
+        entityManager.persist(withLyrics);
+        entityManager.persist(withoutLyrics);
+        entityManager.persist(privateMusic);
+        entityManager.persist(LyricsEntity.builder()
+                .music(withLyrics)
+                .fullLyrics("la la la")
+                .isVerified(false)
+                .isActive(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        requestedFetchSizes.clear();
+
+        // when
+        List<MusicExportService.ExportRow> rows;
+        try (Stream<MusicExportService.ExportRow> stream = musicRepository.streamPublicCatalogAfter(0L)) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(rows).extracting(MusicExportService.ExportRow::title)
+                        .containsExactly("With Lyrics", "Without Lyrics"),
+                () -> assertThat(rows.get(0).artistId()).isEqualTo(artist.getId()),
+                () -> assertThat(rows.get(1).artistId()).isNull(),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1),
+                () -> assertThat(statistics.getEntityLoadCount()).isZero(),
+                () -> assertThat(requestedFetchSizes).containsExactly(Integer.MIN_VALUE)
+        );
+    }
+
+    private MusicEntity music(String title, boolean isPublic, ArtistEntity artist) {
+        return MusicEntity.builder()
+                .title(title)
+                .artist("Export Artist")
+                .artistEntity(artist)
+                .musicUrl("https://example.com/music/" + title + ".mp3")
+                .uploaderName("exporter")
+                .uploaderId(1L)
+                .playCount(0L)
+                .likeCount(0L)
+                .isPublic(isPublic)
+                .fileType("mp3")
+                .musicGrade("GENERAL")
+                .build();
+    }
+
+    @TestConfiguration
+    static class StreamingFetchSizeConfig {
+
+        @Bean
+        static BeanPostProcessor streamingFetchSizeDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return proxy(DataSource.class, dataSource);
+                }
+            };
+        }
+
+        // DataSource -> Connection -> Statement 순으로 감싸고 Statement.setFetchSize의 음수 값만 가로챔
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if (target instanceof Statement && method.getName().equals("setFetchSize") && (int) args[0] < 0) {
+                    requestedFetchSizes.add((int) args[0]);
+                    return null;
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                    return proxy(Connection.class, connection);
+                }
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return proxy((Class<Object>) method.getReturnType(), result);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package MusicBellBackEnd.MusicBellBackEnd.Music;
+
+import MusicBellBackEnd.MusicBellBackEnd.GlobalErrorHandler.GlobalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MusicExportServiceTest {
+
+    @Mock
+    private MusicRepository musicRepository;
+
+    private MusicExportService musicExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        musicExportService = new MusicExportService(musicRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 워터마크 이후 행을 한 줄에 하나씩 기록한다")
+    void export_Ndjson_WritesOneLinePerRow() throws Exception {
+        // given
+        when(musicRepository.streamPublicCatalogAfter(10L))
+                .thenReturn(Stream.of(music(11L, "Song 11"), music(12L, "Song 12")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = musicExportService.export(MusicExportService.ExportFormat.NDJSON, 10L, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertThat(rows).isEqualTo(2),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines[0]).startsWith("{\"id\":11,").contains("\"title\":\"Song 11\""),
+                () -> assertThat(lines[1]).startsWith("{\"id\":12,")
+        );
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더를 쓰고 쉼표/따옴표가 있는 값은 이스케이프한다")
+    void export_Csv_EscapesValues() throws Exception {
+        // given
+        when(musicRepository.streamPublicCatalogAfter(0L))
+                .thenReturn(Stream.of(music(1L, "Hello, \"World\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        musicExportService.export(MusicExportService.ExportFormat.CSV, 0L, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertThat(lines[0]).startsWith("id,title,artist,artistId"),
+                () -> assertThat(lines[1]).startsWith("1,\"Hello, \"\"World\"\"\",Artist,,")
+        );
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외 발생")
+    void exportFormat_Unknown_Throws() {
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> MusicExportService.ExportFormat.from("xml"));
+        assertThat(exception.getErrorCode()).isEqualTo("INVALID_EXPORT_FORMAT");
+    }
+
+    private MusicExportService.ExportRow music(Long id, String title) {
+        return new MusicExportService.ExportRow(id, title, "Artist", null, null, null, null, null,
+                "https://example.com/" + id + ".mp3", null, "uploader", 0L, 0L, null, null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package MusicBellBackEnd.MusicBellBackEnd.Redis;
+
+import MusicBellBackEnd.MusicBellBackEnd.Cache.CachedResponse;
+import MusicBellBackEnd.MusicBellBackEnd.Music.Dto.MusicStatsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChartCacheServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private ChartCacheService chartCacheService;
+
+    private static final String CHART = "music:popular";
+    private static final Comparator<MusicStatsDto> POPULAR_ORDER =
+            Comparator.comparingLong(MusicStatsDto::getPlayCount).reversed();
+
+    @BeforeEach
+    void setUp() {
+        chartCacheService = new ChartCacheService(redisService, new ObjectMapper());
+        chartCacheService.publish(CHART, List.of(stats(1L, 30L), stats(2L, 20L), stats(3L, 10L)));
+    }
+
+    @Test
+    @DisplayName("차트 발행 - 직렬화된 바이트를 메모리에 저장하고 Redis에는 주기 기록 시 저장")
+    void publish_StoresSerializedJson() {
+        // when
+        CachedResponse response = chartCacheService.getResponse(CHART);
+        String json = new String(response.body(), StandardCharsets.UTF_8);
+        verify(redisService, never()).setValue(anyString(), any());
+        chartCacheService.flushDirtyCharts();
+
+        // then
+        assertAll(
+                () -> assertThat(json).contains("\"id\":1").contains("\"playCount\":30"),
+                () -> assertThat(response.matches(response.etag())).isTrue(),
+                () -> assertThat(chartCacheService.<MusicStatsDto>getItems(CHART)).hasSize(3)
+        );
+        verify(redisService, times(1)).setValue("chart:" + CHART, json);
+    }
+
+    @Test
+    @DisplayName("Redis 기록 병합 - 주기 사이 여러 번 갱신되어도 최신 스냅샷만 한 번 기록하고, 변경 없으면 기록 안 함")
+    void flushDirtyCharts_CoalescesRepublishes() {
+        // given
+        chartCacheService.upsertRanked(CHART, stats(4L, 25L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+        chartCacheService.upsertRanked(CHART, stats(5L, 40L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+        String latest = new String(chartCacheService.getResponse(CHART).body(), StandardCharsets.UTF_8);
+
+        // when
+        chartCacheService.flushDirtyCharts();
+        chartCacheService.flushDirtyCharts();
+
+        // then
+        verify(redisService, times(1)).setValue(eq("chart:" + CHART), anyString());
+        verify(redisService).setValue("chart:" + CHART, latest);
+    }
+
+    @Test
+    @DisplayName("Redis 기록 실패 - 변경 표시를 유지하여 다음 주기에 다시 기록")
+    void flushDirtyCharts_RetriesAfterFailure() {
+        // given
+        doThrow(new RuntimeException("redis down")).doNothing()
+                .when(redisService).setValue(eq("chart:" + CHART), anyString());
+
+        // when
+        chartCacheService.flushDirtyCharts();
+        chartCacheService.flushDirtyCharts();
+
+        // then
+        verify(redisService, times(2)).setValue(eq("chart:" + CHART), anyString());
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 마지막 순위를 넘지 못하면 차트 변경 없음")
+    void upsertRanked_BelowThreshold_NoChange() {
+        // when
+        boolean changed = chartCacheService.upsertRanked(CHART, stats(4L, 5L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+
+        // then
+        assertAll(
+                () -> assertThat(changed).isFalse(),
+                () -> assertThat(chartCacheService.<MusicStatsDto>getItems(CHART))
+                        .extracting(MusicStatsDto::getId).containsExactly(1L, 2L, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 임계값을 넘으면 편입 후 마지막 항목 제외")
+    void upsertRanked_AboveThreshold_Reranks() {
+        // when
+        boolean changed = chartCacheService.upsertRanked(CHART, stats(4L, 25L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+
+        // then
+        assertAll(
+                () -> assertThat(changed).isTrue(),
+                () -> assertThat(chartCacheService.<MusicStatsDto>getItems(CHART))
+                        .extracting(MusicStatsDto::getId).containsExactly(1L, 4L, 2L)
+        );
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 이미 차트에 있는 항목은 값 교체 후 재정렬")
+    void upsertRanked_ExistingItem_Replaced() {
+        // when
+        chartCacheService.upsertRanked(CHART, stats(3L, 31L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+
+        // then
+        List<MusicStatsDto> items = chartCacheService.getItems(CHART);
+        assertAll(
+                () -> assertThat(items).extracting(MusicStatsDto::getId).containsExactly(3L, 1L, 2L),
+                () -> assertThat(items.get(0).getPlayCount()).isEqualTo(31L)
+        );
+    }
+
+    @Test
+    @DisplayName("커밋 후 갱신 - 트랜잭션 중에는 차트 그대로, 커밋 시점에 편입되고 롤백되면 반영 안 됨")
+    void upsertRankedAfterCommit_AppliesOnlyOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chartCacheService.upsertRankedAfterCommit(CHART, stats(4L, 25L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+            chartCacheService.upsertRankedAfterCommit(CHART, stats(5L, 40L), MusicStatsDto::getId, POPULAR_ORDER, 3);
+            List<MusicStatsDto> beforeCommit = chartCacheService.getItems(CHART);
+
+            // when: 첫 번째만 커밋
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCommit();
+
+            // then
+            assertAll(
+                    () -> assertThat(beforeCommit).extracting(MusicStatsDto::getId).containsExactly(1L, 2L, 3L),
+                    () -> assertThat(chartCacheService.<MusicStatsDto>getItems(CHART))
+                            .extracting(MusicStatsDto::getId).containsExactly(1L, 4L, 2L)
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 후 재계산 - 트랜잭션 중에는 실행하지 않고 커밋 시점에 실행, 트랜잭션 밖이면 즉시 실행")
+    void runAfterCommit_DefersRefreshUntilCommit() {
+        // given
+        List<String> executed = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chartCacheService.runAfterCommit(() -> executed.add("in-tx"));
+            List<String> beforeCommit = List.copyOf(executed);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertAll(
+                    () -> assertThat(beforeCommit).isEmpty(),
+                    () -> assertThat(executed).containsExactly("in-tx")
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        chartCacheService.runAfterCommit(() -> executed.add("no-tx"));
+        assertThat(executed).containsExactly("in-tx", "no-tx");
+    }
+
+    private MusicStatsDto stats(Long id, Long playCount) {
+        return MusicStatsDto.builder()
+                .id(id)
+                .title("곡 " + id)
+                .playCount(playCount)
+                .likeCount(0L)
+                .build();
+    }
+}
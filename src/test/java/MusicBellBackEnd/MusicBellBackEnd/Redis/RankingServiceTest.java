@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -58,5 +59,22 @@ public class RankingServiceTest {
         verify(redisService, times(1)).expire(startsWith("music:ranking:monthly"), eq(32L), eq(TimeUnit.DAYS));
     }
 
+    @Test
+    void updatePlayScoreOnce_PassesMarkerAndAllRankingKeysInOneCall(){
+        //given
+        String marker = "play:applied:play-aggregates-0:42";
+
+        //when
+        rankingService.updatePlayScoreOnce(marker, "music:stats:1", "music", 1L, 5L);
 
+        // then
+        verify(redisService, times(1)).incrementOnce(eq(marker), anyLong(), eq("music:stats:1"), eq("playCount"), eq(5L),
+                argThat(keys -> keys.size() == 3
+                        && keys.get(0).startsWith("music:ranking:daily:")
+                        && keys.get(1).startsWith("music:ranking:weekly:")
+                        && keys.get(2).startsWith("music:ranking:monthly:")),
+                eq("1"), eq(5.0));
+        verify(redisService, never()).incrementScoreInSortedSet(anyString(), any(), anyDouble());
+        verify(redisService, times(1)).expire(startsWith("music:ranking:daily"), eq(2L), eq(TimeUnit.DAYS));
+    }
 }